@@ -2,11 +2,16 @@ package com.opensw.food.api.article.controller;
 
 import com.opensw.food.api.article.dto.ArticleCreateRequestDTO;
 import com.opensw.food.api.article.dto.ArticleDetailResponseDTO;
+import com.opensw.food.api.article.dto.ArticleFeedResponseDTO;
 import com.opensw.food.api.article.dto.ArticleTotalListResponseDTO;
 import com.opensw.food.api.article.dto.MyArticleListResponseDTO;
+import com.opensw.food.api.article.service.ArticleSearchService;
 import com.opensw.food.api.article.service.ArticleService;
-import com.opensw.food.api.member.service.MemberService;
+import com.opensw.food.api.article.service.ArticleTrendingService;
+import com.opensw.food.api.category.dto.CategoryResponseDTO;
+import com.opensw.food.api.category.service.CategoryService;
 import com.opensw.food.common.exception.BadRequestException;
+import com.opensw.food.common.resolver.LoginMemberId;
 import com.opensw.food.common.response.ApiResponse;
 import com.opensw.food.common.response.ErrorStatus;
 import com.opensw.food.common.response.SuccessStatus;
@@ -16,9 +21,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import org.springframework.web.multipart.MultipartFile;
 
@@ -31,23 +35,26 @@ import java.util.List;
 @RequestMapping("/api/v1/article")
 public class ArticleController {
 
-    private final MemberService memberService;
     private final ArticleService articleService;
+    private final ArticleSearchService articleSearchService;
+    private final CategoryService categoryService;
+    private final ArticleTrendingService articleTrendingService;
 
     @Operation(
             summary = "게사글 등록 API",
-            description = "새로운 게시글을 등록합니다. with MultipartFile"
+            description = "새로운 게시글을 등록합니다. with MultipartFile / 카테고리는 필수이며, 처음 쓰는 이름은 카테고리 목록에 추가됩니다."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "게시글 생성 성공"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "필수 정보가 입력되지 않았습니다."),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "필수 정보가 입력되지 않았습니다. / 카테고리는 50자 이하로 입력해주세요. / 더 이상 새 카테고리를 추가할 수 없습니다."),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "이미지 저장소가 일시적으로 응답하지 않습니다."),
     })
     @PostMapping(value = "/new", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<Void>> createArticle(
             @RequestParam("title") String title,
             @RequestParam("content") String content,
             @RequestParam("category") String category,
-            @AuthenticationPrincipal UserDetails userDetails,
+            @LoginMemberId Long userId,
             @RequestParam(value = "images", required = false) List<MultipartFile> images) throws IOException {
 
         // 필수 입력 값 누락 체크
@@ -72,47 +79,126 @@ public class ArticleController {
                 .category(category)
                 .build();
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
-
         articleService.createArticle(userId, articleCreateRequestDTO, images);
         return ApiResponse.success_only(SuccessStatus.CREATE_ARTICLE_SUCCESS);
     }
 
     @Operation(
             summary = "전체 게시글 조회 API",
-            description = "현재 게시글 목록을 조회합니다."
+            description = "현재 게시글 목록을 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 넘겨주세요. (size 기본 20, 최대 50) / 응답의 ETag를 If-None-Match로 넘기면 변경이 없을 때 304를 반환합니다."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "게시글 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "필수 정보가 입력되지 않았습니다."),
     })
     @GetMapping("/total")
-    public ResponseEntity<ApiResponse<List<ArticleTotalListResponseDTO>>> getTotalArticle(){
+    public ResponseEntity<ApiResponse<ArticleFeedResponseDTO>> getTotalArticle(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            WebRequest webRequest) {
+
+        // 변경이 없으면 304 (응답 본문을 만들지 않음)
+        if (webRequest.checkNotModified(articleService.getTotalArticleETag(cursor, size))) {
+            return null;
+        }
 
-        List<ArticleTotalListResponseDTO> articles = articleService.getTotalArticle();
+        ArticleFeedResponseDTO articles = articleService.getTotalArticle(cursor, size);
         return ApiResponse.success(SuccessStatus.SEND_ARTICLE_SUCCESS, articles);
     }
 
+    @Operation(
+            summary = "카테고리별 게시글 조회 API",
+            description = "특정 카테고리의 게시글 목록을 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 넘겨주세요. (size 기본 20, 최대 50)"
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "게시글 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "필수 정보가 입력되지 않았습니다. / 잘못된 페이지 커서입니다."),
+    })
+    @GetMapping("/category")
+    public ResponseEntity<ApiResponse<ArticleFeedResponseDTO>> getCategoryArticles(
+            @RequestParam Long categoryId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+
+        ArticleFeedResponseDTO articles = articleService.getCategoryArticles(categoryId, cursor, size);
+        return ApiResponse.success(SuccessStatus.SEND_ARTICLE_SUCCESS, articles);
+    }
+
+    @Operation(
+            summary = "카테고리 목록 조회 API",
+            description = "카테고리 목록과 카테고리별 게시글 수를 조회합니다. (게시글 수는 최대 1분 늦게 반영될 수 있습니다.)"
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "카테고리 조회 성공"),
+    })
+    @GetMapping("/categories")
+    public ResponseEntity<ApiResponse<List<CategoryResponseDTO>>> getCategories() {
+        return ApiResponse.success(SuccessStatus.GET_CATEGORY_SUCCESS, categoryService.getCategories());
+    }
+
+    @Operation(
+            summary = "인기 게시글 조회 API",
+            description = "최근 좋아요, 댓글, 조회가 많은 게시글을 인기순으로 조회합니다. 오래된 활동일수록 점수가 줄어듭니다. categoryId를 넘기면 해당 카테고리에서 조회합니다. (size 기본 20, 최대 50)"
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "게시글 조회 성공"),
+    })
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<ArticleTotalListResponseDTO>>> getTrendingArticles(
+            @RequestParam(value = "categoryId", required = false) Long categoryId,
+            @RequestParam(value = "size", required = false) Integer size) {
+
+        List<ArticleTotalListResponseDTO> articles = articleTrendingService.getTrendingArticles(categoryId, size);
+        return ApiResponse.success(SuccessStatus.SEND_ARTICLE_SUCCESS, articles);
+    }
+
+    @Operation(
+            summary = "게시글 검색 API",
+            description = "제목, 카테고리, 본문에서 검색어와 관련도가 높은 순으로 게시글을 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 넘겨주세요. (size 기본 20, 최대 50)"
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "게시글 검색 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "검색어가 입력되지 않았습니다. / 잘못된 페이지 커서입니다."),
+    })
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<ArticleFeedResponseDTO>> searchArticles(
+            @RequestParam(value = "query", required = false) String query,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+
+        ArticleFeedResponseDTO articles = articleSearchService.search(query, cursor, size);
+        return ApiResponse.success(SuccessStatus.SEARCH_ARTICLE_SUCCESS, articles);
+    }
+
     @Operation(
             summary = "게시글 상세 조회 API",
-            description = "특정 게시글의 상세 정보를 조회합니다. / 비 로그인 상태이면 토큰을 안넘기고, 로그인상태이면 엑세스토큰을 넘겨줘야합니다."
+            description = "특정 게시글의 상세 정보를 조회합니다. / 비 로그인 상태이면 토큰을 안넘기고, 로그인상태이면 엑세스토큰을 넘겨줘야합니다. / 응답의 ETag를 If-None-Match로 넘기면 변경이 없을 때 304를 반환합니다."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "게시글 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "필수 정보가 입력되지 않았습니다."),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 게시글을 찾을 수 없습니다."),
     })
     @GetMapping("/detail")
     public ResponseEntity<ApiResponse<ArticleDetailResponseDTO>> getMemoDetail(
             @RequestParam Long articleId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @LoginMemberId Long userId,
+            WebRequest webRequest) {
 
         // 필수 입력 값 누락 체크
         if (articleId == null) {
             throw new BadRequestException(ErrorStatus.VALIDATION_REQUEST_MISSING_EXCEPTION.getMessage());
         }
 
-        ArticleDetailResponseDTO articleDetail = articleService.getArticleDetail(articleId, userDetails);
+        // 조회를 기록하고, 변경이 없으면 304 (본문, 이미지 조회 생략)
+        String eTag = articleService.recordViewAndGetDetailETag(articleId, userId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        ArticleDetailResponseDTO articleDetail = articleService.getArticleDetail(articleId, userId);
         return ApiResponse.success(SuccessStatus.SEND_ARTICLE_SUCCESS, articleDetail);
     }
 
@@ -125,9 +211,9 @@ public class ArticleController {
     })
     @GetMapping("/my-article")
     public ResponseEntity<ApiResponse<List<MyArticleListResponseDTO>>> getMyMemo(
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @LoginMemberId Long userId) {
 
-        List<MyArticleListResponseDTO> myArticleList = articleService.getMyArticleList(userDetails);
+        List<MyArticleListResponseDTO> myArticleList = articleService.getMyArticleList(userId);
         return ApiResponse.success(SuccessStatus.SEND_ARTICLE_SUCCESS, myArticleList);
     }
 
@@ -143,15 +229,13 @@ public class ArticleController {
     @DeleteMapping("/delete/{articleId}")
     public ResponseEntity<ApiResponse<Void>> deleteArticle(
             @PathVariable Long articleId,
-            @AuthenticationPrincipal UserDetails userDetails
+            @LoginMemberId Long userId
     ) {
 
         // 필수 입력 값 누락 체크
         if (articleId == null) {
             throw new BadRequestException(ErrorStatus.VALIDATION_REQUEST_MISSING_EXCEPTION.getMessage());
         }
-
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         articleService.deleteArticle(articleId, userId);
 
         return ApiResponse.success_only(SuccessStatus.DELETE_MEMO_SUCCESS);
@@ -163,8 +247,9 @@ public class ArticleController {
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "게시글 수정 성공"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "필수 정보가 입력되지 않았습니다."),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "필수 정보가 입력되지 않았습니다. / 카테고리는 50자 이하로 입력해주세요. / 더 이상 새 카테고리를 추가할 수 없습니다."),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 게시글을 찾을 수 없습니다."),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "이미지 저장소가 일시적으로 응답하지 않습니다."),
     })
     @PutMapping(value = "/modify/{articleId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<Void>> updateArticle(
@@ -172,7 +257,7 @@ public class ArticleController {
             @RequestParam("title") String title,
             @RequestParam("content") String content,
             @RequestParam("category") String category,
-            @AuthenticationPrincipal UserDetails userDetails,
+            @LoginMemberId Long userId,
             @RequestParam(value = "images", required = false) List<MultipartFile> images,
             @RequestParam(value = "deleteImageUrls", required = false) List<String> deleteImageUrls
     ) throws IOException {
@@ -200,8 +285,6 @@ public class ArticleController {
                 .category(category)
                 .build();
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
-
         articleService.updateArticle(articleId, userId, articleUpdateRequestDTO, images, deleteImageUrls);
 
         return ApiResponse.success_only(SuccessStatus.UPDATE_MEMO_SUCCESS);
@@ -218,27 +301,60 @@ public class ArticleController {
     @PostMapping("/like/{articleId}")
     public ResponseEntity<ApiResponse<Void>> toggleLike(
             @PathVariable Long articleId,
-            @AuthenticationPrincipal UserDetails userDetails
+            @LoginMemberId Long userId
     ) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         articleService.toggleLike(articleId, userId);
         return ApiResponse.success_only(SuccessStatus.TOGGLE_LIKE_SUCCESS);
     }
 
+    @Operation(
+            summary = "게시글 좋아요 API",
+            description = "특정 게시글에 좋아요를 누릅니다. 이미 좋아요 상태이면 변화가 없으므로 재시도해도 안전합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "좋아요 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 게시글을 찾을 수 없습니다."),
+    })
+    @PutMapping("/like/{articleId}")
+    public ResponseEntity<ApiResponse<Void>> likeArticle(
+            @PathVariable Long articleId,
+            @LoginMemberId Long userId
+    ) {
+        articleService.likeArticle(articleId, userId);
+        return ApiResponse.success_only(SuccessStatus.LIKE_SUCCESS);
+    }
+
+    @Operation(
+            summary = "게시글 좋아요 취소 API",
+            description = "특정 게시글의 좋아요를 취소합니다. 좋아요 상태가 아니면 변화가 없으므로 재시도해도 안전합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "좋아요 취소 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 게시글을 찾을 수 없습니다."),
+    })
+    @DeleteMapping("/like/{articleId}")
+    public ResponseEntity<ApiResponse<Void>> unlikeArticle(
+            @PathVariable Long articleId,
+            @LoginMemberId Long userId
+    ) {
+        articleService.unlikeArticle(articleId, userId);
+        return ApiResponse.success_only(SuccessStatus.UNLIKE_SUCCESS);
+    }
+
     @Operation(
             summary = "팔로우한 사용자 게시글 조회 API",
-            description = "내가 팔로우하고 있는 사용자들의 게시글을 최신순으로 조회합니다."
+            description = "내가 팔로우하고 있는 사용자들의 게시글을 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 넘겨주세요."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "게시글 조회 성공"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "필수 정보가 입력되지 않았습니다."),
     })
     @GetMapping("/following-articles")
-    public ResponseEntity<ApiResponse<List<ArticleTotalListResponseDTO>>> getFollowingArticles(
-            @AuthenticationPrincipal UserDetails userDetails) {
-
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
-        List<ArticleTotalListResponseDTO> articles = articleService.getFollowingArticles(userId);
+    public ResponseEntity<ApiResponse<ArticleFeedResponseDTO>> getFollowingArticles(
+            @LoginMemberId Long userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        ArticleFeedResponseDTO articles = articleService.getFollowingArticles(userId, cursor, size);
 
         return ApiResponse.success(SuccessStatus.SEND_ARTICLE_SUCCESS, articles);
     }
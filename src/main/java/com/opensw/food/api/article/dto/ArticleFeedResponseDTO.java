@@ -0,0 +1,15 @@
+package com.opensw.food.api.article.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleFeedResponseDTO {
+    private List<ArticleTotalListResponseDTO> articles;
+    private String nextCursor; // 다음 페이지가 없으면 null
+}
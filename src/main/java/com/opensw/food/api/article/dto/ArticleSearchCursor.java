@@ -0,0 +1,38 @@
+package com.opensw.food.api.article.dto;
+
+import com.opensw.food.common.exception.BadRequestException;
+import com.opensw.food.common.response.ErrorStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 검색 결과 커서 (score, id) - 클라이언트에는 불투명한 문자열로 전달
+@Getter
+@AllArgsConstructor
+public class ArticleSearchCursor {
+
+    private static final String DELIMITER = "_";
+
+    private double score;
+    private Long id;
+
+    public String encode() {
+        String raw = Double.toString(score) + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ArticleSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            return new ArticleSearchCursor(
+                    Double.parseDouble(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR_EXCEPTION.getMessage());
+        }
+    }
+}
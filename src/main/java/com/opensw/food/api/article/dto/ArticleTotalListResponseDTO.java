@@ -1,17 +1,24 @@
 package com.opensw.food.api.article.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 public class ArticleTotalListResponseDTO {
     private Long id;
     private String title;
+    private String excerpt;
     private String category;
     private String image;
     private Long authorId;
     private String nickname;
-}
\ No newline at end of file
+
+    @JsonIgnore
+    private LocalDateTime createdAt; // 다음 페이지 커서 생성용
+}
@@ -4,8 +4,6 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.List;
-
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -13,8 +11,8 @@ public class MyArticleListResponseDTO {
 
     private Long id;
     private String title;
-    private String content;
+    private String excerpt;
     private String category;
     private long likeCnt;
-    private List<String> images;
+    private String coverImageUrl;
 }
\ No newline at end of file
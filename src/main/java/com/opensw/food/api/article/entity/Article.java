@@ -1,9 +1,11 @@
 package com.opensw.food.api.article.entity;
 
+import com.opensw.food.api.category.entity.Category;
 import com.opensw.food.api.member.entity.Member;
 import com.opensw.food.common.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,8 +15,12 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Entity
-@Table(name = "article")
+@Table(name = "article", indexes = {
+        @Index(name = "idx_article_created_at_id", columnList = "created_at, article_id"),
+        @Index(name = "idx_article_category_created_at_id", columnList = "category_id, created_at, article_id")
+})
 @Builder(toBuilder = true)
+@DynamicUpdate // 변경된 컬럼만 UPDATE
 public class Article extends BaseTimeEntity{
 
     @Id
@@ -22,13 +28,21 @@ public class Article extends BaseTimeEntity{
     @Column(name = "article_id")
     private Long id;
 
-    private String category;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id")
+    private Category category;
+
     private String title;
+    // 좋아요/댓글 수는 원자적 UPDATE(ArticleCountService)로만 변경 - 엔티티에서 값을 바꾸지 않음
     private long likeCnt;
     private long cmtCnt;
 
-    @Column(columnDefinition = "TEXT")
-    private String content;
+    // 목록용 본문 미리보기 (작성/수정 시 생성)
+    @Column(length = 200)
+    private String excerpt;
+
+    // 목록 카드 이미지 - 첫 번째 이미지 (축소본이 생성되면 축소본으로 교체)
+    private String coverImageUrl;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
@@ -53,31 +67,15 @@ public class Article extends BaseTimeEntity{
         }
     }
 
-    // 좋아요 증가
-    public Article increaseLikeCnt() {
-        return this.toBuilder()
-                .likeCnt(this.likeCnt + 1)
-                .build();
-    }
-
-    // 좋아요 감소
-    public Article decreaseLikeCnt() {
-        return this.toBuilder()
-                .likeCnt(this.likeCnt - 1)
-                .build();
-    }
-
-    // 댓글 수 증가
-    public Article increaseCmtCnt() {
-        return this.toBuilder()
-                .cmtCnt(this.cmtCnt + 1)
-                .build();
+    // 게시글 제목/카테고리 수정
+    public void update(String title, Category category) {
+        this.title = title;
+        this.category = category;
     }
 
-    // 댓굴 수 감소
-    public Article decreaseCmtCnt() {
-        return this.toBuilder()
-                .cmtCnt(this.cmtCnt - 1)
-                .build();
+    // 목록용 미리보기와 카드 이미지 갱신
+    public void updatePreview(String excerpt, String coverImageUrl) {
+        this.excerpt = excerpt;
+        this.coverImageUrl = coverImageUrl;
     }
 }
@@ -0,0 +1,37 @@
+package com.opensw.food.api.article.entity;
+
+import com.opensw.food.common.converter.CompressedStringConverter;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 게시글 본문 - 목록/카운터 갱신이 읽고 쓰는 article 행과 분리해 별도 테이블에 압축 저장
+// 게시글과 같은 ID를 사용하며, 상세 조회에서만 읽음
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "article_content")
+public class ArticleContent {
+
+    @Id
+    @Column(name = "article_id")
+    private Long id;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "article_id")
+    private Article article;
+
+    @Lob
+    @Convert(converter = CompressedStringConverter.class)
+    @Column(name = "content")
+    private String content;
+
+    public ArticleContent(Article article, String content) {
+        this.article = article;
+        this.content = content;
+    }
+
+    public void changeContent(String content) {
+        this.content = content;
+    }
+}
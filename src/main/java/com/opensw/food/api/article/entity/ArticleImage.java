@@ -3,6 +3,10 @@ package com.opensw.food.api.article.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
@@ -16,6 +20,18 @@ public class ArticleImage {
 
     private String imageUrl;
 
+    // 목록 카드용 축소 이미지 (가로 320px)
+    private String thumbnailUrl;
+
+    // 중간 크기 이미지 (가로 640px)
+    private String mediumUrl;
+
+    // 파생 이미지 생성 실패 횟수와 다음 재시도 시각 (한도를 넘으면 원본을 그대로 사용)
+    @Column(nullable = false)
+    private int derivativeAttempts;
+
+    private LocalDateTime derivativeRetryAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "article_id")
     private Article article;
@@ -25,4 +41,18 @@ public class ArticleImage {
         this.imageUrl = imageUrl;
         this.article = article;
     }
+
+    // S3에 저장된 원본과 파생 이미지 URL
+    public List<String> getFileUrls() {
+        List<String> fileUrls = new ArrayList<>();
+        fileUrls.add(imageUrl);
+        if (thumbnailUrl != null && !thumbnailUrl.equals(imageUrl)) fileUrls.add(thumbnailUrl);
+        if (mediumUrl != null && !mediumUrl.equals(imageUrl)) fileUrls.add(mediumUrl);
+        return fileUrls;
+    }
+
+    // 축소 이미지가 아직 없으면 원본
+    public String getThumbnailOrOriginalUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
 }
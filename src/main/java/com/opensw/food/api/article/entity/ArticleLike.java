@@ -8,10 +8,14 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Entity
-@Table(name = "memo_like")
+@Table(name = "memo_like",
+        uniqueConstraints = @UniqueConstraint(name = ArticleLike.UNIQUE_CONSTRAINT, columnNames = {"article_id", "member_id"}))
 @Builder
 public class ArticleLike {
 
+    // 같은 회원이 같은 게시글에 좋아요를 한 번만 하도록 하는 유니크 제약
+    public static final String UNIQUE_CONSTRAINT = "uk_memo_like_article_member";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "memo_like_id")
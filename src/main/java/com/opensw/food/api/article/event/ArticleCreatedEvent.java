@@ -0,0 +1,12 @@
+package com.opensw.food.api.article.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글 생성 커밋 이후 발행되는 이벤트
+@Getter
+@AllArgsConstructor
+public class ArticleCreatedEvent {
+    private final Long articleId;
+    private final Long authorId;
+}
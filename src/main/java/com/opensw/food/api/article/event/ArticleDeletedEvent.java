@@ -0,0 +1,11 @@
+package com.opensw.food.api.article.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글 삭제 커밋 이후 발행되는 이벤트 (검색 색인, 게시글 상세 캐시 갱신용)
+@Getter
+@AllArgsConstructor
+public class ArticleDeletedEvent {
+    private final Long articleId;
+}
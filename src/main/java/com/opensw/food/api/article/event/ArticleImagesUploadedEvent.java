@@ -0,0 +1,11 @@
+package com.opensw.food.api.article.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글 이미지가 새로 업로드된 뒤 발행되는 이벤트 (파생 이미지 생성용)
+@Getter
+@AllArgsConstructor
+public class ArticleImagesUploadedEvent {
+    private final Long articleId;
+}
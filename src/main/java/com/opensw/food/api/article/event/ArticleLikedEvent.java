@@ -0,0 +1,12 @@
+package com.opensw.food.api.article.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 좋아요 추가(+1)/취소(-1) 커밋 이후 발행되는 이벤트 (인기 게시글 점수, 게시글 상세 캐시 반영용)
+@Getter
+@AllArgsConstructor
+public class ArticleLikedEvent {
+    private final Long articleId;
+    private final int delta;
+}
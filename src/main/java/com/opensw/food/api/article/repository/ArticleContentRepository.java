@@ -0,0 +1,16 @@
+package com.opensw.food.api.article.repository;
+
+import com.opensw.food.api.article.entity.ArticleContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface ArticleContentRepository extends JpaRepository<ArticleContent, Long> {
+
+    @Modifying
+    @Query("delete from ArticleContent c where c.id in :articleIds")
+    int deleteByArticleIds(@Param("articleIds") Collection<Long> articleIds);
+}
@@ -0,0 +1,51 @@
+package com.opensw.food.api.article.repository;
+
+import com.opensw.food.api.article.entity.ArticleImage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArticleImageRepository extends JpaRepository<ArticleImage, Long> {
+
+    // 파생 이미지가 아직 없는 게시글 이미지
+    List<ArticleImage> findByArticleIdAndThumbnailUrlIsNull(Long articleId);
+
+    // 파생 이미지 생성이 누락된 이미지 중 재시도 시각이 된 이미지 (재시도 한도를 넘은 이미지 제외, 오래된 순)
+    @Query("select i from ArticleImage i " +
+            "where i.thumbnailUrl is null and i.derivativeAttempts < :maxAttempts " +
+            "and (i.derivativeRetryAt is null or i.derivativeRetryAt <= :now) " +
+            "order by i.id")
+    List<ArticleImage> findDerivativeDue(@Param("now") LocalDateTime now,
+                                         @Param("maxAttempts") int maxAttempts,
+                                         Pageable pageable);
+
+    List<ArticleImage> findByArticleIdIn(Collection<Long> articleIds);
+
+    // 주어진 URL 중 게시글 이미지(원본/파생)로 참조 중인 이미지
+    @Query("select i from ArticleImage i " +
+            "where i.imageUrl in :urls or i.thumbnailUrl in :urls or i.mediumUrl in :urls")
+    List<ArticleImage> findReferencing(@Param("urls") Collection<String> urls);
+
+    @Modifying
+    @Query("delete from ArticleImage i where i.article.id in :articleIds")
+    int deleteByArticleIds(@Param("articleIds") Collection<Long> articleIds);
+
+    @Modifying
+    @Query("update ArticleImage i set i.derivativeAttempts = i.derivativeAttempts + 1, " +
+            "i.derivativeRetryAt = :retryAt where i.id = :id")
+    int markDerivativeFailed(@Param("id") Long id, @Param("retryAt") LocalDateTime retryAt);
+
+    @Modifying
+    @Query("update ArticleImage i set i.thumbnailUrl = :thumbnailUrl, i.mediumUrl = :mediumUrl where i.id = :id")
+    int updateDerivatives(@Param("id") Long id,
+                          @Param("thumbnailUrl") String thumbnailUrl,
+                          @Param("mediumUrl") String mediumUrl);
+}
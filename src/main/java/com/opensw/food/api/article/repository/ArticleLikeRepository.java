@@ -1,12 +1,39 @@
 package com.opensw.food.api.article.repository;
 
 import com.opensw.food.api.article.entity.ArticleLike;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface ArticleLikeRepository extends JpaRepository<ArticleLike, Long> {
-    Optional<ArticleLike> findByArticleIdAndMemberMemberId(Long articleId, Long memberId);
-}
\ No newline at end of file
+
+    boolean existsByArticleIdAndMemberMemberId(Long articleId, Long memberId);
+
+    // 게시글이 존재하고 아직 좋아요하지 않은 경우에만 한 번의 INSERT ... SELECT 로 추가 (추가된 행 수 반환)
+    @Modifying
+    @Query(value = "insert into memo_like (article_id, member_id) " +
+            "select a.article_id, :memberId from article a " +
+            "where a.article_id = :articleId " +
+            "and not exists (select 1 from memo_like l where l.article_id = :articleId and l.member_id = :memberId)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("articleId") Long articleId, @Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("delete from ArticleLike l where l.article.id = :articleId and l.member.memberId = :memberId")
+    int deleteByArticleIdAndMemberId(@Param("articleId") Long articleId, @Param("memberId") Long memberId);
+
+    // 회원이 좋아요한 게시글 ID (배치 조회)
+    @Query("select l.article.id from ArticleLike l where l.member.memberId = :memberId order by l.article.id")
+    List<Long> findArticleIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from ArticleLike l where l.article.id in :articleIds")
+    int deleteByArticleIds(@Param("articleIds") Collection<Long> articleIds);
+}
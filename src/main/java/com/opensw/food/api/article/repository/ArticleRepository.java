@@ -1,15 +1,152 @@
 package com.opensw.food.api.article.repository;
 
+import com.opensw.food.api.article.dto.ArticleTotalListResponseDTO;
+import com.opensw.food.api.article.dto.MyArticleListResponseDTO;
 import com.opensw.food.api.article.entity.Article;
 import com.opensw.food.api.member.entity.Member;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ArticleRepository extends JpaRepository<Article, Long> {
-    List<Article> findArticlesByMemberMemberId(Long memberId);
+
+    // 피드 카드 프로젝션 - 작성 시 저장해 둔 미리보기/카드 이미지와 작성자 닉네임까지 한 번의 쿼리로 조회
+    // 탈퇴한 회원의 게시글은 제외
+    String FEED_PROJECTION = "select new com.opensw.food.api.article.dto.ArticleTotalListResponseDTO(" +
+            "a.id, a.title, a.excerpt, c.name, a.coverImageUrl, m.memberId, m.nickname, a.createdAt) " +
+            "from Article a join a.member m left join a.category c where m.isDeleted = false ";
+
+    // 피드 카드 버전 - 카드 내용이 바뀌면 함께 바뀌는 값(ID, 수정 시각, 카드 이미지, 작성자 닉네임)만 조회 (ETag 계산용)
+    String FEED_VERSION_PROJECTION = "select a.id, a.updatedAt, a.coverImageUrl, m.nickname " +
+            "from Article a join a.member m where m.isDeleted = false ";
+
+    // 내 게시글 목록 - 미리보기와 카드 이미지만 조회
+    @Query("select new com.opensw.food.api.article.dto.MyArticleListResponseDTO(" +
+            "a.id, a.title, a.excerpt, c.name, a.likeCnt, a.coverImageUrl) " +
+            "from Article a left join a.category c where a.member.memberId = :memberId order by a.id")
+    List<MyArticleListResponseDTO> findMyArticles(@Param("memberId") Long memberId);
+
+    // 게시글 상세 - 작성자, 이미지, 카테고리를 함께 조회
+    @EntityGraph(attributePaths = {"member", "images", "category"})
+    @Query("select a from Article a where a.id = :id")
+    Optional<Article> findDetailById(@Param("id") Long id);
 
     void deleteAllByMember(Member member);
+
+    // 피드 첫 페이지 (createdAt, id 내림차순)
+    @Query(FEED_PROJECTION + "order by a.createdAt desc, a.id desc")
+    List<ArticleTotalListResponseDTO> findFeedFirstPage(Pageable pageable);
+
+    // 피드 다음 페이지 - 커서(createdAt, id) 이후의 게시글
+    @Query(FEED_PROJECTION +
+            "and (a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id)) " +
+            "order by a.createdAt desc, a.id desc")
+    List<ArticleTotalListResponseDTO> findFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+
+    // 피드 첫 페이지 버전
+    @Query(FEED_VERSION_PROJECTION + "order by a.createdAt desc, a.id desc")
+    List<Object[]> findFeedVersionFirstPage(Pageable pageable);
+
+    // 피드 다음 페이지 버전
+    @Query(FEED_VERSION_PROJECTION +
+            "and (a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id)) " +
+            "order by a.createdAt desc, a.id desc")
+    List<Object[]> findFeedVersionAfter(@Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    // 카테고리 피드 첫 페이지 - (category_id, created_at, article_id) 인덱스 사용
+    @Query(FEED_PROJECTION + "and a.category.id = :categoryId order by a.createdAt desc, a.id desc")
+    List<ArticleTotalListResponseDTO> findCategoryFeedFirstPage(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    // 카테고리 피드 다음 페이지 - 커서(createdAt, id) 이후의 게시글
+    @Query(FEED_PROJECTION + "and a.category.id = :categoryId " +
+            "and (a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id)) " +
+            "order by a.createdAt desc, a.id desc")
+    List<ArticleTotalListResponseDTO> findCategoryFeedAfter(@Param("categoryId") Long categoryId,
+                                                            @Param("createdAt") LocalDateTime createdAt,
+                                                            @Param("id") Long id,
+                                                            Pageable pageable);
+
+    // 게시글 상세 버전 - 수정 시각, 좋아요/댓글 수, 작성자 ID/닉네임, 카테고리 ID (ETag 계산, 조회 기록용)
+    @Query("select a.updatedAt, a.likeCnt, a.cmtCnt, m.memberId, m.nickname, c.id " +
+            "from Article a join a.member m left join a.category c " +
+            "where a.id = :id and m.isDeleted = false")
+    List<Object[]> findDetailVersion(@Param("id") Long id);
+
+    // 주어진 게시글들의 피드 카드
+    @Query(FEED_PROJECTION + "and a.id in :ids")
+    List<ArticleTotalListResponseDTO> findFeedByIds(@Param("ids") Collection<Long> ids);
+
+    // 특정 회원들의 게시글 ID (beforeId 이전, 최신순)
+    @Query("select a.id from Article a " +
+            "where a.member.memberId in :memberIds and a.id < :beforeId " +
+            "order by a.id desc")
+    List<Long> findIdsByMemberIdsBefore(@Param("memberIds") Collection<Long> memberIds,
+                                        @Param("beforeId") Long beforeId,
+                                        Pageable pageable);
+
+    // 회원이 작성한 게시글 ID (배치 조회)
+    @Query("select a.id from Article a where a.member.memberId = :memberId order by a.id")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 검색 색인 재구성용 (ID, 제목, 카테고리) - ID 순 배치 조회
+    @Query("select a.id, a.title, c.name from Article a left join a.category c where a.id > :afterId order by a.id")
+    List<Object[]> findSearchSourcesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select a.id, a.title, c.name from Article a left join a.category c where a.id in :ids")
+    List<Object[]> findSearchSources(@Param("ids") Collection<Long> ids);
+
+    // 전체 게시글 ID (ID 순 배치 조회)
+    @Query("select a.id from Article a where a.id > :afterId order by a.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 게시글 카테고리 ID (카테고리가 없거나 게시글이 없으면 empty)
+    @Query("select a.category.id from Article a where a.id = :id")
+    Optional<Long> findCategoryIdById(@Param("id") Long id);
+
+    // 인기 게시글 재구성용 (ID, 카테고리 ID, 작성 시각, 좋아요 수, 댓글 수) - since 이후 작성된 게시글, ID 순 배치 조회
+    @Query("select a.id, a.category.id, a.createdAt, a.likeCnt, a.cmtCnt from Article a " +
+            "where a.createdAt >= :since and a.id > :afterId order by a.id")
+    List<Object[]> findTrendingSourcesAfter(@Param("since") LocalDateTime since,
+                                            @Param("afterId") Long afterId,
+                                            Pageable pageable);
+
+    // 주어진 시각 이후 작성/수정된 게시글 ID
+    @Query("select a.id from Article a where a.updatedAt >= :since")
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("delete from Article a where a.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    // 좋아요 수 원자적 증감
+    @Modifying
+    @Query("update Article a set a.likeCnt = a.likeCnt + :delta where a.id = :articleId")
+    int addLikeCnt(@Param("articleId") Long articleId, @Param("delta") long delta);
+
+    // 카드 이미지가 원본이면 축소본으로 교체
+    @Modifying
+    @Query("update Article a set a.coverImageUrl = :thumbnailUrl " +
+            "where a.id = :articleId and a.coverImageUrl = :imageUrl")
+    int replaceCoverImage(@Param("articleId") Long articleId,
+                          @Param("imageUrl") String imageUrl,
+                          @Param("thumbnailUrl") String thumbnailUrl);
+
+    // 댓글 수 원자적 증감
+    @Modifying
+    @Query("update Article a set a.cmtCnt = a.cmtCnt + :delta where a.id = :articleId")
+    int addCmtCnt(@Param("articleId") Long articleId, @Param("delta") long delta);
 }
@@ -0,0 +1,154 @@
+package com.opensw.food.api.article.service;
+
+import com.opensw.food.api.article.repository.ArticleRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 게시글 좋아요/댓글 수 증감
+// 기본은 UPDATE ... SET like_cnt = like_cnt + ? 로 즉시 반영하고,
+// article.counter.buffered=true 이면 게시글별 LongAdder에 모았다가 주기적으로 배치 반영한다.
+@Slf4j
+@Service
+public class ArticleCountService {
+
+    private static final String FLUSH_SQL =
+            "update article set like_cnt = like_cnt + ?, cmt_cnt = cmt_cnt + ? where article_id = ?";
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleDetailCache articleDetailCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean buffered;
+
+    // 버퍼 교체(flush) 중에는 증감을 잠시 막아 교체된 버퍼에 늦게 쓰는 일이 없도록 함
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile ConcurrentHashMap<Long, PendingCount> buffer = new ConcurrentHashMap<>();
+    // flush 중 아직 DB에 반영되지 않은 버퍼 - 반영될 때까지 미반영분에 포함
+    private volatile Map<Long, PendingCount> flushing = Map.of();
+
+    public ArticleCountService(ArticleRepository articleRepository,
+                               ArticleDetailCache articleDetailCache,
+                               JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${article.counter.buffered:false}") boolean buffered) {
+        this.articleRepository = articleRepository;
+        this.articleDetailCache = articleDetailCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.buffered = buffered;
+    }
+
+    public void addLikeCnt(Long articleId, long delta) {
+        if (buffered) {
+            bufferDelta(articleId, delta, 0);
+        } else {
+            articleRepository.addLikeCnt(articleId, delta);
+        }
+    }
+
+    public void addCmtCnt(Long articleId, long delta) {
+        if (buffered) {
+            bufferDelta(articleId, 0, delta);
+        } else {
+            articleRepository.addCmtCnt(articleId, delta);
+        }
+    }
+
+    // 아직 DB에 반영되지 않은 좋아요 수
+    public long pendingLikeCnt(Long articleId) {
+        return pendingLikeCnt(buffer.get(articleId)) + pendingLikeCnt(flushing.get(articleId));
+    }
+
+    // 아직 DB에 반영되지 않은 댓글 수
+    public long pendingCmtCnt(Long articleId) {
+        return pendingCmtCnt(buffer.get(articleId)) + pendingCmtCnt(flushing.get(articleId));
+    }
+
+    private long pendingLikeCnt(PendingCount pending) {
+        return pending == null ? 0 : pending.likeCnt.sum();
+    }
+
+    private long pendingCmtCnt(PendingCount pending) {
+        return pending == null ? 0 : pending.cmtCnt.sum();
+    }
+
+    private void bufferDelta(Long articleId, long likeDelta, long cmtDelta) {
+        swapLock.readLock().lock();
+        try {
+            PendingCount pending = buffer.computeIfAbsent(articleId, id -> new PendingCount());
+            pending.likeCnt.add(likeDelta);
+            pending.cmtCnt.add(cmtDelta);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${article.counter.flush-interval-ms:1000}")
+    public void flush() {
+        if (!buffered || buffer.isEmpty()) {
+            return;
+        }
+
+        ConcurrentHashMap<Long, PendingCount> drained;
+        swapLock.writeLock().lock();
+        try {
+            drained = buffer;
+            flushing = drained;
+            buffer = new ConcurrentHashMap<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        List<Object[]> rows = new ArrayList<>(drained.size());
+        drained.forEach((articleId, pending) -> {
+            long likeDelta = pending.likeCnt.sum();
+            long cmtDelta = pending.cmtCnt.sum();
+            if (likeDelta != 0 || cmtDelta != 0) {
+                rows.add(new Object[]{likeDelta, cmtDelta, articleId});
+            }
+        });
+
+        try {
+            for (int from = 0; from < rows.size(); from += FLUSH_BATCH_SIZE) {
+                List<Object[]> chunk = rows.subList(from, Math.min(from + FLUSH_BATCH_SIZE, rows.size()));
+                List<Long> articleIds = chunk.stream().map(row -> (Long) row[2]).toList();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, chunk));
+                    articleIds.forEach(drained::remove);
+                    // 캐시된 상세의 카운트는 DB 값 + 미반영분이므로 반영된 게시글은 다시 읽도록 함
+                    articleDetailCache.invalidateAll(articleIds);
+                } catch (DataAccessException e) {
+                    // 반영 실패분은 다시 버퍼에 넣어 다음 주기에 재시도
+                    log.error("Failed to flush article counters ({} rows): {}", rows.size() - from, e.getMessage());
+                    for (Object[] row : rows.subList(from, rows.size())) {
+                        bufferDelta((Long) row[2], (Long) row[0], (Long) row[1]);
+                    }
+                    return;
+                }
+            }
+        } finally {
+            flushing = Map.of();
+        }
+    }
+
+    private static class PendingCount {
+        private final LongAdder likeCnt = new LongAdder();
+        private final LongAdder cmtCnt = new LongAdder();
+    }
+}
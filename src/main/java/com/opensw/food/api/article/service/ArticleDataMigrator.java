@@ -0,0 +1,232 @@
+package com.opensw.food.api.article.service;
+
+import com.opensw.food.api.comment.entity.Comment;
+import com.opensw.food.common.converter.CompressedStringConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 기존 게시글 데이터 이전 - 여러 번 실행되어도 안전
+// 1. article.content 컬럼에 남아 있는 본문을 article_content 테이블로 옮기고 비움 (컬럼이 없으면 건너뜀)
+// 2. 미리보기(excerpt)가 없는 게시글의 미리보기와 카드 이미지 생성
+// 3. article.category 문자열 컬럼의 값을 카테고리 사전으로 옮기고 category_id 설정 (컬럼이 없으면 건너뜀)
+// 4. 경로(path)가 없는 기존 댓글의 root_id/path를 parent_id를 따라 채움
+@Slf4j
+@Component
+public class ArticleDataMigrator {
+
+    private static final String LEGACY_ROWS_SQL =
+            "select article_id, content from article where content is not null order by article_id limit ?";
+    private static final String INSERT_SQL =
+            "insert into article_content (article_id, content) select ?, ? " +
+            "where not exists (select 1 from article_content where article_id = ?)";
+    private static final String CLEAR_SQL = "update article set content = null where article_id = ?";
+
+    private static final String NO_PREVIEW_ROWS_SQL =
+            "select a.article_id, c.content from article a " +
+            "left join article_content c on c.article_id = a.article_id " +
+            "where a.excerpt is null order by a.article_id limit ?";
+    private static final String PREVIEW_SQL =
+            "update article a set excerpt = ?, cover_image_url = coalesce(cover_image_url, " +
+            "(select coalesce(i.thumbnail_url, i.image_url) from article_image i where i.article_image_id = " +
+            "(select min(i2.article_image_id) from article_image i2 where i2.article_id = a.article_id))) " +
+            "where a.article_id = ?";
+
+    private static final String INSERT_CATEGORIES_SQL =
+            "insert into category (name) select distinct a.category from article a " +
+            "where a.category_id is null and a.category is not null and char_length(a.category) <= 50 " +
+            "and not exists (select 1 from category c where c.name = a.category)";
+    private static final String ASSIGN_CATEGORY_SQL =
+            "update article set category_id = (select c.category_id from category c where c.name = article.category) " +
+            "where category_id is null and category is not null";
+
+    // 부모는 항상 자식보다 ID가 작으므로 ID 순으로 한 번 훑으면 부모 경로가 먼저 정해짐
+    private static final String NO_PATH_COMMENTS_SQL =
+            "select c.comment_id, c.parent_id, p.root_id as parent_root_id, p.path as parent_path " +
+            "from comment c left join comment p on p.comment_id = c.parent_id " +
+            "where c.path is null and c.comment_id > ? order by c.comment_id limit ?";
+    private static final String COMMENT_PATH_SQL = "update comment set root_id = ?, path = ? where comment_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CompressedStringConverter converter = new CompressedStringConverter();
+    private final int batchSize;
+
+    public ArticleDataMigrator(JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${article.content.migrate-batch-size:200}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    // 본문/미리보기를 사용하는 다른 시작 작업(검색 색인 등)보다 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        migrateContent();
+        generatePreviews();
+        migrateCategories();
+        backfillCommentPaths();
+    }
+
+    private void migrateContent() {
+        int migrated = 0;
+        try {
+            while (true) {
+                List<Map<String, Object>> rows = jdbcTemplate.queryForList(LEGACY_ROWS_SQL, batchSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (Map<String, Object> row : rows) {
+                        Object articleId = row.get("article_id");
+                        byte[] content = converter.convertToDatabaseColumn(String.valueOf(row.get("content")));
+                        jdbcTemplate.update(INSERT_SQL, articleId, content, articleId);
+                        jdbcTemplate.update(CLEAR_SQL, articleId);
+                    }
+                });
+                migrated += rows.size();
+            }
+        } catch (BadSqlGrammarException e) {
+            // 이전 content 컬럼이 없는 스키마
+            return;
+        } catch (DataAccessException e) {
+            log.error("Failed to migrate article content after {} rows: {}", migrated, e.getMessage());
+            return;
+        }
+
+        if (migrated > 0) {
+            log.info("Migrated content of {} articles to article_content", migrated);
+        }
+    }
+
+    private void generatePreviews() {
+        int generated = 0;
+        try {
+            while (true) {
+                // 압축된 본문은 드라이버마다 Blob/byte[]로 다르게 반환되므로 getBytes로 읽음
+                List<Object[]> rows = jdbcTemplate.query(NO_PREVIEW_ROWS_SQL,
+                        (rs, rowNum) -> new Object[]{rs.getLong("article_id"), rs.getBytes("content")}, batchSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (Object[] row : rows) {
+                        String content = converter.convertToEntityAttribute((byte[]) row[1]);
+                        jdbcTemplate.update(PREVIEW_SQL, ArticleExcerptGenerator.generate(content), row[0]);
+                    }
+                });
+                generated += rows.size();
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed to generate article previews after {} rows: {}", generated, e.getMessage());
+            return;
+        }
+
+        if (generated > 0) {
+            log.info("Generated previews of {} articles", generated);
+        }
+    }
+
+    private void migrateCategories() {
+        try {
+            Integer assigned = transactionTemplate.execute(status -> {
+                jdbcTemplate.update(INSERT_CATEGORIES_SQL);
+                return jdbcTemplate.update(ASSIGN_CATEGORY_SQL);
+            });
+            if (assigned != null && assigned > 0) {
+                log.info("Assigned categories of {} articles", assigned);
+            }
+        } catch (BadSqlGrammarException e) {
+            // 이전 category 컬럼이 없는 스키마
+        } catch (DataAccessException e) {
+            log.error("Failed to migrate article categories: {}", e.getMessage());
+        }
+    }
+
+    private void backfillCommentPaths() {
+        int filled = 0;
+        int skipped = 0;
+        long lastId = 0;
+        try {
+            while (true) {
+                List<Map<String, Object>> rows = jdbcTemplate.queryForList(NO_PATH_COMMENTS_SQL, lastId, batchSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                // 같은 배치 안에서 정해진 부모 경로 (부모와 자식이 한 배치에 함께 있는 경우)
+                Map<Long, String> paths = new HashMap<>();
+                Map<Long, Long> rootIds = new HashMap<>();
+                List<Object[]> updates = new ArrayList<>(rows.size());
+                for (Map<String, Object> row : rows) {
+                    long id = ((Number) row.get("comment_id")).longValue();
+                    Long parentId = toLong(row.get("parent_id"));
+                    lastId = id;
+
+                    String parentPath;
+                    Long rootId;
+                    if (parentId == null) {
+                        parentPath = "/";
+                        rootId = null;
+                    } else if (row.get("parent_path") != null) {
+                        parentPath = (String) row.get("parent_path");
+                        Long parentRootId = toLong(row.get("parent_root_id"));
+                        rootId = parentRootId != null ? parentRootId : parentId;
+                    } else if (paths.containsKey(parentId)) {
+                        parentPath = paths.get(parentId);
+                        rootId = rootIds.get(parentId) != null ? rootIds.get(parentId) : parentId;
+                    } else {
+                        // 부모 경로를 정하지 못한 댓글(경로 길이 초과 등)의 하위 댓글
+                        skipped++;
+                        continue;
+                    }
+
+                    String path = parentPath + id + "/";
+                    if (path.length() > Comment.MAX_PATH_LENGTH) {
+                        skipped++;
+                        continue;
+                    }
+                    paths.put(id, path);
+                    rootIds.put(id, rootId);
+                    updates.add(new Object[]{rootId, path, id});
+                }
+
+                if (!updates.isEmpty()) {
+                    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(COMMENT_PATH_SQL, updates));
+                }
+                filled += updates.size();
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed to backfill comment paths after {} rows: {}", filled, e.getMessage());
+            return;
+        }
+
+        if (filled > 0) {
+            log.info("Backfilled paths of {} comments", filled);
+        }
+        if (skipped > 0) {
+            log.warn("Skipped path backfill of {} comments", skipped);
+        }
+    }
+
+    private static Long toLong(Object value) {
+        return value == null ? null : ((Number) value).longValue();
+    }
+}
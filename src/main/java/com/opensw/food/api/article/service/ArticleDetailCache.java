@@ -0,0 +1,199 @@
+package com.opensw.food.api.article.service;
+
+import com.opensw.food.api.article.event.ArticleDeletedEvent;
+import com.opensw.food.api.article.event.ArticleLikedEvent;
+import com.opensw.food.api.article.event.ArticleUpdatedEvent;
+import com.opensw.food.api.comment.event.CommentCreatedEvent;
+import com.opensw.food.api.comment.event.CommentDeletedEvent;
+import com.opensw.food.api.member.event.MemberWithdrawnEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// 게시글 상세 캐시 - 조회자와 무관한 부분을 게시글 ID를 키로 TTL 동안 보관하며, 최대 개수를 넘으면 LRU로 제거
+// 수정/삭제/좋아요/댓글 작성·삭제/작성자 탈퇴가 커밋되면 해당 게시글만 무효화
+// 같은 게시글을 동시에 처음 읽으면 한 요청만 DB를 읽고 나머지는 그 결과를 기다림
+@Component
+public class ArticleDetailCache {
+
+    private final Map<Long, CachedDetail> cache;
+    private final Map<Long, CompletableFuture<ArticleDetailSnapshot>> loading = new ConcurrentHashMap<>();
+    private final long ttlMs;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter waitCounter;
+
+    public ArticleDetailCache(MeterRegistry meterRegistry,
+                              @Value("${article.detail.cache.max-size:1000}") int maxSize,
+                              @Value("${article.detail.cache.ttl-ms:60000}") long ttlMs) {
+        this.ttlMs = ttlMs;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedDetail> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+        this.hitCounter = Counter.builder("article.detail.cache")
+                .tag("result", "hit")
+                .description("게시글 상세 캐시 조회 결과")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("article.detail.cache")
+                .tag("result", "miss")
+                .description("게시글 상세 캐시 조회 결과")
+                .register(meterRegistry);
+        this.waitCounter = Counter.builder("article.detail.cache")
+                .tag("result", "wait")
+                .description("게시글 상세 캐시 조회 결과")
+                .register(meterRegistry);
+        Gauge.builder("article.detail.cache.size", this, ArticleDetailCache::size)
+                .register(meterRegistry);
+        Gauge.builder("article.detail.cache.hit.ratio", this, ArticleDetailCache::hitRatio)
+                .register(meterRegistry);
+    }
+
+    // 캐시에 있으면 그대로, 없으면 loader로 읽어 저장 (없는 게시글의 예외는 저장하지 않고 그대로 전달)
+    ArticleDetailSnapshot get(Long articleId, Function<Long, ArticleDetailSnapshot> loader) {
+        long now = System.currentTimeMillis();
+        synchronized (cache) {
+            CachedDetail cached = cache.get(articleId);
+            if (cached != null) {
+                if (cached.expiresAt > now) {
+                    hitCounter.increment();
+                    return cached.snapshot;
+                }
+                cache.remove(articleId);
+            }
+        }
+
+        CompletableFuture<ArticleDetailSnapshot> future = new CompletableFuture<>();
+        CompletableFuture<ArticleDetailSnapshot> inFlight = loading.putIfAbsent(articleId, future);
+        if (inFlight != null) {
+            waitCounter.increment();
+            return await(inFlight);
+        }
+
+        missCounter.increment();
+        try {
+            ArticleDetailSnapshot snapshot = loader.apply(articleId);
+            // 읽는 도중 무효화되었으면 저장하지 않음 (무효화 이전 내용일 수 있음)
+            synchronized (cache) {
+                if (loading.remove(articleId, future)) {
+                    cache.put(articleId, new CachedDetail(snapshot, now + ttlMs));
+                }
+            }
+            future.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            loading.remove(articleId, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void invalidate(Long articleId) {
+        synchronized (cache) {
+            loading.remove(articleId);
+            cache.remove(articleId);
+        }
+    }
+
+    // 캐시된 상세가 조건에 맞으면 무효화
+    void invalidateIf(Long articleId, Predicate<ArticleDetailSnapshot> stale) {
+        synchronized (cache) {
+            CachedDetail cached = cache.get(articleId);
+            if (cached != null && stale.test(cached.snapshot)) {
+                cache.remove(articleId);
+            }
+        }
+    }
+
+    public void invalidateAll(Collection<Long> articleIds) {
+        synchronized (cache) {
+            for (Long articleId : articleIds) {
+                loading.remove(articleId);
+                cache.remove(articleId);
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleUpdated(ArticleUpdatedEvent event) {
+        invalidate(event.getArticleId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleDeleted(ArticleDeletedEvent event) {
+        invalidate(event.getArticleId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleLiked(ArticleLikedEvent event) {
+        invalidate(event.getArticleId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        invalidate(event.getArticleId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        invalidate(event.getArticleId());
+    }
+
+    // 탈퇴 회원의 게시글은 상세 조회에서 바로 숨김
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberWithdrawn(MemberWithdrawnEvent event) {
+        synchronized (cache) {
+            cache.values().removeIf(cached -> event.getMemberId().equals(cached.snapshot.getAuthorId()));
+        }
+    }
+
+    private ArticleDetailSnapshot await(CompletableFuture<ArticleDetailSnapshot> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private double hitRatio() {
+        double hits = hitCounter.count() + waitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private static class CachedDetail {
+        private final ArticleDetailSnapshot snapshot;
+        private final long expiresAt;
+
+        private CachedDetail(ArticleDetailSnapshot snapshot, long expiresAt) {
+            this.snapshot = snapshot;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.opensw.food.api.article.service;
+
+import com.opensw.food.api.article.entity.Article;
+import com.opensw.food.api.article.entity.ArticleImage;
+import lombok.Getter;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// 게시글 상세 중 조회자와 무관한 부분 - 캐시에 보관하고 조회자별 값(내 게시글/좋아요 여부, 미반영 카운트)은 응답 시 더함
+@Getter
+final class ArticleDetailSnapshot {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd:HH:mm:ss");
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final String date;
+    private final Long categoryId;
+    private final String category;
+    private final long likeCnt;
+    private final long cmtCnt;
+    private final List<String> images;
+    private final Long authorId;
+    private final String nickname;
+
+    private ArticleDetailSnapshot(Article article, String content) {
+        this.id = article.getId();
+        this.title = article.getTitle();
+        this.content = content;
+        this.date = article.getUpdatedAt().format(DATE_FORMATTER);
+        this.categoryId = article.getCategory() == null ? null : article.getCategory().getId();
+        this.category = article.getCategory() == null ? null : article.getCategory().getName();
+        this.likeCnt = article.getLikeCnt();
+        this.cmtCnt = article.getCmtCnt();
+        this.images = article.getImages().isEmpty() ? null :
+                article.getImages().stream().map(ArticleImage::getImageUrl).toList();
+        this.authorId = article.getMember().getMemberId();
+        this.nickname = article.getMember().getNickname();
+    }
+
+    static ArticleDetailSnapshot of(Article article, String content) {
+        return new ArticleDetailSnapshot(article, content);
+    }
+}
@@ -0,0 +1,115 @@
+package com.opensw.food.api.article.service;
+
+// 목록용 본문 미리보기 - 태그와 이미지를 제외한 평문을 공백 정리 후 최대 MAX_LENGTH 글자로 자름
+// 본문을 한 번만 훑으며, 잘리는 위치에서 서로게이트 쌍(이모지 등)을 나누지 않음
+final class ArticleExcerptGenerator {
+
+    static final int MAX_LENGTH = 120;
+    private static final String ELLIPSIS = "…";
+
+    private ArticleExcerptGenerator() {
+    }
+
+    static String generate(String content) {
+        return extract(content, MAX_LENGTH);
+    }
+
+    // 길이 제한 없는 평문 (검색 색인용)
+    static String plainText(String content) {
+        return extract(content, Integer.MAX_VALUE);
+    }
+
+    private static String extract(String content, int maxLength) {
+        if (content == null || content.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder excerpt = new StringBuilder(Math.min(maxLength, content.length()) + 1);
+        int codePoints = 0;
+        boolean pendingSpace = false;
+        int i = 0;
+
+        while (i < content.length()) {
+            char c = content.charAt(i);
+
+            // 태그는 공백 하나로 취급 (<p>, <br> 등으로 나뉜 문장이 붙지 않도록)
+            if (c == '<' && isTagStart(content, i + 1)) {
+                int end = content.indexOf('>', i);
+                if (end < 0) {
+                    break;
+                }
+                pendingSpace = excerpt.length() > 0;
+                i = end + 1;
+                continue;
+            }
+
+            int cp;
+            if (c == '&') {
+                int end = content.indexOf(';', i);
+                int decoded = end > i && end - i <= 8 ? decodeEntity(content.substring(i + 1, end)) : -1;
+                if (decoded >= 0) {
+                    cp = decoded;
+                    i = end + 1;
+                } else {
+                    cp = c;
+                    i++;
+                }
+            } else {
+                cp = content.codePointAt(i);
+                i += Character.charCount(cp);
+            }
+
+            if (Character.isWhitespace(cp) || Character.isSpaceChar(cp)) {
+                pendingSpace = excerpt.length() > 0;
+                continue;
+            }
+
+            if (codePoints == maxLength) {
+                return excerpt.append(ELLIPSIS).toString();
+            }
+            if (pendingSpace) {
+                if (codePoints + 1 == maxLength) {
+                    return excerpt.append(ELLIPSIS).toString();
+                }
+                excerpt.append(' ');
+                codePoints++;
+                pendingSpace = false;
+            }
+            excerpt.appendCodePoint(cp);
+            codePoints++;
+        }
+        return excerpt.toString();
+    }
+
+    private static boolean isTagStart(String content, int index) {
+        if (index >= content.length()) {
+            return false;
+        }
+        char next = content.charAt(index);
+        return next == '/' || next == '!' || (next < 128 && Character.isLetter(next));
+    }
+
+    private static int decodeEntity(String entity) {
+        switch (entity) {
+            case "amp": return '&';
+            case "lt": return '<';
+            case "gt": return '>';
+            case "quot": return '"';
+            case "apos": return '\'';
+            case "nbsp": return ' ';
+            default:
+                break;
+        }
+        if (entity.length() > 1 && entity.charAt(0) == '#') {
+            try {
+                int cp = entity.charAt(1) == 'x' || entity.charAt(1) == 'X'
+                        ? Integer.parseInt(entity.substring(2), 16)
+                        : Integer.parseInt(entity.substring(1));
+                return Character.isValidCodePoint(cp) ? cp : -1;
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,208 @@
+package com.opensw.food.api.article.service;
+
+import com.opensw.food.api.article.entity.ArticleImage;
+import com.opensw.food.api.article.event.ArticleImagesUploadedEvent;
+import com.opensw.food.api.article.repository.ArticleImageRepository;
+import com.opensw.food.api.article.repository.ArticleRepository;
+import com.opensw.food.api.aws.s3.S3CallGuard;
+import com.opensw.food.api.aws.s3.S3Service;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+// 게시글 이미지 파생본 생성 - 원본 옆에 가로 320px(목록 카드), 640px 크기의 JPEG를 저장
+// 다시 인코딩하므로 EXIF 등 메타데이터는 남지 않으며, 그 전에 EXIF 방향 태그대로 회전/반전
+@Slf4j
+@Service
+public class ArticleImageDerivativeService {
+
+    private static final int THUMBNAIL_WIDTH = 320;
+    private static final int MEDIUM_WIDTH = 640;
+    private static final String CONTENT_TYPE = "image/jpeg";
+    private static final int SWEEP_BATCH_SIZE = 100;
+    private static final int MAX_ATTEMPTS = 8;
+    private static final long BASE_BACKOFF_SECONDS = 300;
+    private static final long MAX_BACKOFF_SECONDS = 86400;
+
+    private final ArticleImageRepository articleImageRepository;
+    private final ArticleRepository articleRepository;
+    private final S3Service s3Service;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+
+    // 큐에 들어가 있거나 처리 중인 이미지 (중복 처리 방지)
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public ArticleImageDerivativeService(ArticleImageRepository articleImageRepository,
+                                         ArticleRepository articleRepository,
+                                         S3Service s3Service,
+                                         TransactionTemplate transactionTemplate,
+                                         @Qualifier("imageDerivativeExecutor") Executor executor) {
+        this.articleImageRepository = articleImageRepository;
+        this.articleRepository = articleRepository;
+        this.s3Service = s3Service;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+    }
+
+    // 게시글 저장 커밋 이후 새 이미지의 파생본 생성 요청
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onImagesUploaded(ArticleImagesUploadedEvent event) {
+        for (ArticleImage image : articleImageRepository.findByArticleIdAndThumbnailUrlIsNull(event.getArticleId())) {
+            submit(image.getArticle().getId(), image.getId(), image.getImageUrl());
+        }
+    }
+
+    // 큐가 가득 차 버려졌거나 실패한 이미지 재처리
+    // 계속 실패하는 이미지가 앞자리를 차지하지 않도록 실패한 이미지는 백오프 후 재시도하고, 한도를 넘으면 제외
+    @Scheduled(fixedDelayString = "${image.derivative.sweep-interval-ms:300000}")
+    public void sweep() {
+        List<ArticleImage> due = articleImageRepository.findDerivativeDue(
+                LocalDateTime.now(), MAX_ATTEMPTS, PageRequest.of(0, SWEEP_BATCH_SIZE));
+        for (ArticleImage image : due) {
+            submit(image.getArticle().getId(), image.getId(), image.getImageUrl());
+        }
+    }
+
+    private void submit(Long articleId, Long imageId, String imageUrl) {
+        if (!pending.add(imageId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(articleId, imageId, imageUrl);
+                } finally {
+                    pending.remove(imageId);
+                }
+            });
+        } catch (RuntimeException e) {
+            pending.remove(imageId);
+            log.warn("Failed to submit image derivative task for image {}: {}", imageId, e.getMessage());
+        }
+    }
+
+    private void generate(Long articleId, Long imageId, String imageUrl) {
+        String thumbnailUrl;
+        String mediumUrl;
+        try (InputStream in = s3Service.openFile(imageUrl)) {
+            byte[] data = in.readAllBytes();
+            BufferedImage original = read(data, MEDIUM_WIDTH);
+            if (original == null) {
+                // 읽을 수 없는 형식은 원본을 그대로 사용 (재시도하지 않음)
+                log.warn("Unsupported image format, using original as derivative: {}", imageUrl);
+                thumbnailUrl = imageUrl;
+                mediumUrl = imageUrl;
+            } else {
+                thumbnailUrl = s3Service.uploadDerivative(imageUrl, "_w" + THUMBNAIL_WIDTH + ".jpg",
+                        resize(original, THUMBNAIL_WIDTH), CONTENT_TYPE);
+                mediumUrl = s3Service.uploadDerivative(imageUrl, "_w" + MEDIUM_WIDTH + ".jpg",
+                        resize(original, MEDIUM_WIDTH), CONTENT_TYPE);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to generate derivatives for image {}: {}", imageId, e.getMessage());
+            // S3 장애는 이미지 문제가 아니므로 실패 횟수에 넣지 않고 다음 재처리 주기에 다시 시도
+            if (!S3CallGuard.isUnavailable(e)) {
+                markFailed(imageId);
+            }
+            return;
+        }
+
+        // 카드 이미지로 쓰이고 있으면 축소본으로 교체
+        transactionTemplate.executeWithoutResult(status -> {
+            articleImageRepository.updateDerivatives(imageId, thumbnailUrl, mediumUrl);
+            articleRepository.replaceCoverImage(articleId, imageUrl, thumbnailUrl);
+        });
+    }
+
+    private void markFailed(Long imageId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                ArticleImage image = articleImageRepository.findById(imageId).orElse(null);
+                if (image == null) {
+                    return;
+                }
+                if (image.getDerivativeAttempts() + 1 >= MAX_ATTEMPTS) {
+                    log.error("Giving up generating derivatives for image {} after {} attempts", imageId, MAX_ATTEMPTS);
+                }
+                LocalDateTime retryAt = LocalDateTime.now().plusSeconds(backoffSeconds(image.getDerivativeAttempts()));
+                articleImageRepository.markDerivativeFailed(imageId, retryAt);
+            });
+        } catch (DataAccessException e) {
+            log.error("Failed to record derivative failure for image {}: {}", imageId, e.getMessage());
+        }
+    }
+
+    // 지수 백오프 (5분, 10분, 20분 ... 최대 1일)
+    private long backoffSeconds(int attempts) {
+        return Math.min(BASE_BACKOFF_SECONDS << Math.min(attempts, 20), MAX_BACKOFF_SECONDS);
+    }
+
+    // 큰 이미지는 목표 크기의 2배 이상을 유지하는 선에서 줄여서 디코딩한 뒤 EXIF 방향대로 회전
+    private BufferedImage read(byte[] data, int maxWidth) throws IOException {
+        int orientation = ImageOrientation.read(data);
+        try (ImageInputStream imageInput = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                // 회전 후 가로가 될 변 기준
+                int width = ImageOrientation.swapsDimensions(orientation) ? reader.getHeight(0) : reader.getWidth(0);
+                int subsampling = Math.max(1, width / (maxWidth * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return ImageOrientation.apply(reader.read(0, param), orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 가로 width 이하로 비율 유지 축소 (확대하지 않음), 투명 영역은 흰색 배경
+    private byte[] resize(BufferedImage original, int width) throws IOException {
+        int targetWidth = Math.min(width, original.getWidth());
+        int targetHeight = Math.max(1, Math.round((float) original.getHeight() * targetWidth / original.getWidth()));
+
+        BufferedImage resized = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(original, 0, 0, targetWidth, targetHeight, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(resized, "jpg", out);
+        return out.toByteArray();
+    }
+}
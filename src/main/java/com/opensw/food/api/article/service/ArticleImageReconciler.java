@@ -0,0 +1,70 @@
+package com.opensw.food.api.article.service;
+
+import com.opensw.food.api.article.entity.ArticleImage;
+import com.opensw.food.api.article.repository.ArticleImageRepository;
+import com.opensw.food.api.aws.s3.S3DeletionOutboxService;
+import com.opensw.food.api.aws.s3.S3Service;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 고아 이미지 정리 - 버킷의 게시글 이미지 중 article_image에서 참조하지 않는 객체를 삭제 아웃박스에 기록
+// 업로드 후 아직 게시글이 저장되지 않은 객체를 지우지 않도록 유예 시간 이전에 올라간 객체만 대상
+@Slf4j
+@Component
+public class ArticleImageReconciler {
+
+    private static final List<String> IMAGE_DIRS = List.of("article-images", "inline-images");
+
+    private final S3Service s3Service;
+    private final S3DeletionOutboxService s3DeletionOutboxService;
+    private final ArticleImageRepository articleImageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration gracePeriod;
+
+    public ArticleImageReconciler(S3Service s3Service,
+                                  S3DeletionOutboxService s3DeletionOutboxService,
+                                  ArticleImageRepository articleImageRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${s3.orphan.grace-period-hours:24}") long gracePeriodHours) {
+        this.s3Service = s3Service;
+        this.s3DeletionOutboxService = s3DeletionOutboxService;
+        this.articleImageRepository = articleImageRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.gracePeriod = Duration.ofHours(gracePeriodHours);
+    }
+
+    @Scheduled(cron = "${s3.orphan.reconcile-cron:0 0 5 * * *}")
+    public void reconcile() {
+        Instant modifiedBefore = Instant.now().minus(gracePeriod);
+        AtomicInteger orphanCount = new AtomicInteger();
+
+        for (String dir : IMAGE_DIRS) {
+            s3Service.forEachObjectPage(dir, modifiedBefore, imageUrls -> {
+                Set<String> referenced = new HashSet<>();
+                for (ArticleImage image : articleImageRepository.findReferencing(imageUrls)) {
+                    referenced.addAll(image.getFileUrls());
+                }
+
+                List<String> orphans = imageUrls.stream().filter(url -> !referenced.contains(url)).toList();
+                if (!orphans.isEmpty()) {
+                    transactionTemplate.executeWithoutResult(status -> s3DeletionOutboxService.enqueue(orphans));
+                    orphanCount.addAndGet(orphans.size());
+                }
+            });
+        }
+
+        if (orphanCount.get() > 0) {
+            log.info("Queued {} orphan images for deletion", orphanCount.get());
+        }
+    }
+}
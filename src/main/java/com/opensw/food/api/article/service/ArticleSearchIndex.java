@@ -0,0 +1,203 @@
+package com.opensw.food.api.article.service;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 게시글 역색인 - 용어별 (게시글 ID -> 빈도) 목록과 게시글별 용어 빈도를 함께 보관하고 BM25로 점수 계산
+// 검색은 읽기 잠금, 색인 변경은 쓰기 잠금으로 보호
+final class ArticleSearchIndex {
+
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 점수 내림차순, 같은 점수는 ID 내림차순
+    private static final Comparator<Hit> RANKING =
+            Comparator.comparingDouble(Hit::getScore).thenComparingLong(Hit::getId).reversed();
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    // 게시글 색인 (기존 색인이 있으면 교체)
+    void put(Long articleId, Map<String, Integer> termFreqs) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(articleId);
+            if (termFreqs.isEmpty()) {
+                return;
+            }
+            Document document = new Document(termFreqs);
+            documents.put(articleId, document);
+            termFreqs.forEach((term, freq) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(articleId, freq));
+            totalLength += document.length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long articleId) {
+        Document previous = documents.remove(articleId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.termFreqs.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(articleId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= previous.length;
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<Long> articleIds() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(documents.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어 용어 중 하나라도 포함한 게시글을 BM25 점수순으로, after 이후 최대 limit개
+    List<Hit> search(List<String> queryTerms, Hit after, int limit) {
+        Map<Long, Double> scores = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return new ArrayList<>();
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            for (String term : new LinkedHashSet<>(queryTerms)) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                posting.forEach((articleId, freq) -> {
+                    double norm = K1 * (1 - B + B * documents.get(articleId).length / averageLength);
+                    scores.merge(articleId, idf * freq * (K1 + 1) / (freq + norm), Double::sum);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 상위 limit개만 유지하는 최소 힙
+        PriorityQueue<Hit> top = new PriorityQueue<>(RANKING.reversed());
+        scores.forEach((articleId, score) -> {
+            Hit hit = new Hit(articleId, score);
+            if (after != null && RANKING.compare(hit, after) <= 0) {
+                return;
+            }
+            top.offer(hit);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(RANKING);
+        return hits;
+    }
+
+    // 스냅샷은 게시글별 용어 빈도만 저장 (역색인은 읽을 때 다시 구성)
+    void writeTo(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(documents.size());
+            for (Map.Entry<Long, Document> document : documents.entrySet()) {
+                out.writeLong(document.getKey());
+                out.writeInt(document.getValue().termFreqs.size());
+                for (Map.Entry<String, Integer> term : document.getValue().termFreqs.entrySet()) {
+                    out.writeUTF(term.getKey());
+                    out.writeInt(term.getValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static ArticleSearchIndex readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("Unsupported search index snapshot version");
+        }
+        ArticleSearchIndex index = new ArticleSearchIndex();
+        int documentCount = in.readInt();
+        for (int d = 0; d < documentCount; d++) {
+            long articleId = in.readLong();
+            int termCount = in.readInt();
+            Map<String, Integer> termFreqs = new HashMap<>(termCount * 2);
+            for (int t = 0; t < termCount; t++) {
+                termFreqs.put(in.readUTF(), in.readInt());
+            }
+            index.put(articleId, termFreqs);
+        }
+        return index;
+    }
+
+    private static final class Document {
+        private final Map<String, Integer> termFreqs;
+        private final int length;
+
+        private Document(Map<String, Integer> termFreqs) {
+            this.termFreqs = termFreqs;
+            this.length = termFreqs.values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+
+    static final class Hit {
+        private final long id;
+        private final double score;
+
+        Hit(long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        long getId() {
+            return id;
+        }
+
+        double getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.opensw.food.api.article.service;
+
+import com.opensw.food.api.article.dto.ArticleFeedResponseDTO;
+import com.opensw.food.api.article.dto.ArticleSearchCursor;
+import com.opensw.food.api.article.dto.ArticleTotalListResponseDTO;
+import com.opensw.food.api.article.entity.ArticleContent;
+import com.opensw.food.api.article.event.ArticleCreatedEvent;
+import com.opensw.food.api.article.event.ArticleDeletedEvent;
+import com.opensw.food.api.article.event.ArticleUpdatedEvent;
+import com.opensw.food.api.article.repository.ArticleContentRepository;
+import com.opensw.food.api.article.repository.ArticleRepository;
+import com.opensw.food.common.exception.BadRequestException;
+import com.opensw.food.common.response.ErrorStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// 게시글 검색 - 제목/카테고리/본문 평문을 메모리 역색인에 올려 BM25 점수순으로 검색
+// 게시글 작성/수정/삭제 커밋 이후 해당 게시글만 다시 색인하고, 색인은 주기적으로 로컬 디스크에 스냅샷으로 저장
+// 재시작 시 스냅샷을 읽고 그 이후 변경분만 다시 색인 (스냅샷이 없거나 읽을 수 없으면 DB에서 전체 재구성)
+@Slf4j
+@Service
+public class ArticleSearchService {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
+    // 스냅샷 이후 변경분을 찾을 때 커밋 지연을 감안해 조금 더 이전부터 다시 색인
+    private static final long CATCH_UP_MARGIN_MINUTES = 5;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleContentRepository articleContentRepository;
+    private final Path snapshotPath;
+    private final int batchSize;
+
+    private volatile ArticleSearchIndex index = new ArticleSearchIndex();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    // 색인을 불러오는 동안 들어온 변경 (불러온 뒤 다시 색인)
+    private final Set<Long> deferred = new HashSet<>();
+    private boolean ready;
+
+    public ArticleSearchService(ArticleRepository articleRepository,
+                                ArticleContentRepository articleContentRepository,
+                                @Value("${search.index.snapshot-path:./data/article-search.idx}") String snapshotPath,
+                                @Value("${search.index.batch-size:500}") int batchSize) {
+        this.articleRepository = articleRepository;
+        this.articleContentRepository = articleContentRepository;
+        this.snapshotPath = Paths.get(snapshotPath);
+        this.batchSize = batchSize;
+    }
+
+    // 게시글 데이터 이전(ArticleDataMigrator)이 끝난 뒤 색인 준비
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        ArticleSearchIndex loaded = readSnapshot();
+        if (loaded == null) {
+            loaded = rebuild();
+        }
+
+        List<Long> changed;
+        synchronized (deferred) {
+            index = loaded;
+            ready = true;
+            changed = new ArrayList<>(deferred);
+            deferred.clear();
+        }
+        changed.forEach(this::refresh);
+        log.info("Article search index ready ({} articles)", loaded.size());
+    }
+
+    public ArticleFeedResponseDTO search(String query, String cursor, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException(ErrorStatus.VALIDATION_REQUEST_MISSING_EXCEPTION.getMessage());
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            query = query.substring(0, MAX_QUERY_LENGTH);
+        }
+
+        int pageSize = resolvePageSize(size);
+        ArticleSearchIndex.Hit after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            ArticleSearchCursor searchCursor = ArticleSearchCursor.decode(cursor);
+            after = new ArticleSearchIndex.Hit(searchCursor.getId(), searchCursor.getScore());
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<ArticleSearchIndex.Hit> hits = index.search(ArticleSearchTokenizer.tokenize(query), after, pageSize + 1);
+        boolean hasNext = hits.size() > pageSize;
+        List<ArticleSearchIndex.Hit> pageHits = hasNext ? hits.subList(0, pageSize) : hits;
+        if (pageHits.isEmpty()) {
+            return new ArticleFeedResponseDTO(new ArrayList<>(), null);
+        }
+
+        // 카드는 피드와 같은 프로젝션으로 조회하고 점수 순서 유지 (탈퇴 회원의 게시글 등 조회되지 않는 글은 제외)
+        List<Long> pageIds = pageHits.stream().map(ArticleSearchIndex.Hit::getId).toList();
+        Map<Long, ArticleTotalListResponseDTO> articleMap = articleRepository.findFeedByIds(pageIds).stream()
+                .collect(Collectors.toMap(ArticleTotalListResponseDTO::getId, Function.identity()));
+        List<ArticleTotalListResponseDTO> articles = pageIds.stream()
+                .map(articleMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            ArticleSearchIndex.Hit last = pageHits.get(pageHits.size() - 1);
+            nextCursor = new ArticleSearchCursor(last.getScore(), last.getId()).encode();
+        }
+        return new ArticleFeedResponseDTO(articles, nextCursor);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    @Async("searchIndexExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleCreated(ArticleCreatedEvent event) {
+        onChange(event.getArticleId());
+    }
+
+    @Async("searchIndexExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleUpdated(ArticleUpdatedEvent event) {
+        onChange(event.getArticleId());
+    }
+
+    @Async("searchIndexExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleDeleted(ArticleDeletedEvent event) {
+        onChange(event.getArticleId());
+    }
+
+    private void onChange(Long articleId) {
+        synchronized (deferred) {
+            if (!ready) {
+                deferred.add(articleId);
+                return;
+            }
+        }
+        refresh(articleId);
+    }
+
+    // DB의 현재 상태로 다시 색인 (없으면 색인에서 제거)
+    private void refresh(Long articleId) {
+        try {
+            index(index, List.of(articleId));
+            dirty.set(true);
+        } catch (RuntimeException e) {
+            log.error("Failed to update search index for article {}: {}", articleId, e.getMessage());
+        }
+    }
+
+    private void index(ArticleSearchIndex target, Collection<Long> articleIds) {
+        List<Object[]> sources = articleRepository.findSearchSources(articleIds);
+        Set<Long> found = new HashSet<>();
+        addAll(target, sources, found);
+        for (Long articleId : articleIds) {
+            if (!found.contains(articleId)) {
+                target.remove(articleId);
+            }
+        }
+    }
+
+    // (ID, 제목, 카테고리) 목록과 본문을 한 번에 조회해 색인
+    private void addAll(ArticleSearchIndex target, List<Object[]> sources, Set<Long> indexedIds) {
+        List<Long> ids = sources.stream().map(source -> (Long) source[0]).toList();
+        Map<Long, String> contents = new HashMap<>();
+        for (ArticleContent content : articleContentRepository.findAllById(ids)) {
+            contents.put(content.getId(), content.getContent());
+        }
+
+        for (Object[] source : sources) {
+            Long articleId = (Long) source[0];
+            target.put(articleId, termFreqs((String) source[1], (String) source[2], contents.get(articleId)));
+            indexedIds.add(articleId);
+        }
+    }
+
+    private Map<String, Integer> termFreqs(String title, String category, String content) {
+        Map<String, Integer> termFreqs = new HashMap<>();
+        addTerms(termFreqs, title, TITLE_WEIGHT);
+        addTerms(termFreqs, category, CATEGORY_WEIGHT);
+        addTerms(termFreqs, ArticleExcerptGenerator.plainText(content), CONTENT_WEIGHT);
+        return termFreqs;
+    }
+
+    private void addTerms(Map<String, Integer> termFreqs, String text, int weight) {
+        for (String term : ArticleSearchTokenizer.tokenize(text)) {
+            termFreqs.merge(term, weight, Integer::sum);
+        }
+    }
+
+    // DB에서 전체 재구성 (ID 순 배치)
+    private ArticleSearchIndex rebuild() {
+        ArticleSearchIndex rebuilt = new ArticleSearchIndex();
+        Set<Long> indexedIds = new HashSet<>();
+        long lastId = 0;
+        while (true) {
+            List<Object[]> sources = articleRepository.findSearchSourcesAfter(lastId, PageRequest.of(0, batchSize));
+            if (sources.isEmpty()) {
+                break;
+            }
+            addAll(rebuilt, sources, indexedIds);
+            lastId = (Long) sources.get(sources.size() - 1)[0];
+        }
+        if (rebuilt.size() > 0) {
+            dirty.set(true);
+        }
+        return rebuilt;
+    }
+
+    // 스냅샷 이후 수정된 게시글은 다시 색인하고, 그사이 삭제된 게시글은 제거
+    private void catchUp(ArticleSearchIndex loaded, LocalDateTime snapshotAt) {
+        List<Long> updatedIds = articleRepository.findIdsUpdatedSince(snapshotAt.minusMinutes(CATCH_UP_MARGIN_MINUTES));
+        for (int from = 0; from < updatedIds.size(); from += batchSize) {
+            index(loaded, updatedIds.subList(from, Math.min(from + batchSize, updatedIds.size())));
+        }
+
+        Set<Long> existingIds = new HashSet<>();
+        long lastId = 0;
+        while (true) {
+            List<Long> ids = articleRepository.findIdsAfter(lastId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            existingIds.addAll(ids);
+            lastId = ids.get(ids.size() - 1);
+        }
+        for (Long articleId : loaded.articleIds()) {
+            if (!existingIds.contains(articleId)) {
+                loaded.remove(articleId);
+            }
+        }
+
+        if (!updatedIds.isEmpty()) {
+            dirty.set(true);
+        }
+    }
+
+    private ArticleSearchIndex readSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(snapshotPath))))) {
+            LocalDateTime snapshotAt = LocalDateTime.parse(in.readUTF());
+            ArticleSearchIndex loaded = ArticleSearchIndex.readFrom(in);
+            catchUp(loaded, snapshotAt);
+            return loaded;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to read search index snapshot, rebuilding: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 변경이 있을 때만 임시 파일에 쓴 뒤 교체
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${search.index.snapshot-interval-ms:600000}")
+    public void writeSnapshot() {
+        synchronized (deferred) {
+            if (!ready) {
+                return;
+            }
+        }
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+
+        // 쓰는 도중의 변경은 다음 시작 시 다시 색인되도록 쓰기 시작 시각을 기록
+        LocalDateTime snapshotAt = LocalDateTime.now();
+        Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try {
+            if (snapshotPath.getParent() != null) {
+                Files.createDirectories(snapshotPath.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                out.writeUTF(snapshotAt.toString());
+                index.writeTo(out);
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.error("Failed to write search index snapshot: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.opensw.food.api.article.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 검색어/게시글 토큰화 - 글자/숫자 묶음 단위로 나누고,
+// 한글(한자, 가나 포함)은 형태소 분석 없이 2글자씩 겹쳐 자른 bigram으로 색인 (한 글자 단어는 그대로)
+final class ArticleSearchTokenizer {
+
+    private static final int MAX_TOKEN_LENGTH = 40;
+
+    private ArticleSearchTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int runStart = -1;
+        boolean runCjk = false;
+        int i = 0;
+        while (i < lower.length()) {
+            int cp = lower.codePointAt(i);
+            boolean wordChar = Character.isLetterOrDigit(cp);
+            boolean cjk = wordChar && isCjk(cp);
+
+            // 글자 종류(한글/그 외)가 바뀌는 곳도 경계로 취급 ("김치2인분" -> 김치, 2, 인분)
+            if (runStart >= 0 && (!wordChar || cjk != runCjk)) {
+                emit(lower.substring(runStart, i), runCjk, tokens);
+                runStart = -1;
+            }
+            if (wordChar && runStart < 0) {
+                runStart = i;
+                runCjk = cjk;
+            }
+            i += Character.charCount(cp);
+        }
+        if (runStart >= 0) {
+            emit(lower.substring(runStart), runCjk, tokens);
+        }
+        return tokens;
+    }
+
+    private static void emit(String run, boolean cjk, List<String> tokens) {
+        if (!cjk) {
+            tokens.add(run.length() > MAX_TOKEN_LENGTH ? run.substring(0, MAX_TOKEN_LENGTH) : run);
+            return;
+        }
+
+        int length = run.codePointCount(0, run.length());
+        if (length == 1) {
+            tokens.add(run);
+            return;
+        }
+        int start = 0;
+        for (int n = 0; n < length - 1; n++) {
+            int second = run.offsetByCodePoints(start, 1);
+            int end = run.offsetByCodePoints(second, 1);
+            tokens.add(run.substring(start, end));
+            start = second;
+        }
+    }
+
+    private static boolean isCjk(int cp) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(cp);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
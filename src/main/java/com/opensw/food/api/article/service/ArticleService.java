@@ -1,71 +1,138 @@
 package com.opensw.food.api.article.service;
 
 import com.opensw.food.api.article.dto.ArticleCreateRequestDTO;
+import com.opensw.food.api.article.dto.ArticleCursor;
 import com.opensw.food.api.article.dto.ArticleDetailResponseDTO;
+import com.opensw.food.api.article.dto.ArticleFeedResponseDTO;
 import com.opensw.food.api.article.dto.ArticleTotalListResponseDTO;
 import com.opensw.food.api.article.dto.MyArticleListResponseDTO;
 import com.opensw.food.api.article.entity.Article;
+import com.opensw.food.api.article.entity.ArticleContent;
 import com.opensw.food.api.article.entity.ArticleImage;
 import com.opensw.food.api.article.entity.ArticleLike;
+import com.opensw.food.api.article.event.ArticleCreatedEvent;
+import com.opensw.food.api.article.event.ArticleDeletedEvent;
+import com.opensw.food.api.article.event.ArticleImagesUploadedEvent;
+import com.opensw.food.api.article.event.ArticleLikedEvent;
+import com.opensw.food.api.article.event.ArticleUpdatedEvent;
+import com.opensw.food.api.article.repository.ArticleContentRepository;
 import com.opensw.food.api.article.repository.ArticleLikeRepository;
 import com.opensw.food.api.article.repository.ArticleRepository;
+import com.opensw.food.api.aws.s3.InlineImage;
+import com.opensw.food.api.aws.s3.S3DeletionOutboxService;
 import com.opensw.food.api.aws.s3.S3Service;
-import com.opensw.food.api.comment.entity.Comment;
+import com.opensw.food.api.category.entity.Category;
+import com.opensw.food.api.category.service.CategoryService;
 import com.opensw.food.api.comment.repository.CommentRepository;
-import com.opensw.food.api.member.entity.Follow;
 import com.opensw.food.api.member.entity.Member;
 import com.opensw.food.api.member.repository.MemberRepository;
-import com.opensw.food.api.member.service.MemberService;
+import com.opensw.food.api.timeline.service.TimelineService;
 import com.opensw.food.common.exception.BadRequestException;
 import com.opensw.food.common.exception.NotFoundException;
 import com.opensw.food.common.response.ErrorStatus;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.UserDetails;
+import com.opensw.food.common.util.ETagUtil;
+import com.opensw.food.common.util.SingleFlight;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.time.format.DateTimeFormatter;
+import java.sql.SQLException;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import java.util.Base64;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Supplier;
 
 @Service
-@RequiredArgsConstructor
 public class ArticleService {
 
     private final MemberRepository memberRepository;
     private final ArticleRepository articleRepository;
+    private final ArticleContentRepository articleContentRepository;
     private final ArticleLikeRepository articleLikeRepository;
+    private final ArticleCountService articleCountService;
+    private final TransactionTemplate transactionTemplate;
     private final S3Service s3Service;
-    private final MemberService memberService;
+    private final S3DeletionOutboxService s3DeletionOutboxService;
     private final CommentRepository commentRepository;
-
-    private static final String BASE64_IMAGE_REGEX = "data:image/(png|jpeg|jpg|webp|bmp);base64,([A-Za-z0-9+/=]+)";
+    private final CategoryService categoryService;
+    private final ArticleTrendingService articleTrendingService;
+    private final ArticleDetailCache articleDetailCache;
+    private final TimelineService timelineService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 비로그인 요청의 같은 게시글 상세 버전은 한 번의 결과를 짧은 시간(최대 1초) 공유
+    private final SingleFlight<Long, DetailVersion> anonymousDetailVersions;
+
+    // 본문 인라인 이미지 한 장의 최대 크기 (디코딩 후)
+    private final long inlineImageMaxBytes;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final long MAX_COALESCE_TTL_MS = 1000;
+
+    public ArticleService(MemberRepository memberRepository,
+                          ArticleRepository articleRepository,
+                          ArticleContentRepository articleContentRepository,
+                          ArticleLikeRepository articleLikeRepository,
+                          ArticleCountService articleCountService,
+                          TransactionTemplate transactionTemplate,
+                          S3Service s3Service,
+                          S3DeletionOutboxService s3DeletionOutboxService,
+                          CommentRepository commentRepository,
+                          CategoryService categoryService,
+                          ArticleTrendingService articleTrendingService,
+                          ArticleDetailCache articleDetailCache,
+                          TimelineService timelineService,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${read.coalesce.ttl-ms:500}") long coalesceTtlMs,
+                          @Value("${article.inline-image.max-bytes:10485760}") long inlineImageMaxBytes) {
+        this.memberRepository = memberRepository;
+        this.articleRepository = articleRepository;
+        this.articleContentRepository = articleContentRepository;
+        this.articleLikeRepository = articleLikeRepository;
+        this.articleCountService = articleCountService;
+        this.transactionTemplate = transactionTemplate;
+        this.s3Service = s3Service;
+        this.s3DeletionOutboxService = s3DeletionOutboxService;
+        this.commentRepository = commentRepository;
+        this.categoryService = categoryService;
+        this.articleTrendingService = articleTrendingService;
+        this.articleDetailCache = articleDetailCache;
+        this.timelineService = timelineService;
+        this.eventPublisher = eventPublisher;
+        this.anonymousDetailVersions = new SingleFlight<>(Math.min(coalesceTtlMs, MAX_COALESCE_TTL_MS));
+        this.inlineImageMaxBytes = inlineImageMaxBytes;
+    }
 
     // 게시글 생성
     public void createArticle(Long userId, ArticleCreateRequestDTO articleRequest, List<MultipartFile> images) throws IOException {
 
         // 유저 검증
         Member member = memberRepository.findById(userId)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
 
+        // 카테고리 사전 조회 (처음 보는 카테고리는 추가)
+        Category category = categoryService.resolve(articleRequest.getCategory());
+
+        // Base64 이미지 처리
+        InlineImageResult inlineImages = processBase64Images(articleRequest.getContent(), String.valueOf(userId));
+
         // 게시글 생성
         Article article = Article.builder()
                 .member(member)
                 .title(articleRequest.getTitle())
-                .content(articleRequest.getContent())
-                .category(articleRequest.getCategory())
+                .category(category)
                 .likeCnt(0)
                 .cmtCnt(0)
                 .build();
-
-        // Base64 이미지 처리 및 추가
-        List<String> base64ImageUrls = processBase64Images(articleRequest.getContent(), String.valueOf(userId));
-        article.addImages(base64ImageUrls);
+        article.addImages(inlineImages.imageUrls);
 
         // 추가 이미지 처리
         if (images != null && !images.isEmpty()) {
@@ -73,110 +140,197 @@ public class ArticleService {
             article.addImages(imageUrls);
         }
 
-        articleRepository.save(article);
+        // 목록용 미리보기와 카드 이미지
+        article.updatePreview(ArticleExcerptGenerator.generate(inlineImages.content), coverImageUrl(article.getImages()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            articleRepository.save(article);
+            articleContentRepository.save(new ArticleContent(article, inlineImages.content));
+            memberRepository.addArticleCnt(userId, 1);
+        });
+
+        eventPublisher.publishEvent(new ArticleCreatedEvent(article.getId(), userId));
+        if (!article.getImages().isEmpty()) {
+            eventPublisher.publishEvent(new ArticleImagesUploadedEvent(article.getId()));
+        }
     }
 
-    private List<String> processBase64Images(String content, String userId) throws IOException {
-        List<String> imageUrls = new ArrayList<>();
-        if (content == null || content.isEmpty()) {
-            return imageUrls;
+    // 본문의 Base64 인라인 이미지를 업로드하고, 본문에는 data URI 대신 업로드된 URL을 남김
+    private InlineImageResult processBase64Images(String content, String userId) {
+        List<InlineImageExtractor.DataUri> dataUris = InlineImageExtractor.find(content, inlineImageMaxBytes);
+        if (dataUris.isEmpty()) {
+            return new InlineImageResult(content, new ArrayList<>());
         }
 
-        Pattern pattern = Pattern.compile(BASE64_IMAGE_REGEX);
-        Matcher matcher = pattern.matcher(content);
+        List<InlineImage> inlineImages = new ArrayList<>(dataUris.size());
+        long uploadedAt = System.currentTimeMillis();
+        for (InlineImageExtractor.DataUri dataUri : dataUris) {
+            // 같은 시각에 여러 장이 올라가도 키가 겹치지 않도록 순번 포함
+            String fileName = "inline-image-" + uploadedAt + "-" + inlineImages.size() + "." + dataUri.getMimeType();
+            inlineImages.add(new InlineImage(fileName, dataUri.openStream(content), dataUri.getDecodedLength()));
+        }
 
-        while (matcher.find()) {
-            String mimeType = matcher.group(1);
-            String base64Image = matcher.group(2);
+        // S3 병렬 업로드 (디코딩은 업로드 스트림에서 진행)
+        List<String> imageUrls = s3Service.uploadInlineImages(userId, inlineImages);
+        return new InlineImageResult(InlineImageExtractor.replace(content, dataUris, imageUrls), imageUrls);
+    }
 
-            // 이미지 디코딩 및 S3 업로드
-            byte[] decodedBytes = Base64.getDecoder().decode(base64Image);
-            String fileName = "inline-image-" + System.currentTimeMillis() + "." + mimeType;
-            String s3Url = s3Service.uploadInlineImage(userId, fileName, decodedBytes);
+    // 전체 게시글 조회 (커서 기반 페이지네이션)
+    public ArticleFeedResponseDTO getTotalArticle(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
 
-            imageUrls.add(s3Url);
+        List<ArticleTotalListResponseDTO> articles;
+        if (cursor == null || cursor.isBlank()) {
+            articles = articleRepository.findFeedFirstPage(limit);
+        } else {
+            ArticleCursor articleCursor = ArticleCursor.decode(cursor);
+            articles = articleRepository.findFeedAfter(articleCursor.getCreatedAt(), articleCursor.getId(), limit);
         }
 
-        return imageUrls;
+        return toFeedPage(articles, pageSize);
     }
 
-    // 전체 게시글 조회
-    public List<ArticleTotalListResponseDTO> getTotalArticle() {
-        List<Article> articles = articleRepository.findAll();
+    // 카테고리별 게시글 조회 (전체 게시글 조회와 같은 커서 사용)
+    public ArticleFeedResponseDTO getCategoryArticles(Long categoryId, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
 
-        List<Article> sortedArticles = articles.stream()
-                .sorted((a1, a2) -> a2.getCreatedAt().compareTo(a1.getCreatedAt()))
-                .toList();
+        List<ArticleTotalListResponseDTO> articles;
+        if (cursor == null || cursor.isBlank()) {
+            articles = articleRepository.findCategoryFeedFirstPage(categoryId, limit);
+        } else {
+            ArticleCursor articleCursor = ArticleCursor.decode(cursor);
+            articles = articleRepository.findCategoryFeedAfter(
+                    categoryId, articleCursor.getCreatedAt(), articleCursor.getId(), limit);
+        }
+        return toFeedPage(articles, pageSize);
+    }
 
-        return sortedArticles.stream()
-                .map(article -> {
-                    String firstImageUrl = article.getImages().isEmpty()
-                            ? null
-                            : article.getImages().get(0).getImageUrl();
-
-                    return new ArticleTotalListResponseDTO(
-                            article.getId(),
-                            article.getTitle(),
-                            article.getCategory(),
-                            firstImageUrl,
-                            article.getMember().getMemberId(),
-                            article.getMember().getNickname()
-                    );
-                })
-                .collect(Collectors.toList());
+    // pageSize + 1개 조회 결과로 페이지와 다음 커서 구성
+    private ArticleFeedResponseDTO toFeedPage(List<ArticleTotalListResponseDTO> articles, int pageSize) {
+        boolean hasNext = articles.size() > pageSize;
+        List<ArticleTotalListResponseDTO> page = hasNext ? articles.subList(0, pageSize) : articles;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ArticleTotalListResponseDTO last = page.get(page.size() - 1);
+            nextCursor = new ArticleCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new ArticleFeedResponseDTO(page, nextCursor);
     }
 
-    // 게시글 상세 조회
-    public ArticleDetailResponseDTO getArticleDetail(Long articleId, UserDetails userDetails) {
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.RESOURCE_NOT_FOUND.getMessage()));
+    // 전체 게시글 페이지 ETag - 카드 버전 값만 조회 (nextCursor 결정을 위해 1개 더 포함)
+    public String getTotalArticleETag(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
 
-        boolean myArticle = false;
-        boolean myLike = false;
+        List<Object[]> versions;
+        if (cursor == null || cursor.isBlank()) {
+            versions = articleRepository.findFeedVersionFirstPage(limit);
+        } else {
+            ArticleCursor articleCursor = ArticleCursor.decode(cursor);
+            versions = articleRepository.findFeedVersionAfter(articleCursor.getCreatedAt(), articleCursor.getId(), limit);
+        }
 
-        if (userDetails != null) {
-            Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
-            myLike = articleLikeRepository.findByArticleIdAndMemberMemberId(articleId, userId).isPresent();
-            myArticle = article.getMember().getMemberId().equals(userId);
+        return ETagUtil.strong(pageSize, versions.toArray());
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
         }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
 
-        List<String> imageUrls = article.getImages().isEmpty() ? null :
-                article.getImages().stream().map(ArticleImage::getImageUrl).collect(Collectors.toList());
+    // 게시글 상세 조회 - 조회자와 무관한 부분은 캐시에서 읽고 조회자별 값만 더함
+    // 조회 기록은 먼저 호출되는 recordViewAndGetDetailETag에서 (304 응답도 조회로 반영)
+    public ArticleDetailResponseDTO getArticleDetail(Long articleId, Long userId) {
+        ArticleDetailSnapshot snapshot = articleDetailCache.get(articleId, this::loadArticleDetail);
+
+        boolean myArticle = false;
+        boolean myLike = false;
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd:HH:mm:ss");
-        String formattedDate = article.getUpdatedAt().format(formatter);
+        if (userId != null) {
+            myLike = articleLikeRepository.existsByArticleIdAndMemberMemberId(articleId, userId);
+            myArticle = snapshot.getAuthorId().equals(userId);
+        }
 
         return ArticleDetailResponseDTO.builder()
-                .id(article.getId())
-                .title(article.getTitle())
-                .date(formattedDate)
-                .content(article.getContent())
-                .likeCnt(article.getLikeCnt())
-                .cmtCnt(article.getCmtCnt())
-                .images(imageUrls)
-                .category(article.getCategory())
+                .id(snapshot.getId())
+                .title(snapshot.getTitle())
+                .date(snapshot.getDate())
+                .content(snapshot.getContent())
+                .likeCnt(snapshot.getLikeCnt() + articleCountService.pendingLikeCnt(articleId))
+                .cmtCnt(snapshot.getCmtCnt() + articleCountService.pendingCmtCnt(articleId))
+                .images(snapshot.getImages())
+                .category(snapshot.getCategory())
                 .myArticle(myArticle)
                 .myLike(myLike)
-                .authorId(article.getMember().getMemberId())
-                .nickname(article.getMember().getNickname())
+                .authorId(snapshot.getAuthorId())
+                .nickname(snapshot.getNickname())
                 .build();
     }
 
-    // 내가 작성한 게시글 조회
-    public List<MyArticleListResponseDTO> getMyArticleList(UserDetails userDetails){
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
-
-        List<Article> myMemos = articleRepository.findArticlesByMemberMemberId(userId);
-
-        return myMemos.stream()
-                .map(memo -> new MyArticleListResponseDTO(
-                        memo.getId(),
-                        memo.getTitle(),
-                        memo.getContent(),
-                        memo.getCategory(),
-                        memo.getLikeCnt(),
-                        memo.getImages().stream().map(ArticleImage::getImageUrl).collect(Collectors.toList())
-                )).collect(Collectors.toList());
+    private ArticleDetailSnapshot loadArticleDetail(Long articleId) {
+        Article article = articleRepository.findDetailById(articleId)
+                .filter(found -> !found.getMember().isDeleted())
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.RESOURCE_NOT_FOUND.getMessage()));
+
+        // 본문은 별도 테이블에서 상세 조회 시에만 읽음
+        String content = articleContentRepository.findById(articleId)
+                .map(ArticleContent::getContent)
+                .orElse(null);
+
+        return ArticleDetailSnapshot.of(article, content);
+    }
+
+    // 첫 번째 이미지 (축소본이 있으면 축소본)
+    private String coverImageUrl(List<ArticleImage> images) {
+        return images.isEmpty() ? null : images.get(0).getThumbnailOrOriginalUrl();
+    }
+
+    // 게시글 상세 조회 기록 + ETag - 본문/이미지는 읽지 않고 버전 값과 조회자 기준 값(내 글, 내 좋아요)만 사용
+    // 304로 끝나는 조회도 인기 게시글 점수에 반영되도록 ETag를 계산할 때 조회를 기록
+    // 게시글이 없으면 기록 없이 null (상세 조회에서 404 처리)
+    public String recordViewAndGetDetailETag(Long articleId, Long userId) {
+        DetailVersion version = userId == null
+                ? anonymousDetailVersions.execute(articleId, () -> loadDetailVersion(articleId))
+                : loadDetailVersion(articleId);
+        if (version == null) {
+            return null;
+        }
+
+        articleTrendingService.recordView(articleId, version.categoryId);
+
+        boolean myArticle = userId != null && userId.equals(version.authorId);
+        boolean myLike = userId != null && articleLikeRepository.existsByArticleIdAndMemberMemberId(articleId, userId);
+        return ETagUtil.strong(version.eTag, myArticle, myLike);
+    }
+
+    private DetailVersion loadDetailVersion(Long articleId) {
+        List<Object[]> versions = articleRepository.findDetailVersion(articleId);
+        if (versions.isEmpty()) {
+            return null;
+        }
+        Object[] version = versions.get(0);
+        Long authorId = (Long) version[3];
+        String nickname = (String) version[4];
+        Long categoryId = (Long) version[5];
+
+        // 작성자 닉네임이 바뀌었으면 캐시된 상세도 버림 (새 ETag로 이전 닉네임이 응답되지 않도록)
+        articleDetailCache.invalidateIf(articleId, snapshot -> !nickname.equals(snapshot.getNickname()));
+
+        String eTag = ETagUtil.strong(articleId, version,
+                articleCountService.pendingLikeCnt(articleId), articleCountService.pendingCmtCnt(articleId));
+        return new DetailVersion(eTag, authorId, categoryId);
+    }
+
+    // 내가 작성한 게시글 조회 - 본문 대신 작성 시 저장해 둔 미리보기와 카드 이미지
+    public List<MyArticleListResponseDTO> getMyArticleList(Long userId){
+        return articleRepository.findMyArticles(userId);
     }
 
     // 게시글 삭제
@@ -188,12 +342,28 @@ public class ArticleService {
             throw new NotFoundException(ErrorStatus.ARTICLE_WRITER_NOT_SAME_USER_EXCEPTION.getMessage());
         }
 
-        // 게시글에 연관된 댓글 삭제
-        List<Comment> comments = commentRepository.findByArticle(article);
-        commentRepository.deleteAll(comments);
+        long likeCnt = article.getLikeCnt() + articleCountService.pendingLikeCnt(articleId);
 
-        // 이미지, 좋아요는 CascadeType.ALL로 Article 삭제 시 자동 제거
-        articleRepository.delete(article);
+        transactionTemplate.executeWithoutResult(status -> {
+            // 게시글에 연관된 댓글 삭제 (부모 참조를 먼저 끊고 한 번에 삭제)
+            commentRepository.detachByArticleId(articleId);
+            commentRepository.deleteByArticleId(articleId);
+
+            // 작성자 통계 반영 (게시글과 함께 삭제되는 좋아요 포함)
+            memberRepository.addArticleCnt(userId, -1);
+            memberRepository.addLikeReceivedCntByArticleId(articleId, -likeCnt);
+
+            // 이미지 파일은 커밋 이후 삭제 아웃박스에서 삭제
+            s3DeletionOutboxService.enqueue(article.getImages().stream()
+                    .flatMap(image -> image.getFileUrls().stream())
+                    .toList());
+
+            // 이미지, 좋아요는 CascadeType.ALL로 Article 삭제 시 자동 제거
+            articleContentRepository.deleteByArticleIds(List.of(articleId));
+            articleRepository.delete(article);
+        });
+
+        eventPublisher.publishEvent(new ArticleDeletedEvent(articleId));
     }
 
     // 게시글 수정
@@ -207,138 +377,211 @@ public class ArticleService {
             throw new BadRequestException(ErrorStatus.ARTICLE_WRITER_NOT_SAME_USER_EXCEPTION.getMessage());
         }
 
-        // 기존 이미지 목록 복사
-        List<ArticleImage> oldImages = new ArrayList<>(article.getImages());
+        // 기존 이미지 URL 목록 복사
+        List<String> oldImageUrls = article.getImages().stream()
+                .map(ArticleImage::getImageUrl)
+                .toList();
 
-        // 업데이트된 게시글 객체 생성 (일단 기존 이미지 그대로)
-        Article updatedArticle = Article.builder()
-                .id(article.getId())
-                .member(article.getMember())
-                .title(articleRequest.getTitle())
-                .content(articleRequest.getContent())
-                .category(articleRequest.getCategory())
-                .likeCnt(article.getLikeCnt())
-                .cmtCnt(article.getCmtCnt())
-                .images(new ArrayList<>(oldImages))
-                .build();
+        Category category = categoryService.resolve(articleRequest.getCategory());
 
         // 1. Base64 인라인 이미지 처리
-        List<String> newBase64ImageUrls = processBase64Images(articleRequest.getContent(), String.valueOf(userId));
-        updatedArticle.addImages(newBase64ImageUrls);
-
-        // 2. deleteImageUrls에 해당하는 이미지 제거
-        if (deleteImageUrls != null && !deleteImageUrls.isEmpty()) {
-            List<ArticleImage> imagesToRemove = updatedArticle.getImages().stream()
-                    .filter(image -> deleteImageUrls.contains(image.getImageUrl()))
-                    .collect(Collectors.toList());
-
-            for (ArticleImage img : imagesToRemove) {
-                s3Service.deleteFile(img.getImageUrl());
-                updatedArticle.getImages().remove(img);
-            }
-        }
+        InlineImageResult inlineImages = processBase64Images(articleRequest.getContent(), String.valueOf(userId));
+        List<String> newBase64ImageUrls = inlineImages.imageUrls;
 
-        // 3. 새로운 Multipart 이미지 업로드
+        // 2. 새로운 Multipart 이미지 업로드
         List<String> newUploadedImageUrls = new ArrayList<>();
         if (newImages != null && !newImages.isEmpty()) {
             newUploadedImageUrls = s3Service.uploadArticleImages(String.valueOf(userId), newImages);
-            for (String url : newUploadedImageUrls) {
-                ArticleImage newImg = ArticleImage.builder()
-                        .imageUrl(url)
-                        .article(updatedArticle)
-                        .build();
-                updatedArticle.getImages().add(newImg);
-            }
         }
 
-        // 4. 기존 이미지 중 이번 요청에 포함되지 않은 이미지 제거
-        // 최종 남아야 할 이미지 = newBase64ImageUrls + newUploadedImageUrls 중 deleteImageUrls에 없는 것들
+        // 3. 최종 남아야 할 이미지 = newBase64ImageUrls + newUploadedImageUrls 중 deleteImageUrls에 없는 것들
         Set<String> finalImageSet = new HashSet<>();
         finalImageSet.addAll(newBase64ImageUrls);
         finalImageSet.addAll(newUploadedImageUrls);
+        // 이전에 업로드되어 본문에 URL로 남아 있는 인라인 이미지는 유지
+        for (String url : oldImageUrls) {
+            if (inlineImages.content != null && inlineImages.content.contains(url)) {
+                finalImageSet.add(url);
+            }
+        }
         if (deleteImageUrls != null) {
-            // 이미 삭제한 이미지들은 finalImageSet에 들어있어도 제거 대상
             finalImageSet.removeAll(deleteImageUrls);
         }
 
-        // updatedArticle.getImages()를 순회하며 finalImageSet에 없는 이미지 제거
-        List<ArticleImage> finalImages = new ArrayList<>();
-        for (ArticleImage img : updatedArticle.getImages()) {
-            if (finalImageSet.contains(img.getImageUrl())) {
-                finalImages.add(img);
-            } else {
-                // finalImageSet에 없다면 제거
-                s3Service.deleteFile(img.getImageUrl());
+        List<String> addedImageUrls = new ArrayList<>(newBase64ImageUrls);
+        addedImageUrls.addAll(newUploadedImageUrls);
+
+        // 4. 업로드가 끝난 뒤 게시글을 다시 읽어 수정할 컬럼만 변경
+        // 업로드 중에 반영된 좋아요/댓글 수를 이전 값으로 덮어쓰지 않도록 분리된 객체를 병합하지 않음
+        transactionTemplate.executeWithoutResult(status -> {
+            Article managed = articleRepository.findById(memoId)
+                    .orElseThrow(() -> new NotFoundException(ErrorStatus.RESOURCE_NOT_FOUND.getMessage()));
+
+            // 삭제할 S3 객체 (게시글 저장과 같은 트랜잭션에서 삭제 아웃박스에 기록)
+            List<String> removedFileUrls = new ArrayList<>();
+            managed.getImages().removeIf(image -> {
+                if (finalImageSet.contains(image.getImageUrl())) {
+                    return false;
+                }
+                removedFileUrls.addAll(image.getFileUrls());
+                return true;
+            });
+            for (String url : addedImageUrls) {
+                if (finalImageSet.contains(url)) {
+                    managed.addImages(List.of(url));
+                } else {
+                    removedFileUrls.add(url);
+                }
             }
+
+            managed.update(articleRequest.getTitle(), category);
+            managed.updatePreview(ArticleExcerptGenerator.generate(inlineImages.content), coverImageUrl(managed.getImages()));
+            articleContentRepository.findById(managed.getId()).ifPresentOrElse(
+                    articleContent -> articleContent.changeContent(inlineImages.content),
+                    () -> articleContentRepository.save(new ArticleContent(managed, inlineImages.content)));
+            s3DeletionOutboxService.enqueue(removedFileUrls);
+        });
+
+        eventPublisher.publishEvent(new ArticleUpdatedEvent(memoId));
+        if (!addedImageUrls.isEmpty()) {
+            eventPublisher.publishEvent(new ArticleImagesUploadedEvent(memoId));
         }
+    }
 
-        // 정리된 이미지 리스트로 세팅
-        updatedArticle = updatedArticle.toBuilder()
-                .images(finalImages)
-                .build();
+    // 좋아요 토글 - 좋아요 상태가 되면 true
+    public boolean toggleLike(Long articleId, Long userId) {
+        return runLikeTransaction(() -> {
+            if (removeLike(articleId, userId)) {
+                return false;
+            }
+            addLike(articleId, userId);
+            return true;
+        });
+    }
 
-        articleRepository.save(updatedArticle);
+    // 좋아요 (이미 좋아요 상태면 아무것도 하지 않음)
+    public void likeArticle(Long articleId, Long userId) {
+        runLikeTransaction(() -> {
+            addLike(articleId, userId);
+            return true;
+        });
     }
 
-    // 좋아요 토글
-    public void toggleLike(Long articleId, Long userId) {
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.RESOURCE_NOT_FOUND.getMessage()));
+    // 좋아요 취소 (좋아요 상태가 아니면 아무것도 하지 않음)
+    public void unlikeArticle(Long articleId, Long userId) {
+        // 삭제만 하므로 유니크 제약에 걸릴 일이 없음 - 제약 위반은 그대로 전달
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!removeLike(articleId, userId) && !articleRepository.existsById(articleId)) {
+                throw new NotFoundException(ErrorStatus.RESOURCE_NOT_FOUND.getMessage());
+            }
+        });
+    }
 
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
+    private void addLike(Long articleId, Long userId) {
+        if (articleLikeRepository.insertIfAbsent(articleId, userId) > 0) {
+            articleCountService.addLikeCnt(articleId, 1);
+            memberRepository.addLikeReceivedCntByArticleId(articleId, 1);
+            eventPublisher.publishEvent(new ArticleLikedEvent(articleId, 1));
+        } else if (!articleRepository.existsById(articleId)) {
+            // 추가되지 않았다면 이미 좋아요 상태이거나 게시글이 없는 경우
+            throw new NotFoundException(ErrorStatus.RESOURCE_NOT_FOUND.getMessage());
+        }
+    }
 
-        Optional<ArticleLike> existingLike = articleLikeRepository.findByArticleIdAndMemberMemberId(articleId, userId);
+    private boolean removeLike(Long articleId, Long userId) {
+        if (articleLikeRepository.deleteByArticleIdAndMemberId(articleId, userId) > 0) {
+            articleCountService.addLikeCnt(articleId, -1);
+            memberRepository.addLikeReceivedCntByArticleId(articleId, -1);
+            eventPublisher.publishEvent(new ArticleLikedEvent(articleId, -1));
+            return true;
+        }
+        return false;
+    }
 
-        if (existingLike.isPresent()) {
-            articleLikeRepository.delete(existingLike.get());
-            article = article.decreaseLikeCnt();
-        } else {
-            ArticleLike articleLike = ArticleLike.builder()
-                    .article(article)
-                    .member(member)
-                    .build();
-            articleLikeRepository.save(articleLike);
-            article = article.increaseLikeCnt();
+    private boolean runLikeTransaction(Supplier<Boolean> action) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> action.get()));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 회원의 동시 요청이 먼저 반영되어 유니크 제약(article_id, member_id)에 걸린 경우만 이미 좋아요 상태
+            // 외래 키 위반(회원/게시글 삭제) 등 다른 제약 위반은 그대로 전달
+            if (isDuplicateLike(e)) {
+                return true;
+            }
+            throw e;
         }
+    }
 
-        articleRepository.save(article);
+    private static boolean isDuplicateLike(DataIntegrityViolationException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraintName = violation.getConstraintName();
+                if (constraintName != null) {
+                    return constraintName.toLowerCase(Locale.ROOT).contains(ArticleLike.UNIQUE_CONSTRAINT);
+                }
+                // 제약 이름을 알 수 없으면 중복 키 오류 코드로 판단 (SQLState 23505, MySQL 1062)
+                SQLException sqlException = violation.getSQLException();
+                return "23505".equals(sqlException.getSQLState()) || sqlException.getErrorCode() == 1062;
+            }
+        }
+        return false;
     }
 
-    // 팔로우 하고 있는 사람의 게시글 리스트 조회
-    public List<ArticleTotalListResponseDTO> getFollowingArticles(Long userId) {
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
+    // 팔로우 하고 있는 사람의 게시글 리스트 조회 (홈 타임라인, 게시글 ID 커서)
+    public ArticleFeedResponseDTO getFollowingArticles(Long userId, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Long beforeId = parseIdCursor(cursor);
 
-        List<Follow> followingList = member.getFollowing();
-        List<Long> followingIds = followingList.stream()
-                .map(follow -> follow.getFollowing().getMemberId())
-                .toList();
+        List<Long> articleIds = timelineService.getTimeline(userId, beforeId, pageSize + 1);
+        boolean hasNext = articleIds.size() > pageSize;
+        List<Long> pageIds = hasNext ? articleIds.subList(0, pageSize) : articleIds;
+
+        Map<Long, ArticleTotalListResponseDTO> articleMap = pageIds.isEmpty()
+                ? Collections.emptyMap()
+                : articleRepository.findFeedByIds(pageIds).stream()
+                        .collect(Collectors.toMap(ArticleTotalListResponseDTO::getId, a -> a));
+
+        // 타임라인 순서 유지 (삭제된 게시글은 제외)
+        List<ArticleTotalListResponseDTO> result = pageIds.stream()
+                .map(articleMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        String nextCursor = hasNext ? String.valueOf(pageIds.get(pageIds.size() - 1)) : null;
+        return new ArticleFeedResponseDTO(result, nextCursor);
+    }
 
-        if (followingIds.isEmpty()) {
-            return Collections.emptyList();
+    private Long parseIdCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
         }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR_EXCEPTION.getMessage());
+        }
+    }
 
-        List<Article> articles = articleRepository.findAll().stream()
-                .filter(a -> followingIds.contains(a.getMember().getMemberId()))
-                .sorted((a1, a2) -> a2.getCreatedAt().compareTo(a1.getCreatedAt()))
-                .toList();
+    // 인라인 이미지 처리 결과 - URL로 치환된 본문과 업로드된 이미지 URL
+    private static class InlineImageResult {
+        private final String content;
+        private final List<String> imageUrls;
 
-        return articles.stream()
-                .map(a -> {
-                    String firstImageUrl = a.getImages().isEmpty()
-                            ? null
-                            : a.getImages().get(0).getImageUrl();
-
-                    return new ArticleTotalListResponseDTO(
-                            a.getId(),
-                            a.getTitle(),
-                            a.getCategory(),
-                            firstImageUrl,
-                            a.getMember().getMemberId(),
-                            a.getMember().getNickname()
-                    );
-                })
-                .collect(Collectors.toList());
+        private InlineImageResult(String content, List<String> imageUrls) {
+            this.content = content;
+            this.imageUrls = imageUrls;
+        }
+    }
+
+    // 게시글 상세 버전 - 조회자와 무관한 ETag 부분, 작성자 ID, 카테고리 ID (조회 기록용)
+    private static class DetailVersion {
+        private final String eTag;
+        private final Long authorId;
+        private final Long categoryId;
+
+        private DetailVersion(String eTag, Long authorId, Long categoryId) {
+            this.eTag = eTag;
+            this.authorId = authorId;
+            this.categoryId = categoryId;
+        }
     }
 }
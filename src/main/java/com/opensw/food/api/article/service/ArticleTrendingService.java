@@ -0,0 +1,145 @@
+package com.opensw.food.api.article.service;
+
+import com.opensw.food.api.article.dto.ArticleTotalListResponseDTO;
+import com.opensw.food.api.article.event.ArticleDeletedEvent;
+import com.opensw.food.api.article.event.ArticleLikedEvent;
+import com.opensw.food.api.article.event.ArticleUpdatedEvent;
+import com.opensw.food.api.article.repository.ArticleRepository;
+import com.opensw.food.api.comment.event.CommentCreatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 인기 게시글 - 좋아요/댓글/상세 조회가 있을 때마다 시간 감쇠 점수를 메모리에서 갱신하고 카테고리별 상위 K개를 유지
+// 조회는 상위 K개만 읽으므로 게시글 테이블 정렬 없이 O(K)
+// 재시작 시 최근 게시글의 좋아요/댓글 수로 점수를 다시 구성 (활동 시각은 작성 시각으로 근사, 조회 수는 복원하지 않음)
+@Slf4j
+@Service
+public class ArticleTrendingService {
+
+    private static final double LIKE_WEIGHT = 4;
+    private static final double COMMENT_WEIGHT = 3;
+    private static final double VIEW_WEIGHT = 1;
+
+    // 현재 시각 기준 점수가 이보다 낮으면 버림
+    private static final double PRUNE_THRESHOLD = 0.05;
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int DEFAULT_SIZE = 20;
+
+    private final ArticleRepository articleRepository;
+    private final TrendingRanking ranking;
+    private final int topK;
+    private final int rebuildWindowDays;
+
+    public ArticleTrendingService(ArticleRepository articleRepository,
+                                  @Value("${trending.half-life-hours:12}") double halfLifeHours,
+                                  @Value("${trending.top-k:50}") int topK,
+                                  @Value("${trending.rebuild-window-days:7}") int rebuildWindowDays) {
+        this.articleRepository = articleRepository;
+        this.ranking = new TrendingRanking(halfLifeHours * 3_600_000, topK, System.currentTimeMillis());
+        this.topK = topK;
+        this.rebuildWindowDays = rebuildWindowDays;
+    }
+
+    // 인기 게시글 (categoryId가 없으면 전체) - 점수 순서 유지, 조회되지 않는 게시글(탈퇴 회원 등)은 제외
+    public List<ArticleTotalListResponseDTO> getTrendingArticles(Long categoryId, Integer size) {
+        int limit = size == null || size <= 0 ? DEFAULT_SIZE : Math.min(size, topK);
+        List<Long> articleIds = ranking.top(categoryId == null ? TrendingRanking.ALL : categoryId, limit);
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ArticleTotalListResponseDTO> articleMap = articleRepository.findFeedByIds(articleIds).stream()
+                .collect(Collectors.toMap(ArticleTotalListResponseDTO::getId, Function.identity()));
+        return articleIds.stream()
+                .map(articleMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    // 상세 조회 (카테고리를 이미 알고 있으므로 추가 조회 없음)
+    public void recordView(Long articleId, Long categoryId) {
+        ranking.add(articleId, categoryId, VIEW_WEIGHT, System.currentTimeMillis());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleLiked(ArticleLikedEvent event) {
+        record(event.getArticleId(), LIKE_WEIGHT * event.getDelta());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        record(event.getArticleId(), COMMENT_WEIGHT);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleUpdated(ArticleUpdatedEvent event) {
+        if (ranking.contains(event.getArticleId())) {
+            ranking.changeCategory(event.getArticleId(), articleRepository.findCategoryIdById(event.getArticleId()).orElse(null));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleDeleted(ArticleDeletedEvent event) {
+        ranking.remove(event.getArticleId());
+    }
+
+    // 처음 점수가 생기는 게시글만 카테고리 조회
+    private void record(Long articleId, double weight) {
+        Long categoryId = ranking.contains(articleId) ? null
+                : articleRepository.findCategoryIdById(articleId).orElse(null);
+        ranking.add(articleId, categoryId, weight, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime since = LocalDateTime.now().minusDays(rebuildWindowDays);
+        ZoneId zone = ZoneId.systemDefault();
+        long lastId = 0;
+        int count = 0;
+
+        while (true) {
+            List<Object[]> sources = articleRepository.findTrendingSourcesAfter(since, lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            if (sources.isEmpty()) {
+                break;
+            }
+            for (Object[] source : sources) {
+                Long articleId = (Long) source[0];
+                Long categoryId = (Long) source[1];
+                long createdAt = ((LocalDateTime) source[2]).atZone(zone).toInstant().toEpochMilli();
+                double weight = LIKE_WEIGHT * ((Number) source[3]).longValue()
+                        + COMMENT_WEIGHT * ((Number) source[4]).longValue();
+                if (weight > 0) {
+                    ranking.add(articleId, categoryId, weight, createdAt);
+                    count++;
+                }
+            }
+            lastId = (Long) sources.get(sources.size() - 1)[0];
+        }
+
+        ranking.prune(PRUNE_THRESHOLD, System.currentTimeMillis());
+        log.info("Trending ranking rebuilt from {} recent articles", count);
+    }
+
+    @Scheduled(fixedDelayString = "${trending.prune-interval-ms:600000}")
+    public void prune() {
+        int pruned = ranking.prune(PRUNE_THRESHOLD, System.currentTimeMillis());
+        if (pruned > 0) {
+            log.debug("Pruned {} cold articles from trending ranking ({} remaining)", pruned, ranking.size());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.opensw.food.api.article.service;
+
+import java.awt.image.BufferedImage;
+
+// JPEG EXIF 방향(Orientation) 태그 - 휴대폰 사진은 센서 방향 그대로 저장하고 이 태그로 회전 정보를 남기므로
+// 다시 인코딩하기 전에 태그에 맞게 회전/반전해야 파생 이미지가 눕지 않음
+final class ImageOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private ImageOrientation() {
+    }
+
+    // APP1(Exif) 세그먼트의 IFD0에서 방향 값(1~8)을 읽음, 없거나 잘못된 값이면 NORMAL
+    static int read(byte[] data) {
+        if (data.length < 4 || (data[0] & 0xFF) != 0xFF || (data[1] & 0xFF) != 0xD8) {
+            return NORMAL;
+        }
+
+        int offset = 2;
+        while (offset + 4 <= data.length && (data[offset] & 0xFF) == 0xFF) {
+            int marker = data[offset + 1] & 0xFF;
+            // 이미지 데이터(SOS) 이후에는 메타데이터가 없음
+            if (marker == 0xDA || marker == 0xD9) {
+                break;
+            }
+            int length = readShort(data, offset + 2, false);
+            if (length < 2 || offset + 2 + length > data.length) {
+                break;
+            }
+            if (marker == 0xE1 && isExif(data, offset + 4, length - 2)) {
+                return readOrientation(data, offset + 10, offset + 2 + length);
+            }
+            offset += 2 + length;
+        }
+        return NORMAL;
+    }
+
+    // 방향에 맞게 회전/반전한 이미지 (5~8은 가로/세로가 바뀜)
+    static BufferedImage apply(BufferedImage image, int orientation) {
+        if (orientation <= NORMAL || orientation > 8) {
+            return image;
+        }
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        boolean swap = orientation >= 5;
+        int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage oriented = new BufferedImage(swap ? height : width, swap ? width : height, type);
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int rgb = image.getRGB(x, y);
+                switch (orientation) {
+                    case 2 -> oriented.setRGB(width - 1 - x, y, rgb);              // 좌우 반전
+                    case 3 -> oriented.setRGB(width - 1 - x, height - 1 - y, rgb); // 180도
+                    case 4 -> oriented.setRGB(x, height - 1 - y, rgb);             // 상하 반전
+                    case 5 -> oriented.setRGB(y, x, rgb);                          // 좌우 반전 후 270도
+                    case 6 -> oriented.setRGB(height - 1 - y, x, rgb);             // 시계 방향 90도
+                    case 7 -> oriented.setRGB(height - 1 - y, width - 1 - x, rgb); // 좌우 반전 후 90도
+                    default -> oriented.setRGB(y, width - 1 - x, rgb);              // 8: 시계 방향 270도
+                }
+            }
+        }
+        return oriented;
+    }
+
+    // 가로/세로가 바뀌는 방향인지
+    static boolean swapsDimensions(int orientation) {
+        return orientation >= 5 && orientation <= 8;
+    }
+
+    private static boolean isExif(byte[] data, int offset, int length) {
+        return length >= 14
+                && data[offset] == 'E' && data[offset + 1] == 'x' && data[offset + 2] == 'i' && data[offset + 3] == 'f'
+                && data[offset + 4] == 0 && data[offset + 5] == 0;
+    }
+
+    // TIFF 헤더(바이트 순서, 42, IFD0 위치) 뒤 IFD0 항목에서 방향 태그 검색
+    private static int readOrientation(byte[] data, int tiff, int end) {
+        boolean littleEndian;
+        if (data[tiff] == 'I' && data[tiff + 1] == 'I') {
+            littleEndian = true;
+        } else if (data[tiff] == 'M' && data[tiff + 1] == 'M') {
+            littleEndian = false;
+        } else {
+            return NORMAL;
+        }
+        if (readShort(data, tiff + 2, littleEndian) != 42) {
+            return NORMAL;
+        }
+
+        long ifdOffset = readInt(data, tiff + 4, littleEndian);
+        if (ifdOffset < 8 || tiff + ifdOffset + 2 > end) {
+            return NORMAL;
+        }
+        int ifd = (int) (tiff + ifdOffset);
+        int entries = readShort(data, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if (readShort(data, entry, littleEndian) == ORIENTATION_TAG) {
+                int orientation = readShort(data, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+
+    private static int readShort(byte[] data, int offset, boolean littleEndian) {
+        int first = data[offset] & 0xFF;
+        int second = data[offset + 1] & 0xFF;
+        return littleEndian ? (second << 8) | first : (first << 8) | second;
+    }
+
+    private static long readInt(byte[] data, int offset, boolean littleEndian) {
+        long high = readShort(data, offset + (littleEndian ? 2 : 0), littleEndian);
+        long low = readShort(data, offset + (littleEndian ? 0 : 2), littleEndian);
+        return (high << 16) | low;
+    }
+}
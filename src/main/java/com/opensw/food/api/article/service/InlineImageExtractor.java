@@ -0,0 +1,165 @@
+package com.opensw.food.api.article.service;
+
+import com.opensw.food.common.exception.BadRequestException;
+import com.opensw.food.common.response.ErrorStatus;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+// 본문의 data URI 이미지(data:image/{type};base64,...) 탐색
+// 정규식 없이 본문을 한 번만 훑고, 이미지 데이터는 byte[]로 복사하지 않고 스트림으로 디코딩
+final class InlineImageExtractor {
+
+    private static final String DATA_URI_PREFIX = "data:image/";
+    private static final String BASE64_MARKER = ";base64,";
+    private static final String[] MIME_TYPES = {"png", "jpeg", "jpg", "webp", "bmp"};
+
+    private InlineImageExtractor() {
+    }
+
+    // 한 장의 디코딩 후 크기가 maxBytes를 넘거나 Base64 형식(길이, 패딩 위치)이 잘못되면 400
+    static List<DataUri> find(String content, long maxBytes) {
+        List<DataUri> dataUris = new ArrayList<>();
+        if (content == null || content.isEmpty()) {
+            return dataUris;
+        }
+
+        int from = 0;
+        int start;
+        while ((start = content.indexOf(DATA_URI_PREFIX, from)) >= 0) {
+            int typeStart = start + DATA_URI_PREFIX.length();
+            String mimeType = matchMimeType(content, typeStart);
+            if (mimeType == null) {
+                from = typeStart;
+                continue;
+            }
+
+            int dataStart = typeStart + mimeType.length() + BASE64_MARKER.length();
+            int dataEnd = dataStart;
+            int padding = 0;
+            char c;
+            while (dataEnd < content.length() && isBase64(c = content.charAt(dataEnd))) {
+                if (c == '=') {
+                    padding++;
+                } else if (padding > 0) {
+                    // 패딩은 끝에만 올 수 있음 (중간에 있으면 디코딩 스트림에서 예외)
+                    throw new BadRequestException(ErrorStatus.INVALID_INLINE_IMAGE_EXCEPTION.getMessage());
+                }
+                dataEnd++;
+            }
+            if (dataEnd > dataStart) {
+                int length = dataEnd - dataStart;
+                if (length % 4 != 0 || padding > 2) {
+                    throw new BadRequestException(ErrorStatus.INVALID_INLINE_IMAGE_EXCEPTION.getMessage());
+                }
+                // Base64 길이와 패딩으로 계산한 디코딩 후 크기
+                long decodedLength = (long) length / 4 * 3 - padding;
+                if (decodedLength > maxBytes) {
+                    throw new BadRequestException(ErrorStatus.INLINE_IMAGE_TOO_LARGE_EXCEPTION.getMessage());
+                }
+                dataUris.add(new DataUri(start, dataStart, dataEnd, mimeType, decodedLength));
+            }
+            from = dataEnd;
+        }
+        return dataUris;
+    }
+
+    // data URI 자리를 업로드된 URL로 치환한 본문
+    static String replace(String content, List<DataUri> dataUris, List<String> urls) {
+        if (dataUris.isEmpty()) {
+            return content;
+        }
+
+        StringBuilder replaced = new StringBuilder();
+        int last = 0;
+        for (int i = 0; i < dataUris.size(); i++) {
+            DataUri dataUri = dataUris.get(i);
+            replaced.append(content, last, dataUri.start).append(urls.get(i));
+            last = dataUri.end;
+        }
+        return replaced.append(content, last, content.length()).toString();
+    }
+
+    private static String matchMimeType(String content, int typeStart) {
+        for (String mimeType : MIME_TYPES) {
+            if (content.startsWith(mimeType + BASE64_MARKER, typeStart)) {
+                return mimeType;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isBase64(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                || c == '+' || c == '/' || c == '=';
+    }
+
+    static final class DataUri {
+        private final int start;
+        private final int dataStart;
+        private final int end;
+        private final String mimeType;
+        private final long decodedLength;
+
+        private DataUri(int start, int dataStart, int end, String mimeType, long decodedLength) {
+            this.start = start;
+            this.dataStart = dataStart;
+            this.end = end;
+            this.mimeType = mimeType;
+            this.decodedLength = decodedLength;
+        }
+
+        String getMimeType() {
+            return mimeType;
+        }
+
+        long getDecodedLength() {
+            return decodedLength;
+        }
+
+        // 본문 문자열을 그대로 읽으며 디코딩하는 스트림
+        InputStream openStream(String content) {
+            return Base64.getDecoder().wrap(new CharSequenceInputStream(content, dataStart, end));
+        }
+    }
+
+    // 문자열의 일부 구간을 ASCII 바이트로 읽는 스트림 (Base64 문자는 모두 ASCII)
+    private static final class CharSequenceInputStream extends InputStream {
+        private final CharSequence source;
+        private final int end;
+        private int position;
+
+        private CharSequenceInputStream(CharSequence source, int start, int end) {
+            this.source = source;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read() {
+            return position < end ? source.charAt(position++) : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (position >= end) {
+                return -1;
+            }
+            int count = Math.min(length, end - position);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) source.charAt(position++);
+            }
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return end - position;
+        }
+    }
+}
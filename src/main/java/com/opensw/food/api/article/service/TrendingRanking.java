@@ -0,0 +1,176 @@
+package com.opensw.food.api.article.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+// 시간 감쇠 인기 점수와 카테고리별 상위 K개
+// 점수는 기준 시각(landmark) 기준의 forward decay로 저장 - 활동 가중치 * e^(λ(t - landmark))
+// 모든 게시글에 같은 감쇠 계수가 곱해지므로 현재 시각으로 다시 계산하지 않아도 순서는 같음
+// 지수가 너무 커지기 전에 기준 시각을 옮기고(rebase) 전체 점수를 같은 비율로 줄임
+final class TrendingRanking {
+
+    // 전체 순위 키 (카테고리 ID는 1부터 시작)
+    static final long ALL = 0L;
+
+    private static final double MAX_EXPONENT = 30;
+
+    private static final Comparator<Entry> RANKING =
+            Comparator.comparingDouble((Entry entry) -> entry.score).thenComparingLong(entry -> entry.articleId).reversed();
+
+    private final double lambdaPerMs;
+    private final int topK;
+    private long landmark;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Long, TreeSet<Entry>> tops = new HashMap<>();
+
+    TrendingRanking(double halfLifeMs, int topK, long now) {
+        this.lambdaPerMs = Math.log(2) / halfLifeMs;
+        this.topK = topK;
+        this.landmark = now;
+    }
+
+    // 활동 반영 (weight는 음수 가능 - 좋아요 취소)
+    synchronized void add(long articleId, Long categoryId, double weight, long at) {
+        if (lambdaPerMs * (at - landmark) > MAX_EXPONENT) {
+            rebase(at);
+        }
+
+        Entry entry = entries.get(articleId);
+        if (entry == null) {
+            entry = new Entry(articleId, categoryId);
+            entries.put(articleId, entry);
+        } else {
+            removeFromTops(entry);
+        }
+        entry.score = Math.max(0, entry.score + weight * Math.exp(lambdaPerMs * (at - landmark)));
+        offer(ALL, entry);
+        if (entry.categoryId != null) {
+            offer(entry.categoryId, entry);
+        }
+    }
+
+    // 이미 점수가 있는 게시글인지
+    synchronized boolean contains(long articleId) {
+        return entries.containsKey(articleId);
+    }
+
+    synchronized void changeCategory(long articleId, Long categoryId) {
+        Entry entry = entries.get(articleId);
+        if (entry == null) {
+            return;
+        }
+        removeFromTops(entry);
+        entry.categoryId = categoryId;
+        offer(ALL, entry);
+        if (categoryId != null) {
+            offer(categoryId, entry);
+        }
+    }
+
+    synchronized void remove(long articleId) {
+        Entry entry = entries.remove(articleId);
+        if (entry != null) {
+            removeFromTops(entry);
+        }
+    }
+
+    // 상위 limit개의 게시글 ID - O(K)
+    synchronized List<Long> top(long key, int limit) {
+        List<Long> articleIds = new ArrayList<>(Math.min(limit, topK));
+        TreeSet<Entry> top = tops.get(key);
+        if (top == null) {
+            return articleIds;
+        }
+        for (Entry entry : top) {
+            if (articleIds.size() >= limit) {
+                break;
+            }
+            articleIds.add(entry.articleId);
+        }
+        return articleIds;
+    }
+
+    // 현재 시각 기준 점수가 threshold 미만인 게시글을 버리고 상위 K개를 다시 구성
+    // (좋아요 취소로 점수가 내려간 게시글 대신 들어가야 할 게시글도 이때 반영)
+    synchronized int prune(double threshold, long now) {
+        double decay = Math.exp(-lambdaPerMs * (now - landmark));
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.score * decay < threshold);
+
+        tops.clear();
+        for (Entry entry : entries.values()) {
+            offer(ALL, entry);
+            if (entry.categoryId != null) {
+                offer(entry.categoryId, entry);
+            }
+        }
+        return before - entries.size();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void rebase(long now) {
+        double factor = Math.exp(-lambdaPerMs * (now - landmark));
+        for (Entry entry : entries.values()) {
+            entry.score *= factor;
+        }
+        landmark = now;
+
+        // 점수 비율은 같지만 반올림으로 순서가 바뀔 수 있으므로 다시 구성
+        List<Entry> all = new ArrayList<>(entries.values());
+        tops.clear();
+        for (Entry entry : all) {
+            offer(ALL, entry);
+            if (entry.categoryId != null) {
+                offer(entry.categoryId, entry);
+            }
+        }
+    }
+
+    private void offer(long key, Entry entry) {
+        if (entry.score <= 0) {
+            return;
+        }
+        TreeSet<Entry> top = tops.computeIfAbsent(key, k -> new TreeSet<>(RANKING));
+        if (top.size() < topK) {
+            top.add(entry);
+            return;
+        }
+        if (RANKING.compare(entry, top.last()) < 0) {
+            top.pollLast();
+            top.add(entry);
+        }
+    }
+
+    // 점수를 바꾸기 전에 TreeSet에서 먼저 제거해야 함
+    private void removeFromTops(Entry entry) {
+        TreeSet<Entry> all = tops.get(ALL);
+        if (all != null) {
+            all.remove(entry);
+        }
+        if (entry.categoryId != null) {
+            TreeSet<Entry> category = tops.get(entry.categoryId);
+            if (category != null) {
+                category.remove(entry);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final long articleId;
+        private Long categoryId;
+        private double score;
+
+        private Entry(long articleId, Long categoryId) {
+            this.articleId = articleId;
+            this.categoryId = categoryId;
+        }
+    }
+}
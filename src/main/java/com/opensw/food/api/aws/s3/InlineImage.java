@@ -0,0 +1,15 @@
+package com.opensw.food.api.aws.s3;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.InputStream;
+
+// 게시글 본문에 Base64로 포함된 이미지 - 디코딩 스트림과 디코딩 후 크기
+@Getter
+@AllArgsConstructor
+public class InlineImage {
+    private final String fileName;
+    private final InputStream data;
+    private final long contentLength;
+}
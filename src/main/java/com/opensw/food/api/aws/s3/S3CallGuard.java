@@ -0,0 +1,308 @@
+package com.opensw.food.api.aws.s3;
+
+import com.opensw.food.common.exception.ServiceUnavailableException;
+import com.opensw.food.common.response.ErrorStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// S3 호출 격리 - S3가 느려지거나 장애가 나도 요청 스레드(와 그 요청이 잡고 있는 DB 연결)가 오래 묶이지 않도록 함
+// 1. 벌크헤드: 동기 호출은 전용 스레드풀(큐 포함 상한)에서 실행하고 자리가 없으면 바로 거절
+//    비동기 업로드는 동시 수 제한 안에서만 실행하고, 자리가 날 때까지 기다리다 서킷이 열리거나 제한 시간이 지나면 거절
+// 2. 시간 제한: 호출 종류별 제한 시간이 지나면 호출을 취소하고 실패로 처리
+// 3. 서킷 브레이커: 최근 호출의 실패 비율이 높으면 일정 시간 S3를 부르지 않고 바로 503 응답
+@Slf4j
+@Component
+public class S3CallGuard {
+
+    private final ThreadPoolExecutor executor;
+    // 자리를 기다리는 동안 서킷 상태를 확인하는 간격
+    private static final long PERMIT_POLL_MS = 50;
+
+    private final Semaphore asyncPermits;
+    private final int maxAsyncPermits;
+    private final Map<S3Operation, Long> timeoutsMs = new EnumMap<>(S3Operation.class);
+    private final S3CircuitBreaker circuitBreaker;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadRejections;
+
+    public S3CallGuard(MeterRegistry meterRegistry,
+                       @Value("${cloud.aws.s3.bulkhead.threads:8}") int threads,
+                       @Value("${cloud.aws.s3.bulkhead.queue-capacity:32}") int queueCapacity,
+                       @Value("${cloud.aws.s3.upload-concurrency:8}") int uploadConcurrency,
+                       @Value("${cloud.aws.s3.timeout.upload-ms:20000}") long uploadTimeoutMs,
+                       @Value("${cloud.aws.s3.timeout.read-ms:10000}") long readTimeoutMs,
+                       @Value("${cloud.aws.s3.timeout.delete-ms:10000}") long deleteTimeoutMs,
+                       @Value("${cloud.aws.s3.timeout.list-ms:30000}") long listTimeoutMs,
+                       @Value("${cloud.aws.s3.circuit.window-size:20}") int windowSize,
+                       @Value("${cloud.aws.s3.circuit.minimum-calls:10}") int minimumCalls,
+                       @Value("${cloud.aws.s3.circuit.failure-rate:0.5}") double failureRate,
+                       @Value("${cloud.aws.s3.circuit.open-ms:30000}") long openMs) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "s3-call-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        // 먼저 기다린 요청부터 자리를 받도록 공정 모드
+        this.asyncPermits = new Semaphore(uploadConcurrency, true);
+        this.maxAsyncPermits = uploadConcurrency;
+        this.timeoutsMs.put(S3Operation.UPLOAD, uploadTimeoutMs);
+        this.timeoutsMs.put(S3Operation.READ, readTimeoutMs);
+        this.timeoutsMs.put(S3Operation.DELETE, deleteTimeoutMs);
+        this.timeoutsMs.put(S3Operation.LIST, listTimeoutMs);
+        this.circuitBreaker = new S3CircuitBreaker(windowSize, minimumCalls, failureRate, openMs, System::currentTimeMillis);
+
+        this.meterRegistry = meterRegistry;
+        this.circuitOpenRejections = Counter.builder("s3.call.rejected")
+                .tag("reason", "circuit_open")
+                .description("S3 호출 거절 수")
+                .register(meterRegistry);
+        this.bulkheadRejections = Counter.builder("s3.call.rejected")
+                .tag("reason", "bulkhead_full")
+                .description("S3 호출 거절 수")
+                .register(meterRegistry);
+        Gauge.builder("s3.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("S3 서킷 브레이커 상태 (0: CLOSED, 1: HALF_OPEN, 2: OPEN)")
+                .register(meterRegistry);
+        Gauge.builder("s3.bulkhead.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        Gauge.builder("s3.bulkhead.queued", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("s3.bulkhead.async.available", asyncPermits, Semaphore::availablePermits)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 동기 클라이언트 호출 - 전용 스레드풀에서 실행하고 제한 시간까지만 기다림
+    // 호출 자체의 예외는 그대로 전달하고, 거절/시간 초과는 ServiceUnavailableException
+    public <T> T call(S3Operation operation, Callable<T> call) {
+        acquireCircuit(operation);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Future<T> future;
+        try {
+            future = executor.submit(call);
+        } catch (RejectedExecutionException e) {
+            circuitBreaker.release();
+            throw reject(operation, bulkheadRejections);
+        }
+
+        try {
+            T result = future.get(timeoutsMs.get(operation), TimeUnit.MILLISECONDS);
+            record(operation, sample, null);
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            record(operation, sample, e);
+            log.warn("S3 {} call timed out after {}ms", operation.getTag(), timeoutsMs.get(operation));
+            throw new ServiceUnavailableException(ErrorStatus.S3_UNAVAILABLE_EXCEPTION.getMessage());
+        } catch (ExecutionException e) {
+            record(operation, sample, e.getCause());
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            circuitBreaker.release();
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(ErrorStatus.S3_UNAVAILABLE_EXCEPTION.getMessage());
+        }
+    }
+
+    // 비동기 클라이언트 호출 - 동시 수 제한 안에서 시작하고, 제한 시간이 지나면 TimeoutException으로 완료
+    public <T> CompletableFuture<T> callAsync(S3Operation operation, Supplier<CompletableFuture<T>> call) {
+        return callAsyncAll(operation, List.of(call)).get(0);
+    }
+
+    // 여러 건의 비동기 호출 (게시글 한 개의 이미지 등) - 결과는 calls 순서대로
+    // 자리는 한 번에 확보하고(최소 1개, 나머지는 기다리는 요청이 없을 때 비어 있는 만큼), 자리보다 많은 호출은 확보한 자리에서 차례로 실행
+    // 앞선 호출이 실패하면 남은 호출은 시작하지 않고 같은 예외로 완료
+    public <T> List<CompletableFuture<T>> callAsyncAll(S3Operation operation, List<Supplier<CompletableFuture<T>>> calls) {
+        if (calls.isEmpty()) {
+            return List.of();
+        }
+        int lanes = acquirePermits(operation, calls.size());
+
+        List<CompletableFuture<T>> results = new ArrayList<>(calls.size());
+        for (int i = 0; i < calls.size(); i++) {
+            results.add(new CompletableFuture<>());
+        }
+        AsyncBatch<T> batch = new AsyncBatch<>(operation, calls, results);
+        for (int i = 0; i < lanes; i++) {
+            runNext(batch);
+        }
+        return results;
+    }
+
+    // 자리 확보 - 일부를 쥔 채 더 기다리지 않으므로 여러 요청이 서로의 자리를 기다리며 막히지 않음
+    // 서킷이 열려 있으면 바로, 자리가 끝내 나지 않으면 호출 제한 시간이 지난 뒤 거절
+    private int acquirePermits(S3Operation operation, int wanted) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutsMs.get(operation));
+        try {
+            while (!asyncPermits.tryAcquire(PERMIT_POLL_MS, TimeUnit.MILLISECONDS)) {
+                if (circuitBreaker.isOpen()) {
+                    throw reject(operation, circuitOpenRejections);
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    throw reject(operation, bulkheadRejections);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(ErrorStatus.S3_UNAVAILABLE_EXCEPTION.getMessage());
+        }
+
+        int acquired = 1;
+        while (acquired < Math.min(wanted, maxAsyncPermits) && !asyncPermits.hasQueuedThreads() && asyncPermits.tryAcquire()) {
+            acquired++;
+        }
+        return acquired;
+    }
+
+    // 자리 하나로 남은 호출을 하나씩 실행하고, 남은 호출이 없으면 자리 반환
+    private <T> void runNext(AsyncBatch<T> batch) {
+        int index = batch.next.getAndIncrement();
+        if (index >= batch.calls.size()) {
+            asyncPermits.release();
+            return;
+        }
+        CompletableFuture<T> result = batch.results.get(index);
+        Throwable failure = batch.failure;
+        if (failure != null) {
+            result.completeExceptionally(failure);
+            runNext(batch);
+            return;
+        }
+
+        start(batch.operation, batch.calls.get(index)).whenComplete((value, e) -> {
+            if (e != null) {
+                batch.failure = e;
+                result.completeExceptionally(e);
+            } else {
+                result.complete(value);
+            }
+            runNext(batch);
+        });
+    }
+
+    // 서킷이 열렸으면 호출하지 않고 바로 실패
+    private <T> CompletableFuture<T> start(S3Operation operation, Supplier<CompletableFuture<T>> call) {
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableFuture.failedFuture(reject(operation, circuitOpenRejections));
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            record(operation, sample, e);
+            return CompletableFuture.failedFuture(e);
+        }
+        // 시간 초과로 완료되면 SDK가 진행 중인 요청을 중단함
+        return future.orTimeout(timeoutsMs.get(operation), TimeUnit.MILLISECONDS)
+                .whenComplete((result, e) -> record(operation, sample, e));
+    }
+
+    // 시간 초과 또는 거절로 실패한 호출인지 (클라이언트에 503으로 응답할 대상)
+    public static boolean isUnavailable(Throwable e) {
+        Throwable cause = unwrap(e);
+        return cause instanceof TimeoutException || cause instanceof ServiceUnavailableException;
+    }
+
+    private void acquireCircuit(S3Operation operation) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw reject(operation, circuitOpenRejections);
+        }
+    }
+
+    private ServiceUnavailableException reject(S3Operation operation, Counter counter) {
+        counter.increment();
+        log.warn("S3 {} call rejected (circuit {}, {} queued)", operation.getTag(),
+                circuitBreaker.state(), executor.getQueue().size());
+        return new ServiceUnavailableException(ErrorStatus.S3_UNAVAILABLE_EXCEPTION.getMessage());
+    }
+
+    // 4xx 응답은 S3가 정상 응답한 것이므로 서킷 브레이커에서 성공으로 취급
+    private void record(S3Operation operation, Timer.Sample sample, Throwable error) {
+        Throwable cause = unwrap(error);
+        String outcome;
+        if (cause == null) {
+            outcome = "success";
+        } else if (cause instanceof TimeoutException) {
+            outcome = "timeout";
+        } else if (cause instanceof AwsServiceException serviceException
+                && serviceException.statusCode() > 0 && serviceException.statusCode() < 500) {
+            outcome = "client_error";
+        } else {
+            outcome = "failure";
+        }
+
+        if (cause == null || "client_error".equals(outcome)) {
+            circuitBreaker.onSuccess();
+        } else {
+            circuitBreaker.onFailure();
+        }
+        sample.stop(Timer.builder("s3.call")
+                .tag("operation", operation.getTag())
+                .tag("outcome", outcome)
+                .description("S3 호출 시간")
+                .register(meterRegistry));
+    }
+
+    private static class AsyncBatch<T> {
+        private final S3Operation operation;
+        private final List<Supplier<CompletableFuture<T>>> calls;
+        private final List<CompletableFuture<T>> results;
+        private final AtomicInteger next = new AtomicInteger();
+        private volatile Throwable failure;
+
+        private AsyncBatch(S3Operation operation, List<Supplier<CompletableFuture<T>>> calls, List<CompletableFuture<T>> results) {
+            this.operation = operation;
+            this.calls = calls;
+            this.results = results;
+        }
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        Throwable cause = e;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,121 @@
+package com.opensw.food.api.aws.s3;
+
+import java.util.function.LongSupplier;
+
+// S3 호출 서킷 브레이커 - 최근 windowSize개 호출 중 실패 비율이 기준 이상이면 openMs 동안 호출을 바로 거절(OPEN)
+// 이후 한 번의 시험 호출(HALF_OPEN)이 성공하면 다시 허용(CLOSED), 실패하면 다시 OPEN
+final class S3CircuitBreaker {
+
+    enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final boolean[] failures;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openMs;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int next;
+    private int recorded;
+    private int failureCount;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    S3CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openMs, LongSupplier clock) {
+        this.failures = new boolean[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, failures.length));
+        this.failureRateThreshold = failureRateThreshold;
+        this.openMs = openMs;
+        this.clock = clock;
+    }
+
+    // 호출 허용 여부 - 허용되면 결과를 onSuccess/onFailure/release 중 하나로 반드시 알려야 함
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openMs) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    // OPEN 이전에 시작된 호출의 결과는 반영하지 않음
+    synchronized void onSuccess() {
+        if (state == State.OPEN) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            close();
+            return;
+        }
+        record(false);
+    }
+
+    synchronized void onFailure() {
+        if (state == State.OPEN) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (recorded >= minimumCalls && (double) failureCount / recorded >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    // 허용받았지만 호출하지 않은 경우 (벌크헤드 거절 등)
+    synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    // 지금 호출하면 바로 거절되는지 (자리를 기다리는 호출이 더 기다리지 않도록)
+    synchronized boolean isOpen() {
+        return state == State.OPEN && clock.getAsLong() - openedAt < openMs;
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == failures.length) {
+            if (failures[next]) {
+                failureCount--;
+            }
+        } else {
+            recorded++;
+        }
+        failures[next] = failure;
+        if (failure) {
+            failureCount++;
+        }
+        next = (next + 1) % failures.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+        trialInFlight = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        trialInFlight = false;
+        next = 0;
+        recorded = 0;
+        failureCount = 0;
+    }
+}
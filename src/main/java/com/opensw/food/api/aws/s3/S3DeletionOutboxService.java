@@ -0,0 +1,94 @@
+package com.opensw.food.api.aws.s3;
+
+import com.opensw.food.api.aws.s3.entity.S3DeletionOutbox;
+import com.opensw.food.api.aws.s3.repository.S3DeletionOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+// S3 객체 삭제 아웃박스 - 삭제 대상을 DB 트랜잭션과 함께 기록하고, 워커가 DeleteObjects(최대 1000개)로 일괄 삭제
+@Slf4j
+@Service
+public class S3DeletionOutboxService {
+
+    private static final int DRAIN_BATCH_SIZE = 1000;
+    private static final int MAX_ATTEMPTS = 10;
+    private static final long BASE_BACKOFF_SECONDS = 10;
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+
+    private final S3DeletionOutboxRepository outboxRepository;
+    private final S3Service s3Service;
+    private final TransactionTemplate transactionTemplate;
+
+    public S3DeletionOutboxService(S3DeletionOutboxRepository outboxRepository,
+                                   S3Service s3Service,
+                                   TransactionTemplate transactionTemplate) {
+        this.outboxRepository = outboxRepository;
+        this.s3Service = s3Service;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // 호출한 쪽의 트랜잭션 안에서만 기록 (엔티티 변경이 롤백되면 삭제 대상도 함께 롤백)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Collection<String> imageUrls) {
+        LocalDateTime now = LocalDateTime.now();
+        List<S3DeletionOutbox> entries = imageUrls.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(imageUrl -> S3DeletionOutbox.builder().imageUrl(imageUrl).nextAttemptAt(now).build())
+                .toList();
+        outboxRepository.saveAll(entries);
+    }
+
+    @Scheduled(fixedDelayString = "${s3.deletion.drain-interval-ms:5000}")
+    public void drain() {
+        List<S3DeletionOutbox> due;
+        do {
+            due = outboxRepository.findDue(LocalDateTime.now(), PageRequest.of(0, DRAIN_BATCH_SIZE));
+            if (due.isEmpty()) {
+                return;
+            }
+            drainBatch(due);
+        } while (due.size() == DRAIN_BATCH_SIZE);
+    }
+
+    private void drainBatch(List<S3DeletionOutbox> due) {
+        Set<String> failedUrls = new HashSet<>(s3Service.deleteFiles(due.stream().map(S3DeletionOutbox::getImageUrl).toList()));
+
+        List<Long> doneIds = new ArrayList<>();
+        List<S3DeletionOutbox> retries = new ArrayList<>();
+        for (S3DeletionOutbox entry : due) {
+            if (!failedUrls.contains(entry.getImageUrl())) {
+                doneIds.add(entry.getId());
+            } else if (entry.getAttempts() + 1 >= MAX_ATTEMPTS) {
+                // 재시도 한도 초과 - 남은 객체는 고아 객체 정리에서 다시 삭제 대상이 됨
+                log.error("Giving up deleting S3 object after {} attempts: {}", MAX_ATTEMPTS, entry.getImageUrl());
+                doneIds.add(entry.getId());
+            } else {
+                retries.add(entry);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!doneIds.isEmpty()) {
+                outboxRepository.deleteByIds(doneIds);
+            }
+            for (S3DeletionOutbox entry : retries) {
+                outboxRepository.markFailed(entry.getId(), now.plusSeconds(backoffSeconds(entry.getAttempts())));
+            }
+        });
+    }
+
+    // 지수 백오프 (10초, 20초, 40초 ... 최대 1시간)
+    private long backoffSeconds(int attempts) {
+        return Math.min(BASE_BACKOFF_SECONDS << Math.min(attempts, 20), MAX_BACKOFF_SECONDS);
+    }
+}
@@ -0,0 +1,16 @@
+package com.opensw.food.api.aws.s3;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// S3 호출 종류 - 종류별로 시간 제한과 메트릭 태그를 구분
+@Getter
+@RequiredArgsConstructor
+public enum S3Operation {
+    UPLOAD("upload"),
+    READ("read"),
+    DELETE("delete"),
+    LIST("list");
+
+    private final String tag;
+}
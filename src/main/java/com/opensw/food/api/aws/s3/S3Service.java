@@ -1,81 +1,218 @@
 package com.opensw.food.api.aws.s3;
 
-import lombok.RequiredArgsConstructor;
+import com.opensw.food.common.exception.BaseException;
+import com.opensw.food.common.exception.InternalServerException;
+import com.opensw.food.common.exception.ServiceUnavailableException;
+import com.opensw.food.common.response.ErrorStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.core.sync.RequestBody;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class S3Service {
+    private static final int MAX_DELETE_KEYS = 1000;
+
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    // 모든 S3 호출은 동시 수 제한, 시간 제한, 서킷 브레이커를 거침
+    private final S3CallGuard callGuard;
+    private final String bucketName;
+    private final String domain;
 
-    @Value("${cloud.aws.s3.bucketName}")
-    private String bucketName;
+    // 업로드 본문(InputStream)을 읽는 스레드
+    private final ExecutorService uploadStreamExecutor;
 
-    @Value("${cloud.aws.s3.domain}")
-    private String domain;
+    public S3Service(S3Client s3Client,
+                     S3AsyncClient s3AsyncClient,
+                     S3CallGuard callGuard,
+                     @Value("${cloud.aws.s3.bucketName}") String bucketName,
+                     @Value("${cloud.aws.s3.domain}") String domain,
+                     @Value("${cloud.aws.s3.upload-concurrency:8}") int uploadConcurrency) {
+        this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.callGuard = callGuard;
+        this.bucketName = bucketName;
+        this.domain = domain;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.uploadStreamExecutor = Executors.newFixedThreadPool(uploadConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "s3-upload-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadStreamExecutor.shutdown();
+    }
 
     public List<String> uploadArticleImages(String userIdentifier, List<MultipartFile> files) throws IOException {
         String dir = "article-images";
-        List<String> imageUrls = new ArrayList<>();
+        List<PendingUpload> uploads = new ArrayList<>();
+        // 업로드가 거절되거나 중간에 실패해도 열어 둔 파일 스트림은 모두 닫음
+        List<InputStream> streams = new ArrayList<>();
 
         // 하나의 랜덤 문자열 생성
         String randomString = RandomStringUtils.randomAlphanumeric(16);
 
-        for (MultipartFile file : files) {
-            if (file.isEmpty()) continue;
+        try {
+            for (MultipartFile file : files) {
+                if (file.isEmpty()) continue;
+
+                String currentDateTime = new SimpleDateFormat("yyyy-MM-dd_HH:mm:ss").format(new Date());
+                String originalFilename = file.getOriginalFilename();
+                String extension = "";
 
-            String currentDateTime = new SimpleDateFormat("yyyy-MM-dd_HH:mm:ss").format(new Date());
-            String originalFilename = file.getOriginalFilename();
-            String extension = "";
+                if (originalFilename != null && originalFilename.contains(".")) {
+                    extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+                    originalFilename = originalFilename.substring(0, originalFilename.lastIndexOf(".")); // 확장자 제거
+                }
 
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-                originalFilename = originalFilename.substring(0, originalFilename.lastIndexOf(".")); // 확장자 제거
+                // 파일명 구성: {원파일이름}_{currentDateTime}{extension}
+                String fileName = originalFilename + "_" + currentDateTime + extension;
+                // 파일 경로 구성: memo-images/{userId}/{랜덤문자}/파일명
+                String fileKey = dir + "/" + userIdentifier + "/" + randomString + "/" + fileName;
+
+                InputStream stream = file.getInputStream();
+                streams.add(stream);
+                uploads.add(new PendingUpload(fileKey,
+                        AsyncRequestBody.fromInputStream(stream, file.getSize(), uploadStreamExecutor)));
             }
 
-            // 파일명 구성: {원파일이름}_{currentDateTime}{extension}
-            String fileName = originalFilename + "_" + currentDateTime + extension;
-            // 파일 경로 구성: memo-images/{userId}/{랜덤문자}/파일명
-            String fileKey = dir + "/" + userIdentifier + "/" + randomString + "/" + fileName;
+            return uploadAll(uploads);
+        } finally {
+            closeAll(streams);
+        }
+    }
 
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(fileKey)
-                    .acl("public-read")
-                    .build();
+    // 본문 인라인 이미지 일괄 업로드
+    public List<String> uploadInlineImages(String userIdentifier, List<InlineImage> images) {
+        String dir = "inline-images";
+        List<PendingUpload> uploads = new ArrayList<>();
+
+        try {
+            for (InlineImage image : images) {
+                String fileKey = dir + "/" + userIdentifier + "/" + image.getFileName();
+                uploads.add(new PendingUpload(fileKey,
+                        AsyncRequestBody.fromInputStream(image.getData(), image.getContentLength(), uploadStreamExecutor)));
+            }
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-            imageUrls.add(domain + "/" + fileKey);
+            return uploadAll(uploads);
+        } finally {
+            closeAll(images.stream().map(InlineImage::getData).toList());
         }
+    }
 
-        return imageUrls;
+    private void closeAll(List<InputStream> streams) {
+        for (InputStream stream : streams) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                log.warn("Failed to close upload stream: {}", e.getMessage());
+            }
+        }
     }
 
-    public String uploadInlineImage(String userIdentifier, String fileName, byte[] fileData) {
-        String dir = "inline-images";
-        String fileKey = dir + "/" + userIdentifier + "/" + fileName;
+    // 모든 업로드를 동시에(최대 uploadConcurrency개) 진행하고 - 확보한 자리보다 많은 이미지는 그 자리에서 차례로 업로드
+    // 하나라도 실패하면 이미 올라간 객체를 지운 뒤 예외를 던짐 (S3 시간 초과/거절이면 503)
+    private List<String> uploadAll(List<PendingUpload> uploads) {
+        List<Supplier<CompletableFuture<String>>> calls = new ArrayList<>(uploads.size());
+        for (PendingUpload upload : uploads) {
+            calls.add(() -> startUpload(upload));
+        }
 
+        List<CompletableFuture<String>> futures = callGuard.callAsyncAll(S3Operation.UPLOAD, calls);
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (RuntimeException e) {
+            throw rollback(futures, e);
+        }
+
+        List<String> imageUrls = new ArrayList<>(futures.size());
+        for (CompletableFuture<String> future : futures) {
+            imageUrls.add(domain + "/" + future.join());
+        }
+        return imageUrls;
+    }
+
+    private CompletableFuture<String> startUpload(PendingUpload upload) {
         PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                 .bucket(bucketName)
-                .key(fileKey)
+                .key(upload.key)
                 .acl("public-read")
                 .build();
 
-        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(fileData));
-        return domain + "/" + fileKey;
+        return s3AsyncClient.putObject(putObjectRequest, upload.body)
+                .thenApply(response -> upload.key);
+    }
+
+    // 실패한 업로드를 포함해 모두 끝날 때까지(최대 제한 시간) 기다린 후, 성공한 객체만 삭제
+    // S3가 응답하지 않아 지우지 못한 객체는 고아 이미지 정리(ArticleImageReconciler)에서 삭제됨
+    private BaseException rollback(List<CompletableFuture<String>> futures, RuntimeException cause) {
+        log.error("Failed to upload images to S3: {}", cause.getMessage());
+        List<CompletableFuture<?>> deletes = new ArrayList<>();
+        for (CompletableFuture<String> future : futures) {
+            String key;
+            try {
+                key = future.join();
+            } catch (CompletionException e) {
+                continue;
+            }
+            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build();
+            try {
+                deletes.add(callGuard.callAsync(S3Operation.DELETE, () -> s3AsyncClient.deleteObject(deleteObjectRequest))
+                        .exceptionally(e -> {
+                            log.warn("Failed to delete uploaded image {} during rollback: {}", key, e.getMessage());
+                            return null;
+                        }));
+            } catch (ServiceUnavailableException e) {
+                log.warn("Skipped deleting uploaded image {} during rollback: S3 unavailable", key);
+            }
+        }
+        CompletableFuture.allOf(deletes.toArray(new CompletableFuture[0])).join();
+
+        if (S3CallGuard.isUnavailable(cause)) {
+            return new ServiceUnavailableException(ErrorStatus.S3_UNAVAILABLE_EXCEPTION.getMessage());
+        }
+        return new InternalServerException(ErrorStatus.FAIL_UPLOAD_ARTICLE_IMAGE.getMessage());
     }
 
     public String uploadProfileImage(String email, MultipartFile file) throws IOException {
@@ -100,7 +237,42 @@ public class S3Service {
                 .key(fileKey)
                 .acl("public-read")
                 .build();
-        s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+        RequestBody requestBody = RequestBody.fromInputStream(file.getInputStream(), file.getSize());
+        callGuard.call(S3Operation.UPLOAD, () -> s3Client.putObject(putObjectRequest, requestBody));
+        return domain + "/" + fileKey;
+    }
+
+    // 업로드된 파일 읽기 (파생 이미지 생성용)
+    // 본문까지 읽기 제한 시간 안에서 모두 읽어 옴 (응답 헤더 이후 본문이 멈춰도 호출한 쪽이 묶이지 않도록)
+    public InputStream openFile(String imageUrl) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(imageUrl.replace(domain + "/", ""))
+                .build();
+        byte[] data = callGuard.call(S3Operation.READ, () -> {
+            try (InputStream in = s3Client.getObject(getObjectRequest)) {
+                return in.readAllBytes();
+            }
+        });
+        return new ByteArrayInputStream(data);
+    }
+
+    // 원본 옆에 파생 이미지 저장: {원본 경로(확장자 제외)}{suffix}
+    public String uploadDerivative(String originalUrl, String suffix, byte[] data, String contentType) {
+        String originalKey = originalUrl.replace(domain + "/", "");
+        int extensionIndex = originalKey.lastIndexOf('.');
+        if (extensionIndex > originalKey.lastIndexOf('/')) {
+            originalKey = originalKey.substring(0, extensionIndex);
+        }
+        String fileKey = originalKey + suffix;
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(fileKey)
+                .acl("public-read")
+                .contentType(contentType)
+                .build();
+        callGuard.call(S3Operation.UPLOAD, () -> s3Client.putObject(putObjectRequest, RequestBody.fromBytes(data)));
         return domain + "/" + fileKey;
     }
 
@@ -111,7 +283,69 @@ public class S3Service {
                     .bucket(bucketName)
                     .key(fileKey)
                     .build();
-            s3Client.deleteObject(deleteObjectRequest);
+            callGuard.call(S3Operation.DELETE, () -> s3Client.deleteObject(deleteObjectRequest));
+        }
+    }
+
+    // 여러 파일을 DeleteObjects로 한 번에 삭제 (요청당 최대 1000개), 삭제에 실패한 URL 반환
+    public List<String> deleteFiles(Collection<String> imageUrls) {
+        List<String> keys = imageUrls.stream()
+                .filter(imageUrl -> imageUrl != null && imageUrl.startsWith(domain))
+                .map(imageUrl -> imageUrl.replace(domain + "/", ""))
+                .distinct()
+                .toList();
+
+        List<String> failedUrls = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_KEYS) {
+            List<String> chunk = keys.subList(from, Math.min(from + MAX_DELETE_KEYS, keys.size()));
+            DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder()
+                            .objects(chunk.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                            .quiet(true)
+                            .build())
+                    .build();
+            try {
+                DeleteObjectsResponse response = callGuard.call(S3Operation.DELETE, () -> s3Client.deleteObjects(deleteObjectsRequest));
+                response.errors().forEach(error -> failedUrls.add(domain + "/" + error.key()));
+            } catch (SdkException | ServiceUnavailableException e) {
+                log.warn("Failed to delete {} objects from S3: {}", chunk.size(), e.getMessage());
+                chunk.forEach(key -> failedUrls.add(domain + "/" + key));
+            }
+        }
+        return failedUrls;
+    }
+
+    // 디렉토리 아래에서 modifiedBefore 이전에 올라간 객체 URL을 페이지(최대 1000개) 단위로 전달
+    // 페이지마다 따로 시간 제한을 두고 조회 (consumer는 호출한 스레드에서 실행)
+    public void forEachObjectPage(String dir, Instant modifiedBefore, Consumer<List<String>> consumer) {
+        String continuationToken = null;
+        do {
+            ListObjectsV2Request listObjectsRequest = ListObjectsV2Request.builder()
+                    .bucket(bucketName)
+                    .prefix(dir + "/")
+                    .continuationToken(continuationToken)
+                    .build();
+            ListObjectsV2Response page = callGuard.call(S3Operation.LIST, () -> s3Client.listObjectsV2(listObjectsRequest));
+
+            List<String> imageUrls = page.contents().stream()
+                    .filter(object -> object.lastModified().isBefore(modifiedBefore))
+                    .map(object -> domain + "/" + object.key())
+                    .toList();
+            if (!imageUrls.isEmpty()) {
+                consumer.accept(imageUrls);
+            }
+            continuationToken = Boolean.TRUE.equals(page.isTruncated()) ? page.nextContinuationToken() : null;
+        } while (continuationToken != null);
+    }
+
+    private static class PendingUpload {
+        private final String key;
+        private final AsyncRequestBody body;
+
+        private PendingUpload(String key, AsyncRequestBody body) {
+            this.key = key;
+            this.body = body;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,37 @@
+package com.opensw.food.api.aws.s3.entity;
+
+import com.opensw.food.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 삭제할 S3 객체 - 엔티티 변경과 같은 트랜잭션에서 기록하고, 커밋 이후 백그라운드에서 삭제
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "s3_deletion_outbox", indexes = {
+        @Index(name = "idx_s3_deletion_outbox_next_attempt_at", columnList = "next_attempt_at, outbox_id")
+})
+public class S3DeletionOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(nullable = false, length = 1024)
+    private String imageUrl;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Builder
+    public S3DeletionOutbox(String imageUrl, LocalDateTime nextAttemptAt) {
+        this.imageUrl = imageUrl;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
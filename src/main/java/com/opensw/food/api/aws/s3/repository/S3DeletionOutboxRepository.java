@@ -0,0 +1,28 @@
+package com.opensw.food.api.aws.s3.repository;
+
+import com.opensw.food.api.aws.s3.entity.S3DeletionOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface S3DeletionOutboxRepository extends JpaRepository<S3DeletionOutbox, Long> {
+
+    // 재시도 시각이 된 삭제 대상 (오래된 순)
+    @Query("select o from S3DeletionOutbox o where o.nextAttemptAt <= :now order by o.nextAttemptAt, o.id")
+    List<S3DeletionOutbox> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("delete from S3DeletionOutbox o where o.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update S3DeletionOutbox o set o.attempts = o.attempts + 1, o.nextAttemptAt = :nextAttemptAt " +
+            "where o.id = :id")
+    int markFailed(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+}
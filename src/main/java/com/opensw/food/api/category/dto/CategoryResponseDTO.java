@@ -0,0 +1,14 @@
+package com.opensw.food.api.category.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryResponseDTO {
+    private Long id;
+    private String name;
+    private long articleCnt;
+}
@@ -0,0 +1,28 @@
+package com.opensw.food.api.category.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 게시글 카테고리 사전 - 게시글에는 이름 대신 카테고리 ID만 저장
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "category", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_category_name", columnNames = "name")
+})
+public class Category {
+
+    public static final int MAX_NAME_LENGTH = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "category_id")
+    private Long id;
+
+    @Column(nullable = false, length = MAX_NAME_LENGTH)
+    private String name;
+
+    public Category(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,21 @@
+package com.opensw.food.api.category.repository;
+
+import com.opensw.food.api.category.dto.CategoryResponseDTO;
+import com.opensw.food.api.category.entity.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    Optional<Category> findByName(String name);
+
+    // 카테고리별 게시글 수 (탈퇴한 회원의 게시글 제외)
+    @Query("select new com.opensw.food.api.category.dto.CategoryResponseDTO(c.id, c.name, count(m.memberId)) " +
+            "from Category c left join Article a on a.category = c " +
+            "left join a.member m on m.isDeleted = false " +
+            "group by c.id, c.name order by c.id")
+    List<CategoryResponseDTO> findAllWithArticleCount();
+}
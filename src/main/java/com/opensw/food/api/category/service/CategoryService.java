@@ -0,0 +1,103 @@
+package com.opensw.food.api.category.service;
+
+import com.opensw.food.api.category.dto.CategoryResponseDTO;
+import com.opensw.food.api.category.entity.Category;
+import com.opensw.food.api.category.repository.CategoryRepository;
+import com.opensw.food.common.exception.BadRequestException;
+import com.opensw.food.common.response.ErrorStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 카테고리 사전 - 이름 -> 카테고리 매핑은 메모리에 캐시하고, 처음 보는 이름은 사전에 추가
+// 사전 크기는 category.max-count로 제한 (누구나 게시글로 카테고리를 만들 수 있으므로)
+@Service
+public class CategoryService {
+
+    // 이름 캐시 최대 개수 (넘으면 DB에서 조회)
+    private static final int MAX_CACHED_NAMES = 1000;
+
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long listCacheTtlMs;
+    private final long maxCount;
+
+    private final Map<String, Category> byName = new ConcurrentHashMap<>();
+    private volatile CachedCategories cachedCategories;
+
+    public CategoryService(CategoryRepository categoryRepository,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${category.list.cache-ttl-ms:60000}") long listCacheTtlMs,
+                           @Value("${category.max-count:1000}") long maxCount) {
+        this.categoryRepository = categoryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.listCacheTtlMs = listCacheTtlMs;
+        this.maxCount = maxCount;
+    }
+
+    // 이름으로 카테고리 조회, 없으면 생성 (트랜잭션 밖에서 호출)
+    // 앞뒤 공백은 제거하며, 빈 이름(게시글 등록/수정의 필수 값 누락과 같은 400), 50자 초과, 사전이 가득 찬 뒤의 새 이름은 400
+    public Category resolve(String name) {
+        String normalized = name == null ? "" : name.strip();
+        if (normalized.isEmpty()) {
+            throw new BadRequestException(ErrorStatus.VALIDATION_REQUEST_MISSING_EXCEPTION.getMessage());
+        }
+        if (normalized.length() > Category.MAX_NAME_LENGTH) {
+            throw new BadRequestException(ErrorStatus.INVALID_CATEGORY_EXCEPTION.getMessage());
+        }
+
+        Category cached = byName.get(normalized);
+        if (cached != null) {
+            return cached;
+        }
+
+        Category category = categoryRepository.findByName(normalized).orElseGet(() -> create(normalized));
+        if (byName.size() < MAX_CACHED_NAMES) {
+            byName.put(normalized, category);
+        }
+        return category;
+    }
+
+    // 동시에 같은 이름이 생성되면 유니크 제약으로 실패하므로 먼저 저장된 카테고리를 사용
+    // 개수 확인과 저장 사이에 다른 이름이 동시에 추가되면 제한을 조금 넘을 수 있음
+    private Category create(String name) {
+        if (categoryRepository.count() >= maxCount) {
+            throw new BadRequestException(ErrorStatus.CATEGORY_LIMIT_EXCEEDED_EXCEPTION.getMessage());
+        }
+        try {
+            Category created = transactionTemplate.execute(status -> categoryRepository.save(new Category(name)));
+            cachedCategories = null;
+            return created;
+        } catch (DataIntegrityViolationException e) {
+            return categoryRepository.findByName(name).orElseThrow(() -> e);
+        }
+    }
+
+    // 카테고리 목록과 게시글 수 - 집계 결과를 category.list.cache-ttl-ms 동안 재사용 (게시글 수는 그만큼 늦게 반영될 수 있음)
+    public List<CategoryResponseDTO> getCategories() {
+        CachedCategories cached = cachedCategories;
+        long now = System.currentTimeMillis();
+        if (cached != null && cached.expiresAt > now) {
+            return cached.categories;
+        }
+
+        List<CategoryResponseDTO> categories = List.copyOf(categoryRepository.findAllWithArticleCount());
+        cachedCategories = new CachedCategories(categories, now + listCacheTtlMs);
+        return categories;
+    }
+
+    private static class CachedCategories {
+        private final List<CategoryResponseDTO> categories;
+        private final long expiresAt;
+
+        private CachedCategories(List<CategoryResponseDTO> categories, long expiresAt) {
+            this.categories = categories;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package com.opensw.food.api.comment.controller;
 
 import com.opensw.food.api.comment.dto.CommentCreateDTO;
-import com.opensw.food.api.comment.dto.CommentResponseDTO;
+import com.opensw.food.api.comment.dto.CommentThreadResponseDTO;
 import com.opensw.food.api.comment.dto.CommentUpdateDTO;
 import com.opensw.food.api.comment.service.CommentService;
-import com.opensw.food.api.member.service.MemberService;
 import com.opensw.food.common.exception.NotFoundException;
+import com.opensw.food.common.resolver.LoginMemberId;
 import com.opensw.food.common.response.ApiResponse;
 import com.opensw.food.common.response.ErrorStatus;
 import com.opensw.food.common.response.SuccessStatus;
@@ -14,14 +14,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 
-import java.util.List;
-
 @Tag(name = "Comment", description = "댓글 관련 API 입니다.")
 @RestController
 @RequestMapping("/api/v1/comment")
@@ -29,7 +26,6 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
-    private final MemberService memberService;
 
     @Operation(
             summary = "게시글 댓글 작성 API",
@@ -42,7 +38,7 @@ public class CommentController {
     })
     @PostMapping
     public ResponseEntity<ApiResponse<Void>> createComment(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @LoginMemberId Long userId,
             @RequestBody @Valid CommentCreateDTO commentCreateDTO
     ) {
 
@@ -55,8 +51,6 @@ public class CommentController {
         if (commentCreateDTO.getArticleId() == null) {
             throw new NotFoundException(ErrorStatus.VALIDATION_REQUEST_MISSING_EXCEPTION.getMessage());
         }
-
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         commentService.createComment(commentCreateDTO, userId);
 
         return ApiResponse.success_only(SuccessStatus.CREATE_COMMENT_SUCCESS);
@@ -64,16 +58,21 @@ public class CommentController {
 
     @Operation(
             summary = "게시글 댓글 조회 API",
-            description = "게시글에 달린 댓글을 조회합니다."
+            description = "게시글에 달린 댓글을 최상위 댓글 단위로 조회합니다. 답글은 replies에 트리로 포함되며, 다음 페이지는 응답의 nextCursor를 cursor로 넘겨주세요. / 응답의 ETag를 If-None-Match로 넘기면 변경이 없을 때 304를 반환합니다."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "댓글 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "게시글 ID가 입력되지 않았습니다."),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없습니다.")
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CommentResponseDTO>>> getCommentsByArticleId(
-            @RequestParam Long articleId
+    public ResponseEntity<ApiResponse<CommentThreadResponseDTO>> getCommentsByArticleId(
+            @RequestParam Long articleId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @LoginMemberId Long userId,
+            WebRequest webRequest
     ) {
 
         // 게시글 ID 누락시 예외처리
@@ -81,7 +80,13 @@ public class CommentController {
             throw new NotFoundException(ErrorStatus.VALIDATION_REQUEST_MISSING_EXCEPTION.getMessage());
         }
 
-        List<CommentResponseDTO> comments = commentService.getCommentsByArticleId(articleId);
+        // 변경이 없으면 304
+        String eTag = commentService.getCommentsETag(articleId, cursor, size, userId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        CommentThreadResponseDTO comments = commentService.getCommentsByArticleId(articleId, cursor, size, userId);
 
         return ApiResponse.success(SuccessStatus.GET_COMMENT_SUCCESS, comments);
     }
@@ -99,7 +104,7 @@ public class CommentController {
     public ResponseEntity<ApiResponse<Void>> updateComment(
             @PathVariable Long id,
             @RequestBody CommentUpdateDTO commentUpdateDTO,
-            @AuthenticationPrincipal UserDetails userDetails
+            @LoginMemberId Long userId
     ) {
         //댓글 ID 누락시 예외처리
         if (id == null) {
@@ -110,8 +115,6 @@ public class CommentController {
         if (commentUpdateDTO.getComment() == null || commentUpdateDTO.getComment().isEmpty()) {
             throw new NotFoundException(ErrorStatus.VALIDATION_REQUEST_MISSING_EXCEPTION.getMessage());
         }
-
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         commentService.updateComment(id, commentUpdateDTO, userId);
 
         return ApiResponse.success_only(SuccessStatus.MODIFY_COMMENT_SUCCESS);
@@ -129,14 +132,12 @@ public class CommentController {
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteComment(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails
+            @LoginMemberId Long userId
     ) {
         //댓글 ID 누락시 예외처리
         if (id == null) {
             throw new NotFoundException(ErrorStatus.VALIDATION_REQUEST_MISSING_EXCEPTION.getMessage());
         }
-
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         commentService.deleteComment(id, userId);
 
         return ApiResponse.success_only(SuccessStatus.DELETE_COMMENT_SUCCESS);
@@ -1,30 +1,46 @@
 package com.opensw.food.api.comment.dto;
 
-import com.opensw.food.api.comment.entity.Comment;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 
 @Getter
 @Builder
 public class CommentResponseDTO {
 
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd:HH:mm:ss");
+    // 탈퇴한 회원의 댓글은 답글 트리를 유지하기 위해 자리만 남기고 내용을 가림
+    private static final String WITHDRAWN_COMMENT = "탈퇴한 회원의 댓글입니다.";
+    private static final String WITHDRAWN_NICKNAME = "(탈퇴한 회원)";
+
     private Long id;
     private String comment;
     private String nickname;
     private Long parentId;
     private String updatedAt;
+    private Integer replyCount; // 스레드 전체 답글 수 (최상위 댓글에만)
+    private List<CommentResponseDTO> replies;
 
-    public static CommentResponseDTO fromEntity(Comment comment) {
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd:HH:mm:ss");
-
+    public static CommentResponseDTO fromRow(CommentRow row) {
         return CommentResponseDTO.builder()
-                .id(comment.getId())
-                .comment(comment.getComment())
-                .nickname(comment.getMember().getNickname())
-                .parentId(comment.getParentComment() != null ? comment.getParentComment().getId() : null)
-                .updatedAt(comment.getUpdatedAt().format(dateTimeFormatter))
+                .id(row.getId())
+                .comment(row.isWriterDeleted() ? WITHDRAWN_COMMENT : row.getComment())
+                .nickname(row.isWriterDeleted() ? WITHDRAWN_NICKNAME : row.getNickname())
+                .parentId(row.getParentId())
+                .updatedAt(row.getUpdatedAt().format(DATE_TIME_FORMATTER))
+                .replyCount(row.getParentId() == null ? 0 : null)
+                .replies(new ArrayList<>())
                 .build();
     }
-}
\ No newline at end of file
+
+    public void addReply(CommentResponseDTO reply) {
+        replies.add(reply);
+    }
+
+    public void increaseReplyCount() {
+        replyCount++;
+    }
+}
@@ -0,0 +1,19 @@
+package com.opensw.food.api.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 댓글 스레드 조회용 프로젝션 (작성자 닉네임 포함)
+@Getter
+@AllArgsConstructor
+public class CommentRow {
+    private Long id;
+    private String comment;
+    private String nickname;
+    private boolean writerDeleted;
+    private Long parentId;
+    private Long rootId;
+    private LocalDateTime updatedAt;
+}
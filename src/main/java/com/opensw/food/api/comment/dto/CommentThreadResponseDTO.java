@@ -0,0 +1,15 @@
+package com.opensw.food.api.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentThreadResponseDTO {
+    private List<CommentResponseDTO> comments; // 최상위 댓글 (답글은 replies에 트리로 포함)
+    private String nextCursor; // 다음 페이지가 없으면 null
+}
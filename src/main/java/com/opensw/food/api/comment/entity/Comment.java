@@ -11,9 +11,15 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        @Index(name = "idx_comment_article_parent_id", columnList = "article_id, parent_id, comment_id"),
+        @Index(name = "idx_comment_root_id", columnList = "root_id"),
+        @Index(name = "idx_comment_path", columnList = "path")
+})
 public class Comment extends BaseTimeEntity {
 
+    public static final int MAX_PATH_LENGTH = 700;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "comment_id")
@@ -26,6 +32,14 @@ public class Comment extends BaseTimeEntity {
     @JoinColumn(name = "parent_id")
     private Comment parentComment;
 
+    // 최상위 댓글 ID (최상위 댓글이면 null) - 스레드 단위 조회용
+    @Column(name = "root_id")
+    private Long rootId;
+
+    // 조상 경로 "/{최상위 ID}/.../{자신의 ID}/" - 하위 댓글 전체를 접두사로 찾기 위함
+    @Column(length = MAX_PATH_LENGTH)
+    private String path;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "article_id")
     private Article article;
@@ -33,4 +47,9 @@ public class Comment extends BaseTimeEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
-}
\ No newline at end of file
+
+    // 저장 후 ID가 정해지면 경로 확정 (부모 경로 + 자신의 ID)
+    public void assignPath(String parentPath) {
+        this.path = parentPath + id + "/";
+    }
+}
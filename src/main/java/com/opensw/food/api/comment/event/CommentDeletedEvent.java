@@ -0,0 +1,11 @@
+package com.opensw.food.api.comment.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 댓글 삭제 커밋 이후 발행되는 이벤트 (게시글 상세 캐시 반영용)
+@Getter
+@AllArgsConstructor
+public class CommentDeletedEvent {
+    private final Long articleId;
+}
@@ -1,15 +1,74 @@
 package com.opensw.food.api.comment.repository;
 
 import com.opensw.food.api.article.entity.Article;
+import com.opensw.food.api.comment.dto.CommentRow;
 import com.opensw.food.api.comment.entity.Comment;
 import com.opensw.food.api.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByArticle(Article article);
-    List<Comment> findByParentComment(Comment parentComment);
 
     void deleteAllByMember(Member member);
-}
\ No newline at end of file
+
+    List<Comment> findByMemberMemberIdOrderByIdAsc(Long memberId, Pageable pageable);
+
+    // 하위 댓글 삭제 전 부모 참조 해제 (자기 참조 FK 때문에 한 번에 지울 수 있도록)
+    @Modifying
+    @Query("update Comment c set c.parentComment = null where c.path like :pathPrefix")
+    int detachSubtree(@Param("pathPrefix") String pathPrefix);
+
+    // 경로 접두사로 댓글과 모든 하위 댓글 삭제
+    @Modifying
+    @Query("delete from Comment c where c.path like :pathPrefix")
+    int deleteSubtree(@Param("pathPrefix") String pathPrefix);
+
+    // 주어진 댓글들의 바로 아래 답글 ID (경로가 없는 기존 댓글의 하위 댓글 탐색용)
+    @Query("select c.id from Comment c where c.parentComment.id in :parentIds")
+    List<Long> findChildIds(@Param("parentIds") Collection<Long> parentIds);
+
+    @Modifying
+    @Query("update Comment c set c.parentComment = null where c.id in :ids")
+    int detachByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from Comment c where c.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Comment c set c.parentComment = null where c.article.id = :articleId")
+    int detachByArticleId(@Param("articleId") Long articleId);
+
+    @Modifying
+    @Query("delete from Comment c where c.article.id = :articleId")
+    int deleteByArticleId(@Param("articleId") Long articleId);
+
+    // 게시글 댓글 버전 - 댓글 수와 마지막 수정 시각 (ETag 계산용, 탈퇴한 회원의 댓글은 세지 않아 탈퇴 시 ETag가 바뀜)
+    @Query("select count(c), max(c.updatedAt) from Comment c " +
+            "where c.article.id = :articleId and c.member.isDeleted = false")
+    List<Object[]> findVersion(@Param("articleId") Long articleId);
+
+    // 최상위 댓글 ID (afterId 이후, 오래된 순)
+    // 탈퇴한 회원의 댓글도 포함 - 다른 회원의 답글이 함께 사라지지 않도록 응답에서 내용만 가림
+    @Query("select c.id from Comment c " +
+            "where c.article.id = :articleId and c.parentComment is null and c.id > :afterId " +
+            "order by c.id asc")
+    List<Long> findRootIds(@Param("articleId") Long articleId,
+                           @Param("afterId") Long afterId,
+                           Pageable pageable);
+
+    // 주어진 최상위 댓글들의 스레드 전체 (작성 순, 작성자 탈퇴 여부 포함)
+    @Query("select new com.opensw.food.api.comment.dto.CommentRow(" +
+            "c.id, c.comment, m.nickname, m.isDeleted, c.parentComment.id, c.rootId, c.updatedAt) " +
+            "from Comment c join c.member m " +
+            "where c.id in :rootIds or c.rootId in :rootIds " +
+            "order by c.id asc")
+    List<CommentRow> findThreadRows(@Param("rootIds") Collection<Long> rootIds);
+}
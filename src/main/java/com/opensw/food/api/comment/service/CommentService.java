@@ -2,44 +2,91 @@ package com.opensw.food.api.comment.service;
 
 import com.opensw.food.api.article.entity.Article;
 import com.opensw.food.api.article.repository.ArticleRepository;
+import com.opensw.food.api.article.service.ArticleCountService;
 import com.opensw.food.api.comment.dto.CommentCreateDTO;
 import com.opensw.food.api.comment.dto.CommentResponseDTO;
+import com.opensw.food.api.comment.dto.CommentRow;
+import com.opensw.food.api.comment.dto.CommentThreadResponseDTO;
 import com.opensw.food.api.comment.dto.CommentUpdateDTO;
 import com.opensw.food.api.comment.entity.Comment;
+import com.opensw.food.api.comment.event.CommentCreatedEvent;
+import com.opensw.food.api.comment.event.CommentDeletedEvent;
 import com.opensw.food.api.comment.repository.CommentRepository;
 import com.opensw.food.api.member.entity.Member;
 import com.opensw.food.api.member.repository.MemberRepository;
+import com.opensw.food.common.exception.BadRequestException;
 import com.opensw.food.common.exception.NotFoundException;
 import com.opensw.food.common.exception.UnauthorizedException;
 import com.opensw.food.common.response.ErrorStatus;
-import lombok.RequiredArgsConstructor;
+import com.opensw.food.common.util.ETagUtil;
+import com.opensw.food.common.util.SingleFlight;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
-@RequiredArgsConstructor
 public class CommentService {
 
     private final CommentRepository commentRepository;
     private final ArticleRepository articleRepository;
     private final MemberRepository memberRepository;
+    private final ArticleCountService articleCountService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 비로그인 요청의 같은 페이지 조회는 한 번의 결과를 짧은 시간(최대 1초) 공유
+    private final SingleFlight<List<Object>, String> anonymousETags;
+    private final SingleFlight<List<Object>, CommentThreadResponseDTO> anonymousComments;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final long MAX_COALESCE_TTL_MS = 1000;
+
+    public CommentService(CommentRepository commentRepository,
+                          ArticleRepository articleRepository,
+                          MemberRepository memberRepository,
+                          ArticleCountService articleCountService,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${read.coalesce.ttl-ms:500}") long coalesceTtlMs) {
+        this.commentRepository = commentRepository;
+        this.articleRepository = articleRepository;
+        this.memberRepository = memberRepository;
+        this.articleCountService = articleCountService;
+        this.eventPublisher = eventPublisher;
+        this.anonymousETags = new SingleFlight<>(Math.min(coalesceTtlMs, MAX_COALESCE_TTL_MS));
+        this.anonymousComments = new SingleFlight<>(Math.min(coalesceTtlMs, MAX_COALESCE_TTL_MS));
+    }
 
     @Transactional
     public void createComment(CommentCreateDTO commentCreateDTO, Long userId) {
         // 해당 유저를 찾을 수 없을 경우 예외처리
         Member member = memberRepository.findById(userId)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
         // 해당 게시글을 찾을 수 없을 경우 예외처리
         Article article = articleRepository.findById(commentCreateDTO.getArticleId())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.RESOURCE_NOT_FOUND.getMessage()));
         // 부모댓글 처리
         Comment parentComment = null;
+        String parentPath = "/";
         if (commentCreateDTO.getParentId() != null) {
             parentComment = commentRepository.findById(commentCreateDTO.getParentId())
                     .orElseThrow(() -> new NotFoundException(ErrorStatus.PARENT_COMMENT_NOT_FOUND_EXCEPTION.getMessage()));
+            parentPath = resolvePath(parentComment);
+
+            // 경로 길이 제한 (ID 최대 19자리 + 구분자)
+            if (parentPath.length() + 20 > Comment.MAX_PATH_LENGTH) {
+                throw new BadRequestException(ErrorStatus.COMMENT_DEPTH_EXCEEDED_EXCEPTION.getMessage());
+            }
         }
 
         Comment comment = Comment.builder()
@@ -47,26 +94,133 @@ public class CommentService {
                 .article(article)
                 .member(member)
                 .parentComment(parentComment)
+                .rootId(parentComment == null ? null : rootIdOf(parentPath))
                 .build();
 
         commentRepository.save(comment);
+        comment.assignPath(parentPath);
 
         // 댓글 수 증가
-        Article updatedArticle = article.increaseCmtCnt();
-        articleRepository.save(updatedArticle);
+        articleCountService.addCmtCnt(article.getId(), 1);
+        eventPublisher.publishEvent(new CommentCreatedEvent(article.getId()));
     }
 
-    @Transactional(readOnly = true)
-    public List<CommentResponseDTO> getCommentsByArticleId(Long articleId) {
-        // 해당 게시글을 찾을 수 없을 경우 예외처리
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.RESOURCE_NOT_FOUND.getMessage()));
+    // 댓글 페이지 ETag - 게시글의 댓글 수와 마지막 수정 시각으로 계산
+    // 댓글이 없으면 null (게시글 존재 여부 확인이 필요하므로 일반 조회로 처리)
+    public String getCommentsETag(Long articleId, String cursor, Integer size, Long userId) {
+        int pageSize = resolvePageSize(size);
+        Long afterId = parseCursor(cursor);
+        if (userId != null) {
+            return loadCommentsETag(articleId, afterId, pageSize);
+        }
+        return anonymousETags.execute(List.of(articleId, afterId, pageSize),
+                () -> loadCommentsETag(articleId, afterId, pageSize));
+    }
+
+    private String loadCommentsETag(Long articleId, Long afterId, int pageSize) {
+        Object[] version = commentRepository.findVersion(articleId).get(0);
+        if (((Number) version[0]).longValue() == 0) {
+            return null;
+        }
+        return ETagUtil.strong(articleId, afterId, pageSize, version);
+    }
+
+    // 최상위 댓글 단위 페이지네이션 - 한 페이지의 스레드를 한 번에 조회해 트리로 구성
+    // 로그인 요청은 방금 쓴 댓글이 바로 보이도록 항상 새로 조회
+    // 기다리는 요청이 DB 연결을 잡고 있지 않도록 트랜잭션 밖에서 합침
+    public CommentThreadResponseDTO getCommentsByArticleId(Long articleId, String cursor, Integer size, Long userId) {
+        int pageSize = resolvePageSize(size);
+        Long afterId = parseCursor(cursor);
+        if (userId != null) {
+            return loadComments(articleId, afterId, pageSize);
+        }
+        // ETag를 키에 포함해 먼저 내려간 ETag보다 오래된 목록을 공유하지 않도록 함
+        String eTag = getCommentsETag(articleId, cursor, size, null);
+        return anonymousComments.execute(Arrays.asList(articleId, afterId, pageSize, eTag),
+                () -> loadComments(articleId, afterId, pageSize));
+    }
+
+    private CommentThreadResponseDTO loadComments(Long articleId, Long afterId, int pageSize) {
+        List<Long> rootIds = commentRepository.findRootIds(articleId, afterId, PageRequest.of(0, pageSize + 1));
+        if (rootIds.isEmpty()) {
+            // 댓글이 없을 때만 게시글 존재 여부 확인
+            if (afterId == 0L && !articleRepository.existsById(articleId)) {
+                throw new NotFoundException(ErrorStatus.RESOURCE_NOT_FOUND.getMessage());
+            }
+            return new CommentThreadResponseDTO(new ArrayList<>(), null);
+        }
+
+        boolean hasNext = rootIds.size() > pageSize;
+        List<Long> pageRootIds = hasNext ? rootIds.subList(0, pageSize) : rootIds;
+
+        // id 오름차순이므로 부모 댓글이 항상 자식보다 먼저 나옴 - 한 번 순회로 트리 구성
+        Map<Long, CommentResponseDTO> commentMap = new HashMap<>();
+        List<CommentResponseDTO> roots = new ArrayList<>();
+        for (CommentRow row : commentRepository.findThreadRows(pageRootIds)) {
+            CommentResponseDTO comment = CommentResponseDTO.fromRow(row);
+            commentMap.put(row.getId(), comment);
 
-        List<Comment> comments = commentRepository.findByArticle(article);
+            if (row.getParentId() == null) {
+                roots.add(comment);
+                continue;
+            }
 
-        return comments.stream()
-                .map(CommentResponseDTO::fromEntity)
-                .collect(Collectors.toList());
+            CommentResponseDTO parent = commentMap.get(row.getParentId());
+            CommentResponseDTO root = commentMap.get(row.getRootId());
+            if (parent != null) {
+                parent.addReply(comment);
+            } else if (root != null) {
+                root.addReply(comment);
+            }
+            if (root != null) {
+                root.increaseReplyCount();
+            }
+        }
+
+        String nextCursor = hasNext ? String.valueOf(pageRootIds.get(pageRootIds.size() - 1)) : null;
+        return new CommentThreadResponseDTO(roots, nextCursor);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private Long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR_EXCEPTION.getMessage());
+        }
+    }
+
+    // 댓글의 조상 경로 - 경로가 아직 채워지지 않은 기존 댓글(ArticleDataMigrator 실행 전)은 parent_id를 따라 계산
+    private String resolvePath(Comment comment) {
+        Deque<Long> ids = new ArrayDeque<>();
+        String prefix = "/";
+        for (Comment current = comment; current != null; current = current.getParentComment()) {
+            if (current.getPath() != null) {
+                prefix = current.getPath();
+                break;
+            }
+            ids.push(current.getId());
+        }
+
+        StringBuilder path = new StringBuilder(prefix);
+        while (!ids.isEmpty()) {
+            path.append(ids.pop()).append('/');
+        }
+        return path.toString();
+    }
+
+    // 경로의 첫 번째 ID가 스레드의 최상위 댓글 ID
+    private Long rootIdOf(String path) {
+        return Long.parseLong(path.substring(1, path.indexOf('/', 1)));
     }
 
     @Transactional
@@ -98,22 +252,38 @@ public class CommentService {
             throw new UnauthorizedException(ErrorStatus.COMMENT_WRITER_NOT_SAME_USER_EXCEPTION.getMessage());
         }
 
-        // 먼저 자식 댓글들 삭제
-        deleteChildComments(comment);
+        deleteCommentTree(comment);
+    }
 
-        commentRepository.delete(comment);
+    // 댓글과 모든 하위 댓글을 경로 접두사로 한 번에 삭제하고 게시글 댓글 수 반영 (삭제된 수 반환)
+    @Transactional
+    public int deleteCommentTree(Comment comment) {
+        Long articleId = comment.getArticle().getId();
+        int deletedCount;
+        if (comment.getPath() != null) {
+            commentRepository.detachSubtree(comment.getPath() + "%");
+            deletedCount = commentRepository.deleteSubtree(comment.getPath() + "%");
+        } else {
+            // 경로가 아직 채워지지 않은 기존 댓글은 parent_id를 따라 하위 댓글을 찾아 삭제
+            List<Long> ids = findSubtreeIds(comment.getId());
+            commentRepository.detachByIds(ids);
+            deletedCount = commentRepository.deleteByIds(ids);
+        }
 
-        // 댓글 수 감소
-        Article article = comment.getArticle();
-        Article updatedArticle = article.decreaseCmtCnt();
-        articleRepository.save(updatedArticle);
+        // 댓글 수 감소 (실제 삭제된 수만큼)
+        articleCountService.addCmtCnt(articleId, -deletedCount);
+        eventPublisher.publishEvent(new CommentDeletedEvent(articleId));
+        return deletedCount;
     }
 
-    private void deleteChildComments(Comment parentComment) {
-        List<Comment> childComments = commentRepository.findByParentComment(parentComment);
-        for (Comment child : childComments) {
-            deleteChildComments(child);
-            commentRepository.delete(child);
+    // 댓글 자신과 모든 하위 댓글 ID (깊이마다 한 번 조회)
+    private List<Long> findSubtreeIds(Long commentId) {
+        List<Long> ids = new ArrayList<>();
+        List<Long> level = List.of(commentId);
+        while (!level.isEmpty()) {
+            ids.addAll(level);
+            level = commentRepository.findChildIds(level);
         }
+        return ids;
     }
 }
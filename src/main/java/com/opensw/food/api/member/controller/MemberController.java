@@ -1,16 +1,16 @@
 package com.opensw.food.api.member.controller;
 
 import com.opensw.food.api.member.dto.*;
-import com.opensw.food.api.member.entity.Member;
 import com.opensw.food.api.member.service.MemberService;
+import com.opensw.food.common.exception.UnauthorizedException;
+import com.opensw.food.common.resolver.LoginMemberId;
 import com.opensw.food.common.response.ApiResponse;
+import com.opensw.food.common.response.ErrorStatus;
 import com.opensw.food.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
@@ -49,8 +49,7 @@ public class MemberController {
             description = "사용자 정보를 조회합니다."
     )
     @GetMapping("/members/me")
-    public ResponseEntity<ApiResponse<UserInfoResponseDTO>> getCurrentMember(@AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+    public ResponseEntity<ApiResponse<UserInfoResponseDTO>> getCurrentMember(@LoginMemberId Long userId) {
         UserInfoResponseDTO userInfo = memberService.getCurrentMember(userId);
         return ApiResponse.success(SuccessStatus.GET_CURRENT_MEMBER_SUCCESS, userInfo);
     }
@@ -60,9 +59,8 @@ public class MemberController {
             description = "특정 사용자를 팔로우하거나, 이미 팔로우한 경우 해지합니다."
     )
     @PostMapping("/follow")
-    public ResponseEntity<ApiResponse<Void>> followMember(@AuthenticationPrincipal UserDetails userDetails,
+    public ResponseEntity<ApiResponse<Void>> followMember(@LoginMemberId Long userId,
                                                           @RequestBody FollowRequestDTO followRequestDTO) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         boolean isFollowed = memberService.followOrUnfollowMember(userId, followRequestDTO.getFollowingId());
 
         if(isFollowed){
@@ -77,8 +75,7 @@ public class MemberController {
             description = "현재 사용자가 팔로우하고 있는 사용자 목록을 반환합니다."
     )
     @GetMapping("/follow")
-    public ResponseEntity<ApiResponse<List<FollowedUserDTO>>> getFollowedUsers(@AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+    public ResponseEntity<ApiResponse<List<FollowedUserDTO>>> getFollowedUsers(@LoginMemberId Long userId) {
         List<FollowedUserDTO> followedUsers = memberService.getFollowedUsers(userId);
         return ApiResponse.success(SuccessStatus.GET_FOLLOWED_USERS_SUCCESS, followedUsers);
     }
@@ -88,9 +85,12 @@ public class MemberController {
             description = "현재 사용자를 회원 탈퇴합니다."
     )
     @DeleteMapping("/auth/withdraw")
-    public ResponseEntity<ApiResponse<Void>> withdrawMember(Member member) {
-        Long memberId = memberService.getUserIdByEmail(member.getEmail());
-        memberService.withDrawMember(memberId);
+    public ResponseEntity<ApiResponse<Void>> withdrawMember(@LoginMemberId Long userId) {
+        // /auth/** 는 인증 없이 접근 가능하므로 토큰 누락 시 예외처리
+        if (userId == null) {
+            throw new UnauthorizedException(ErrorStatus.USER_UNAUTHORIZED.getMessage());
+        }
+        memberService.withDrawMember(userId);
 
         return ApiResponse.success_only(SuccessStatus.MEMBER_WITHDRAW_SUCCESS);
     }
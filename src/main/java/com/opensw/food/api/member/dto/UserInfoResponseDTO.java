@@ -9,12 +9,20 @@ public class UserInfoResponseDTO {
     private final Long id;
     private final String nickname;
     private final String email;
-    private final int following;
+    private final long following; // 기존 클라이언트 호환용 (= followerCnt)
+    private final long followerCnt;
+    private final long followingCnt;
+    private final long articleCnt;
+    private final long likeReceivedCnt;
 
-    public UserInfoResponseDTO(Member member, int followerCount) {
+    public UserInfoResponseDTO(Member member) {
         this.id = member.getMemberId();
         this.nickname = member.getNickname();
-        this.following = followerCount;
+        this.following = member.getFollowerCnt();
         this.email = member.getEmail();
+        this.followerCnt = member.getFollowerCnt();
+        this.followingCnt = member.getFollowingCnt();
+        this.articleCnt = member.getArticleCnt();
+        this.likeReceivedCnt = member.getLikeReceivedCnt();
     }
 }
@@ -38,6 +38,19 @@ public class Member extends BaseTimeEntity {
 
     private Instant expiredTime;
 
+    // 통계 (원자적 UPDATE로 증감, 주기적으로 실제 값과 대조하여 보정)
+    @Column(nullable = false)
+    private long followerCnt;
+
+    @Column(nullable = false)
+    private long followingCnt;
+
+    @Column(nullable = false)
+    private long articleCnt;
+
+    @Column(nullable = false)
+    private long likeReceivedCnt;
+
     @OneToMany(mappedBy = "follower", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Follow> following;  // 내가 팔로우 하는 사람들
 
@@ -48,6 +61,11 @@ public class Member extends BaseTimeEntity {
         this.password = passwordEncoder.encode(password);
     }
 
+    // 탈퇴 처리 - 실제 데이터는 백그라운드에서 삭제
+    public void withdraw() {
+        this.isDeleted = true;
+    }
+
     public boolean isAccountNonExpired() {
         return expiredTime == null || expiredTime.isAfter(Instant.now());
     }
@@ -0,0 +1,11 @@
+package com.opensw.food.api.member.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 팔로우/언팔로우 커밋 이후 발행되는 이벤트 (팔로우한 회원의 홈 타임라인 폐기용)
+@Getter
+@AllArgsConstructor
+public class FollowChangedEvent {
+    private final Long followerId;
+}
@@ -0,0 +1,11 @@
+package com.opensw.food.api.member.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 회원 탈퇴 커밋 이후 발행되는 이벤트 (게시글 상세 캐시, 탈퇴 회원 목록 반영용)
+@Getter
+@AllArgsConstructor
+public class MemberWithdrawnEvent {
+    private final Long memberId;
+}
@@ -0,0 +1,105 @@
+package com.opensw.food.api.member.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 검증된 JWT의 인증 정보 캐시 - 토큰 해시를 키로 토큰 만료(exp)까지 보관하며, 최대 개수를 넘으면 LRU로 제거
+@Component
+public class JwtAuthenticationCache {
+
+    private final JwtProvider jwtProvider;
+    private final Map<String, CachedAuthentication> cache;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer verifyTimer;
+
+    public JwtAuthenticationCache(JwtProvider jwtProvider,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.jwtProvider = jwtProvider;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedAuthentication> eldest) {
+                return size() > maxSize;
+            }
+        });
+
+        this.hitCounter = Counter.builder("jwt.auth.cache")
+                .tag("result", "hit")
+                .description("JWT 인증 캐시 조회 결과")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("jwt.auth.cache")
+                .tag("result", "miss")
+                .description("JWT 인증 캐시 조회 결과")
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("jwt.verify")
+                .description("JWT 서명 검증 및 파싱 시간")
+                .register(meterRegistry);
+        Gauge.builder("jwt.auth.cache.size", cache, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("jwt.auth.cache.hit.ratio", this, JwtAuthenticationCache::hitRatio)
+                .register(meterRegistry);
+    }
+
+    // 캐시에 있으면 그대로, 없으면 토큰을 한 번 검증/파싱하여 인증 정보 생성
+    public Authentication getAuthentication(String token) {
+        String key = hash(token);
+        long now = System.currentTimeMillis();
+
+        CachedAuthentication cached = cache.get(key);
+        if (cached != null) {
+            if (cached.expiresAt > now) {
+                hitCounter.increment();
+                return cached.authentication;
+            }
+            cache.remove(key);
+        }
+
+        missCounter.increment();
+        Claims claims = verifyTimer.record(() -> jwtProvider.verify(token));
+        Authentication authentication = jwtProvider.getAuthentication(claims, token);
+
+        cache.put(key, new CachedAuthentication(authentication, claims.getExpiration().getTime()));
+        return authentication;
+    }
+
+    private double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CachedAuthentication {
+        private final Authentication authentication;
+        private final long expiresAt;
+
+        private CachedAuthentication(Authentication authentication, long expiresAt) {
+            this.authentication = authentication;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
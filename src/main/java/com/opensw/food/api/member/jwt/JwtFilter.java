@@ -5,6 +5,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
@@ -12,12 +13,13 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+@Slf4j
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
-    private final JwtProvider jwtProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -26,16 +28,14 @@ public class JwtFilter extends OncePerRequestFilter {
             // HTTP 요청 헤더에서 JWT 추출
             String jwt = resolveToken(request);
 
-            // JWT 유효성 검증
-            if (StringUtils.hasText(jwt) && jwtProvider.isTokenValid(jwt)) {
-                // 토큰에서 인증 정보 생성
-                Authentication auth = jwtProvider.getAuthentication(jwt);
+            if (StringUtils.hasText(jwt)) {
+                // 토큰 검증 및 인증 정보 생성 (캐시 미스일 때만 파싱)
+                Authentication auth = jwtAuthenticationCache.getAuthentication(jwt);
                 // SecurityContextHolder 에 인증 정보 저장
                 SecurityContextHolder.getContext().setAuthentication(auth);
-                System.out.println("Security Context: " + SecurityContextHolder.getContext().getAuthentication());
             }
         } catch (Exception e) {
-            System.out.println("JWT Filter Exception: " + e.getMessage());
+            log.debug("JWT Filter Exception: {}", e.getMessage());
         }
 
         // 다음 필터로 요청 전달
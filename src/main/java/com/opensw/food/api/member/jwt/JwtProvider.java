@@ -8,7 +8,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -17,6 +16,8 @@ import java.util.*;
 @Slf4j
 public class JwtProvider {
 
+    private static final String MEMBER_ID_CLAIM = "memberId";
+
     private final String secretKey;
     private final long expiration;
 
@@ -26,12 +27,13 @@ public class JwtProvider {
         this.expiration = expiration;
     }
 
-    public String generateToken(String email, String role) {
+    public String generateToken(Long memberId, String email, String role) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
                 .setSubject(email)
+                .claim(MEMBER_ID_CLAIM, memberId)
                 .claim("role", role)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
@@ -40,9 +42,17 @@ public class JwtProvider {
     }
 
     public boolean isTokenValid(String token) {
+        Claims claims = verify(token);
+        return !claims.getExpiration().before(new Date());
+    }
+
+    // 서명/만료를 검증하고 Claims 반환 (토큰당 한 번만 파싱)
+    public Claims verify(String token) {
         try {
-            Claims claims = parseClaims(token);
-            return !claims.getExpiration().before(new Date());
+            return Jwts.parser()
+                    .setSigningKey(secretKey)
+                    .parseClaimsJws(token)
+                    .getBody();
         } catch (ExpiredJwtException  e) {
             log.error("Expired JWT token: {}", e.getMessage());
             throw new UnauthorizedException(ErrorStatus.TOKEN_EXPIRED.getMessage());
@@ -59,11 +69,16 @@ public class JwtProvider {
     }
 
     public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
+        return getAuthentication(parseClaims(token), token);
+    }
+
+    public Authentication getAuthentication(Claims claims, String token) {
         String email = claims.getSubject();
         String role = claims.get("role", String.class);
+        // 숫자 클레임은 크기에 따라 Integer/Long 으로 역직렬화됨
+        Long memberId = claims.get(MEMBER_ID_CLAIM) instanceof Number number ? number.longValue() : null;
 
-        User principal = new User(email, "",
+        MemberPrincipal principal = new MemberPrincipal(memberId, email,
                 Collections.singletonList(new SimpleGrantedAuthority(role)));
 
         return new UsernamePasswordAuthenticationToken(principal, token, principal.getAuthorities());
@@ -0,0 +1,19 @@
+package com.opensw.food.api.member.jwt;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+// JWT로 인증된 사용자 - 토큰의 memberId 클레임을 함께 보관
+@Getter
+public class MemberPrincipal extends User {
+
+    private final Long memberId;
+
+    public MemberPrincipal(Long memberId, String email, Collection<? extends GrantedAuthority> authorities) {
+        super(email, "", authorities);
+        this.memberId = memberId;
+    }
+}
@@ -2,8 +2,14 @@ package com.opensw.food.api.member.repository;
 
 import com.opensw.food.api.member.entity.Follow;
 import com.opensw.food.api.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface FollowRepository extends JpaRepository<Follow, Long> {
@@ -11,4 +17,38 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     Optional<Follow> findByFollowerAndFollowing(Member follower, Member following);
 
     void deleteByFollowerOrFollowing(Member follower, Member following);
-}
\ No newline at end of file
+
+    long countByFollowingMemberId(Long memberId);
+
+    // 내가 팔로우하는 회원 ID 목록
+    @Query("select f.following.memberId from Follow f where f.follower.memberId = :memberId")
+    List<Long> findFollowingIds(@Param("memberId") Long memberId);
+
+    // 나를 팔로우하는 회원 ID (팬아웃용, memberId 오름차순 배치 조회)
+    @Query("select f.follower.memberId from Follow f " +
+            "where f.following.memberId = :memberId and f.follower.memberId > :lastFollowerId " +
+            "order by f.follower.memberId")
+    List<Long> findFollowerIdsAfter(@Param("memberId") Long memberId,
+                                    @Param("lastFollowerId") Long lastFollowerId,
+                                    Pageable pageable);
+
+    // 내가 팔로우하는 회원 ID (배치 조회)
+    @Query("select f.following.memberId from Follow f where f.follower.memberId = :memberId " +
+            "order by f.following.memberId")
+    List<Long> findFollowingIds(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Follow f where f.follower.memberId = :memberId and f.following.memberId in :followingIds")
+    int deleteFollowings(@Param("memberId") Long memberId, @Param("followingIds") Collection<Long> followingIds);
+
+    @Modifying
+    @Query("delete from Follow f where f.following.memberId = :memberId and f.follower.memberId in :followerIds")
+    int deleteFollowers(@Param("memberId") Long memberId, @Param("followerIds") Collection<Long> followerIds);
+
+    // 주어진 회원 중 팔로워 수가 threshold를 넘는 회원 ID
+    @Query("select f.following.memberId from Follow f " +
+            "where f.following.memberId in :memberIds " +
+            "group by f.following.memberId having count(f) > :threshold")
+    List<Long> findMemberIdsWithFollowersOver(@Param("memberIds") Collection<Long> memberIds,
+                                              @Param("threshold") long threshold);
+}
@@ -1,11 +1,41 @@
 package com.opensw.food.api.member.repository;
 
 import com.opensw.food.api.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByEmail(String email);
+
+    // 데이터 삭제를 기다리는 탈퇴 회원
+    @Query("select m.memberId from Member m where m.isDeleted = true order by m.memberId")
+    List<Long> findWithdrawnIds(Pageable pageable);
+
+    // 팔로워 수 원자적 증감
+    @Modifying
+    @Query("update Member m set m.followerCnt = m.followerCnt + :delta where m.memberId = :memberId")
+    int addFollowerCnt(@Param("memberId") Long memberId, @Param("delta") long delta);
+
+    // 팔로잉 수 원자적 증감
+    @Modifying
+    @Query("update Member m set m.followingCnt = m.followingCnt + :delta where m.memberId = :memberId")
+    int addFollowingCnt(@Param("memberId") Long memberId, @Param("delta") long delta);
+
+    // 작성 게시글 수 원자적 증감
+    @Modifying
+    @Query("update Member m set m.articleCnt = m.articleCnt + :delta where m.memberId = :memberId")
+    int addArticleCnt(@Param("memberId") Long memberId, @Param("delta") long delta);
+
+    // 게시글 작성자의 받은 좋아요 수 원자적 증감 (작성자를 따로 조회하지 않음)
+    @Modifying
+    @Query("update Member m set m.likeReceivedCnt = m.likeReceivedCnt + :delta " +
+            "where m.memberId = (select a.member.memberId from Article a where a.id = :articleId)")
+    int addLikeReceivedCntByArticleId(@Param("articleId") Long articleId, @Param("delta") long delta);
 }
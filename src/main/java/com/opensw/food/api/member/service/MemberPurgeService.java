@@ -0,0 +1,201 @@
+package com.opensw.food.api.member.service;
+
+import com.opensw.food.api.article.entity.ArticleImage;
+import com.opensw.food.api.article.event.ArticleDeletedEvent;
+import com.opensw.food.api.article.event.ArticleLikedEvent;
+import com.opensw.food.api.article.repository.ArticleContentRepository;
+import com.opensw.food.api.article.repository.ArticleImageRepository;
+import com.opensw.food.api.article.repository.ArticleLikeRepository;
+import com.opensw.food.api.article.repository.ArticleRepository;
+import com.opensw.food.api.article.service.ArticleCountService;
+import com.opensw.food.api.aws.s3.S3DeletionOutboxService;
+import com.opensw.food.api.comment.entity.Comment;
+import com.opensw.food.api.comment.repository.CommentRepository;
+import com.opensw.food.api.comment.service.CommentService;
+import com.opensw.food.api.member.repository.FollowRepository;
+import com.opensw.food.api.member.repository.MemberRepository;
+import com.opensw.food.api.timeline.service.TimelineService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 탈퇴 회원 데이터 삭제 - 좋아요, 댓글, 게시글(S3 이미지는 삭제 아웃박스로), 팔로우, 회원 순으로 배치마다 짧은 트랜잭션으로 삭제
+// 진행 상태는 DB에 남은 데이터 자체이므로 서버가 재시작되어도 이어서 진행
+@Slf4j
+@Service
+public class MemberPurgeService {
+
+    private static final int MEMBERS_PER_RUN = 10;
+
+    private final MemberRepository memberRepository;
+    private final FollowRepository followRepository;
+    private final ArticleRepository articleRepository;
+    private final ArticleContentRepository articleContentRepository;
+    private final ArticleLikeRepository articleLikeRepository;
+    private final ArticleImageRepository articleImageRepository;
+    private final CommentRepository commentRepository;
+    private final CommentService commentService;
+    private final ArticleCountService articleCountService;
+    private final TimelineService timelineService;
+    private final S3DeletionOutboxService s3DeletionOutboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public MemberPurgeService(MemberRepository memberRepository,
+                              FollowRepository followRepository,
+                              ArticleRepository articleRepository,
+                              ArticleContentRepository articleContentRepository,
+                              ArticleLikeRepository articleLikeRepository,
+                              ArticleImageRepository articleImageRepository,
+                              CommentRepository commentRepository,
+                              CommentService commentService,
+                              ArticleCountService articleCountService,
+                              TimelineService timelineService,
+                              S3DeletionOutboxService s3DeletionOutboxService,
+                              TransactionTemplate transactionTemplate,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${member.purge.batch-size:100}") int batchSize,
+                              @Value("${member.purge.max-batches-per-run:50}") int maxBatchesPerRun) {
+        this.memberRepository = memberRepository;
+        this.followRepository = followRepository;
+        this.articleRepository = articleRepository;
+        this.articleContentRepository = articleContentRepository;
+        this.articleLikeRepository = articleLikeRepository;
+        this.articleImageRepository = articleImageRepository;
+        this.commentRepository = commentRepository;
+        this.commentService = commentService;
+        this.articleCountService = articleCountService;
+        this.timelineService = timelineService;
+        this.s3DeletionOutboxService = s3DeletionOutboxService;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    // 한 번 실행에 처리할 배치 수를 제한해 다른 스케줄 작업을 오래 막지 않도록 함
+    @Scheduled(fixedDelayString = "${member.purge.interval-ms:60000}")
+    public void purgeWithdrawnMembers() {
+        int budget = maxBatchesPerRun;
+        for (Long memberId : memberRepository.findWithdrawnIds(PageRequest.of(0, MEMBERS_PER_RUN))) {
+            budget = purge(memberId, budget);
+            if (budget <= 0) {
+                return;
+            }
+        }
+    }
+
+    // 남은 배치 수 반환
+    private int purge(Long memberId, int budget) {
+        try {
+            while (budget > 0) {
+                if (purgeLikes(memberId) || purgeComments(memberId) || purgeArticles(memberId) || purgeFollows(memberId)) {
+                    budget--;
+                    continue;
+                }
+
+                transactionTemplate.executeWithoutResult(status -> memberRepository.deleteById(memberId));
+                timelineService.evict(memberId);
+                log.info("Purged withdrawn member {}", memberId);
+                return budget - 1;
+            }
+        } catch (RuntimeException e) {
+            // 다음 실행에서 남은 데이터부터 다시 진행
+            log.error("Failed to purge withdrawn member {}: {}", memberId, e.getMessage());
+        }
+        return budget;
+    }
+
+    // 좋아요 - 게시글 좋아요 수와 작성자의 받은 좋아요 수도 함께 감소
+    private boolean purgeLikes(Long memberId) {
+        List<Long> articleIds = articleLikeRepository.findArticleIdsByMemberId(memberId, PageRequest.of(0, batchSize));
+        if (articleIds.isEmpty()) {
+            return false;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Long articleId : articleIds) {
+                if (articleLikeRepository.deleteByArticleIdAndMemberId(articleId, memberId) > 0) {
+                    articleCountService.addLikeCnt(articleId, -1);
+                    memberRepository.addLikeReceivedCntByArticleId(articleId, -1);
+                    eventPublisher.publishEvent(new ArticleLikedEvent(articleId, -1));
+                }
+            }
+        });
+        return true;
+    }
+
+    // 댓글 - 하위 답글까지 함께 삭제하고 게시글 댓글 수 반영
+    private boolean purgeComments(Long memberId) {
+        List<Comment> comments = commentRepository.findByMemberMemberIdOrderByIdAsc(memberId, PageRequest.of(0, batchSize));
+        if (comments.isEmpty()) {
+            return false;
+        }
+
+        for (Comment comment : comments) {
+            commentService.deleteCommentTree(comment);
+        }
+        return true;
+    }
+
+    // 게시글 - 댓글, 좋아요, 이미지, 본문과 함께 삭제하고 S3 객체는 삭제 아웃박스에 기록
+    private boolean purgeArticles(Long memberId) {
+        List<Long> articleIds = articleRepository.findIdsByMemberId(memberId, PageRequest.of(0, batchSize));
+        if (articleIds.isEmpty()) {
+            return false;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<String> imageUrls = new ArrayList<>();
+            for (ArticleImage image : articleImageRepository.findByArticleIdIn(articleIds)) {
+                imageUrls.addAll(image.getFileUrls());
+            }
+            s3DeletionOutboxService.enqueue(imageUrls);
+
+            for (Long articleId : articleIds) {
+                commentRepository.detachByArticleId(articleId);
+                commentRepository.deleteByArticleId(articleId);
+            }
+            articleLikeRepository.deleteByArticleIds(articleIds);
+            articleImageRepository.deleteByArticleIds(articleIds);
+            articleContentRepository.deleteByArticleIds(articleIds);
+            articleRepository.deleteByIds(articleIds);
+
+            // 커밋 이후 검색 색인에서 제거
+            articleIds.forEach(articleId -> eventPublisher.publishEvent(new ArticleDeletedEvent(articleId)));
+        });
+        return true;
+    }
+
+    // 팔로우 - 상대 회원의 팔로워/팔로잉 수도 함께 감소
+    private boolean purgeFollows(Long memberId) {
+        List<Long> followingIds = followRepository.findFollowingIds(memberId, PageRequest.of(0, batchSize));
+        if (!followingIds.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                followRepository.deleteFollowings(memberId, followingIds);
+                followingIds.forEach(followingId -> memberRepository.addFollowerCnt(followingId, -1));
+            });
+            return true;
+        }
+
+        List<Long> followerIds = followRepository.findFollowerIdsAfter(memberId, 0L, PageRequest.of(0, batchSize));
+        if (!followerIds.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                followRepository.deleteFollowers(memberId, followerIds);
+                followerIds.forEach(followerId -> memberRepository.addFollowingCnt(followerId, -1));
+            });
+            followerIds.forEach(timelineService::evict);
+            return true;
+        }
+        return false;
+    }
+}
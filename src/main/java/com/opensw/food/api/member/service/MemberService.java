@@ -1,8 +1,6 @@
 package com.opensw.food.api.member.service;
 
 
-import com.opensw.food.api.article.repository.ArticleRepository;
-import com.opensw.food.api.comment.repository.CommentRepository;
 import com.opensw.food.api.member.dto.FollowedUserDTO;
 import com.opensw.food.api.member.dto.LoginRequestDto;
 import com.opensw.food.api.member.dto.SignupRequestDto;
@@ -10,12 +8,15 @@ import com.opensw.food.api.member.dto.UserInfoResponseDTO;
 import com.opensw.food.api.member.entity.Follow;
 import com.opensw.food.api.member.entity.Member;
 import com.opensw.food.api.member.entity.Role;
+import com.opensw.food.api.member.event.FollowChangedEvent;
+import com.opensw.food.api.member.event.MemberWithdrawnEvent;
 import com.opensw.food.api.member.jwt.JwtProvider;
 import com.opensw.food.api.member.repository.FollowRepository;
 import com.opensw.food.api.member.repository.MemberRepository;
 import com.opensw.food.common.exception.NotFoundException;
 import com.opensw.food.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,8 +33,7 @@ public class MemberService {
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
     private final FollowRepository followRepository;
-    private final CommentRepository commentRepository;
-    private final ArticleRepository articleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void signupMember(SignupRequestDto requestDto) {
 
@@ -49,13 +49,14 @@ public class MemberService {
 
     public String loginMember(LoginRequestDto requestDto) {
         Member member = memberRepository.findByEmail(requestDto.getEmail())
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
 
         if (!passwordEncoder.matches(requestDto.getPassword(), member.getPassword())) {
             throw new IllegalArgumentException("Wrong Email or Wrong password");
         }
 
-        return jwtProvider.generateToken(member.getEmail(), member.getRole().name());
+        return jwtProvider.generateToken(member.getMemberId(), member.getEmail(), member.getRole().name());
     }
 
     public Long getUserIdByEmail(String email) {
@@ -67,25 +68,26 @@ public class MemberService {
     public UserInfoResponseDTO getCurrentMember(Long userId) {
         // 해당 유저를 찾을 수 없을 경우 예외처리
         Member member = memberRepository.findById(userId)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
 
-        int followerCount = member.getFollowers().size(); //팔로워 수 계산
-
-        return new UserInfoResponseDTO(member, followerCount);
+        return new UserInfoResponseDTO(member);
     }
 
     @Transactional
     public boolean followOrUnfollowMember(Long userId, Long followingId) {
         // 팔로우 하는 유저를 찾을 수 없을 경우 예외처리
         Member follower = memberRepository.findById(userId)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
 
         // 팔로우 할려는 유저를 찾을 수 없을 경우 예외처리
         Member following = memberRepository.findById(followingId)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
 
         // 팔로우 상태인지 확인
-        return followRepository.findByFollowerAndFollowing(follower, following)
+        boolean followed = followRepository.findByFollowerAndFollowing(follower, following)
                 .map(follow -> {
                     followRepository.delete(follow);
                     return false; // 팔로우 해지됨
@@ -98,15 +100,26 @@ public class MemberService {
                     followRepository.save(newFollow);
                     return true; // 팔로우 추가됨
                 });
+
+        // 팔로워/팔로잉 수 반영
+        long delta = followed ? 1 : -1;
+        memberRepository.addFollowingCnt(userId, delta);
+        memberRepository.addFollowerCnt(followingId, delta);
+
+        // 팔로우 대상이 바뀌었으므로 홈 타임라인은 커밋 이후 폐기하고 다음 조회 시 재구성
+        eventPublisher.publishEvent(new FollowChangedEvent(userId));
+        return followed;
     }
 
     @Transactional(readOnly = true)
     public List<FollowedUserDTO> getFollowedUsers(Long userId) {
         // 해당 유저를 찾을 수 없을 경우 예외처리
         Member member = memberRepository.findById(userId)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
 
         return member.getFollowing().stream()
+                .filter(follow -> !follow.getFollowing().isDeleted())
                 .map(follow -> new FollowedUserDTO(
                         follow.getFollowing().getMemberId(),
                         follow.getFollowing().getNickname()
@@ -114,14 +127,14 @@ public class MemberService {
                 .collect(Collectors.toList());
     }
 
+    // 탈퇴 - 즉시 탈퇴 상태로 바꿔 로그인/노출을 막고, 데이터는 MemberPurgeService가 나누어 삭제
     @Transactional
     public void withDrawMember(Long memberId) {
         Member member = memberRepository.findById(memberId)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
 
-        commentRepository.deleteAllByMember(member);
-        articleRepository.deleteAllByMember(member);
-        followRepository.deleteByFollowerOrFollowing(member, member);
-        memberRepository.delete(member);
+        member.withdraw();
+        eventPublisher.publishEvent(new MemberWithdrawnEvent(memberId));
     }
 }
@@ -0,0 +1,94 @@
+package com.opensw.food.api.member.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// 회원 통계(팔로워/팔로잉/게시글/받은 좋아요 수) 보정 - 회원 ID 구간별로 실제 값을 다시 집계해 덮어씀
+@Slf4j
+@Component
+public class MemberStatsReconciler {
+
+    private static final String NEXT_IDS_SQL =
+            "select member_id from member where member_id > ? order by member_id limit ?";
+
+    // 실제 값과 다른 회원만 갱신
+    private static final String RECONCILE_SQL =
+            "update member m set " +
+            "follower_cnt = (select count(*) from follow f where f.following_id = m.member_id), " +
+            "following_cnt = (select count(*) from follow f where f.follower_id = m.member_id), " +
+            "article_cnt = (select count(*) from article a where a.member_id = m.member_id), " +
+            "like_received_cnt = (select count(*) from memo_like l join article a on a.article_id = l.article_id " +
+            "where a.member_id = m.member_id) " +
+            "where m.member_id between ? and ? and (" +
+            "m.follower_cnt <> (select count(*) from follow f where f.following_id = m.member_id) or " +
+            "m.following_cnt <> (select count(*) from follow f where f.follower_id = m.member_id) or " +
+            "m.article_cnt <> (select count(*) from article a where a.member_id = m.member_id) or " +
+            "m.like_received_cnt <> (select count(*) from memo_like l join article a on a.article_id = l.article_id " +
+            "where a.member_id = m.member_id))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final boolean reconcileOnStartup;
+
+    public MemberStatsReconciler(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${member.stats.reconcile-batch-size:500}") int batchSize,
+                                 @Value("${member.stats.reconcile-on-startup:true}") boolean reconcileOnStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.reconcileOnStartup = reconcileOnStartup;
+    }
+
+    // 통계 컬럼이 추가된 직후 기존 회원이 첫 보정 시각까지 0으로 보이지 않도록 시작할 때도 한 번 보정
+    // 실제 값과 다른 회원만 갱신하므로 이미 맞는 경우에는 읽기만 함
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (!reconcileOnStartup) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (DataAccessException e) {
+            log.error("Failed to reconcile member stats on startup: {}", e.getMessage());
+        }
+    }
+
+    // 배치마다 짧은 트랜잭션으로 나누어 잠금 시간을 제한
+    @Scheduled(cron = "${member.stats.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        long lastId = 0;
+        int repaired = 0;
+
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, lastId, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            long fromId = ids.get(0);
+            long toId = ids.get(ids.size() - 1);
+
+            try {
+                Integer updated = transactionTemplate.execute(status -> jdbcTemplate.update(RECONCILE_SQL, fromId, toId));
+                repaired += updated == null ? 0 : updated;
+            } catch (DataAccessException e) {
+                log.error("Failed to reconcile member stats ({} ~ {}): {}", fromId, toId, e.getMessage());
+            }
+            lastId = toId;
+        }
+
+        if (repaired > 0) {
+            log.info("Reconciled stats of {} members", repaired);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.opensw.food.api.member.service;
+
+import com.opensw.food.api.member.event.MemberWithdrawnEvent;
+import com.opensw.food.api.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 탈퇴한 회원 ID - 탈퇴 전에 발급된 토큰도 만료 전까지 유효하므로, 쓰기 요청을 DB 조회 없이 거절하는 데 사용
+// 시작 시 아직 데이터 삭제가 끝나지 않은 탈퇴 회원을 읽고, 이후에는 탈퇴가 커밋될 때 추가
+// 삭제가 끝난 회원은 재시작 후 목록에 없지만 회원 행이 없으므로 쓰기 요청은 회원 조회/외래 키에서 실패
+@Component
+@RequiredArgsConstructor
+public class WithdrawnMemberRegistry {
+
+    private final MemberRepository memberRepository;
+
+    private final Set<Long> withdrawnIds = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        withdrawnIds.addAll(memberRepository.findWithdrawnIds(Pageable.unpaged()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberWithdrawn(MemberWithdrawnEvent event) {
+        withdrawnIds.add(event.getMemberId());
+    }
+
+    public boolean isWithdrawn(Long memberId) {
+        return withdrawnIds.contains(memberId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.opensw.food.api.timeline.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// DB 타임라인 저장소(feed.timeline.store=jdbc)에서 사용하는 홈 타임라인 행
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "home_timeline",
+        uniqueConstraints = @UniqueConstraint(name = "uk_home_timeline_member_article", columnNames = {"member_id", "article_id"}))
+public class TimelineEntry {
+
+    // 타임라인을 구성했다는 표시 행의 article_id (게시글이 하나도 없는 타임라인도 구성된 것으로 구분)
+    public static final long BUILT_MARKER = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "home_timeline_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "article_id", nullable = false)
+    private Long articleId;
+}
@@ -0,0 +1,36 @@
+package com.opensw.food.api.timeline.repository;
+
+import com.opensw.food.api.timeline.entity.TimelineEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+// 구성 표시 행(article_id = 0)은 게시글이 아니므로 조회/정리 대상에서 제외
+public interface TimelineEntryRepository extends JpaRepository<TimelineEntry, Long> {
+
+    @Query("select t.articleId from TimelineEntry t " +
+            "where t.memberId = :memberId and t.articleId < :beforeId and t.articleId > 0 " +
+            "order by t.articleId desc")
+    List<Long> findArticleIds(@Param("memberId") Long memberId,
+                              @Param("beforeId") Long beforeId,
+                              Pageable pageable);
+
+    boolean existsByMemberIdAndArticleId(Long memberId, Long articleId);
+
+    @Modifying
+    @Query("delete from TimelineEntry t where t.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    // 용량을 넘긴 회원 목록
+    @Query("select t.memberId from TimelineEntry t where t.articleId > 0 " +
+            "group by t.memberId having count(t) > :capacity")
+    List<Long> findMemberIdsOverCapacity(@Param("capacity") long capacity);
+
+    @Modifying
+    @Query("delete from TimelineEntry t where t.memberId = :memberId and t.articleId < :articleId and t.articleId > 0")
+    int deleteOlderThan(@Param("memberId") Long memberId, @Param("articleId") Long articleId);
+}
@@ -0,0 +1,129 @@
+package com.opensw.food.api.timeline.service;
+
+import com.opensw.food.api.article.event.ArticleCreatedEvent;
+import com.opensw.food.api.article.repository.ArticleRepository;
+import com.opensw.food.api.member.event.FollowChangedEvent;
+import com.opensw.food.api.member.repository.FollowRepository;
+import com.opensw.food.api.timeline.store.TimelineSlice;
+import com.opensw.food.api.timeline.store.TimelineStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+// 홈 타임라인 - 일반 회원의 글은 작성 시 팔로워 타임라인에 푸시(fan-out-on-write)하고,
+// 팔로워가 많은 회원의 글은 조회 시점에 합친다(fan-out-on-read).
+@Slf4j
+@Service
+public class TimelineService {
+
+    private static final int FANOUT_BATCH_SIZE = 1000;
+
+    private final TimelineStore timelineStore;
+    private final FollowRepository followRepository;
+    private final ArticleRepository articleRepository;
+    private final long celebrityThreshold;
+
+    public TimelineService(TimelineStore timelineStore,
+                           FollowRepository followRepository,
+                           ArticleRepository articleRepository,
+                           @Value("${feed.timeline.celebrity-threshold:10000}") long celebrityThreshold) {
+        this.timelineStore = timelineStore;
+        this.followRepository = followRepository;
+        this.articleRepository = articleRepository;
+        this.celebrityThreshold = celebrityThreshold;
+    }
+
+    // 게시글 생성 커밋 이후 팔로워 타임라인으로 팬아웃
+    @Async("timelineFanoutExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void fanOut(ArticleCreatedEvent event) {
+        Long authorId = event.getAuthorId();
+
+        if (followRepository.countByFollowingMemberId(authorId) > celebrityThreshold) {
+            // 팔로워가 많은 회원은 조회 시점에 합침
+            return;
+        }
+
+        Long lastFollowerId = 0L;
+        while (true) {
+            List<Long> followerIds = followRepository.findFollowerIdsAfter(
+                    authorId, lastFollowerId, PageRequest.of(0, FANOUT_BATCH_SIZE));
+            if (followerIds.isEmpty()) {
+                break;
+            }
+            timelineStore.push(followerIds, event.getArticleId());
+            lastFollowerId = followerIds.get(followerIds.size() - 1);
+        }
+    }
+
+    // 팔로우/언팔로우 커밋 이후 폐기 - 커밋 전에 폐기하면 그 사이 조회가 이전 팔로우 목록으로 다시 구성함
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        timelineStore.evict(event.getFollowerId());
+    }
+
+    // 탈퇴 회원 정리 등으로 타임라인 구성이 바뀐 경우
+    public void evict(Long memberId) {
+        timelineStore.evict(memberId);
+    }
+
+    // beforeArticleId 보다 오래된 팔로잉 게시글 ID를 최신순으로 최대 limit개 조회
+    public List<Long> getTimeline(Long memberId, Long beforeArticleId, int limit) {
+        List<Long> followingIds = followRepository.findFollowingIds(memberId);
+        if (followingIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> celebrityIds = followRepository.findMemberIdsWithFollowersOver(followingIds, celebrityThreshold);
+        List<Long> pushedIds = new ArrayList<>(followingIds);
+        pushedIds.removeAll(celebrityIds);
+
+        Long before = beforeArticleId == null ? Long.MAX_VALUE : beforeArticleId;
+        List<Long> articleIds = new ArrayList<>();
+
+        if (!pushedIds.isEmpty()) {
+            articleIds.addAll(readPushed(memberId, pushedIds, beforeArticleId, before, limit));
+        }
+
+        if (!celebrityIds.isEmpty()) {
+            articleIds.addAll(articleRepository.findIdsByMemberIdsBefore(celebrityIds, before, PageRequest.of(0, limit)));
+        }
+
+        return articleIds.stream()
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .limit(limit)
+                .toList();
+    }
+
+    private List<Long> readPushed(Long memberId, List<Long> pushedIds, Long beforeArticleId, Long before, int limit) {
+        Optional<TimelineSlice> cached = timelineStore.read(memberId, beforeArticleId, limit);
+
+        TimelineSlice slice;
+        if (cached.isPresent()) {
+            slice = cached.get();
+        } else {
+            // 타임라인이 없으면 DB에서 최근 게시글로 구성
+            List<Long> recent = articleRepository.findIdsByMemberIdsBefore(
+                    pushedIds, Long.MAX_VALUE, PageRequest.of(0, timelineStore.capacity()));
+            timelineStore.rebuild(memberId, recent);
+            slice = timelineStore.read(memberId, beforeArticleId, limit)
+                    .orElseGet(() -> new TimelineSlice(Collections.emptyList(), true));
+        }
+
+        List<Long> articleIds = new ArrayList<>(slice.getArticleIds());
+        if (articleIds.size() < limit && slice.isTruncated()) {
+            // 저장소 범위를 벗어난 오래된 페이지는 DB에서 보충
+            Long oldest = articleIds.isEmpty() ? before : articleIds.get(articleIds.size() - 1);
+            articleIds.addAll(articleRepository.findIdsByMemberIdsBefore(
+                    pushedIds, oldest, PageRequest.of(0, limit - articleIds.size())));
+        }
+        return articleIds;
+    }
+}
@@ -0,0 +1,96 @@
+package com.opensw.food.api.timeline.store;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 프로세스 내 타임라인 저장소 - 회원 수(LRU)와 타임라인 길이 모두 제한
+@Component
+@ConditionalOnProperty(name = "feed.timeline.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTimelineStore implements TimelineStore {
+
+    private final int capacity;
+    private final Map<Long, Timeline> timelines;
+
+    public InMemoryTimelineStore(@Value("${feed.timeline.capacity:500}") int capacity,
+                                 @Value("${feed.timeline.max-members:100000}") int maxMembers) {
+        this.capacity = capacity;
+        this.timelines = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Timeline> eldest) {
+                return size() > maxMembers;
+            }
+        });
+    }
+
+    @Override
+    public Optional<TimelineSlice> read(Long memberId, Long beforeArticleId, int limit) {
+        Timeline timeline = timelines.get(memberId);
+        if (timeline == null) {
+            return Optional.empty();
+        }
+        return Optional.of(timeline.read(beforeArticleId, limit));
+    }
+
+    @Override
+    public void rebuild(Long memberId, List<Long> articleIds) {
+        Timeline timeline = new Timeline();
+        for (Long articleId : articleIds) {
+            timeline.add(articleId);
+        }
+        // 용량만큼 가득 채워 구성했다면 DB에 더 오래된 글이 남아있을 수 있음
+        if (articleIds.size() >= capacity) {
+            timeline.truncated = true;
+        }
+        timelines.put(memberId, timeline);
+    }
+
+    @Override
+    public void push(Collection<Long> memberIds, Long articleId) {
+        for (Long memberId : memberIds) {
+            // 구성되지 않은 타임라인은 조회 시점에 DB에서 만들어지므로 건너뜀
+            Timeline timeline = timelines.get(memberId);
+            if (timeline != null) {
+                timeline.add(articleId);
+            }
+        }
+    }
+
+    @Override
+    public void evict(Long memberId) {
+        timelines.remove(memberId);
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    private class Timeline {
+        private final TreeSet<Long> articleIds = new TreeSet<>();
+        private boolean truncated;
+
+        synchronized void add(Long articleId) {
+            articleIds.add(articleId);
+            if (articleIds.size() > capacity) {
+                articleIds.pollFirst(); // 가장 오래된 게시글 제거
+                truncated = true;
+            }
+        }
+
+        synchronized TimelineSlice read(Long beforeArticleId, int limit) {
+            NavigableSet<Long> older = beforeArticleId == null
+                    ? articleIds
+                    : articleIds.headSet(beforeArticleId, false);
+
+            List<Long> result = new ArrayList<>(Math.min(limit, older.size()));
+            Iterator<Long> it = older.descendingIterator();
+            while (it.hasNext() && result.size() < limit) {
+                result.add(it.next());
+            }
+            return new TimelineSlice(result, truncated);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.opensw.food.api.timeline.store;
+
+import com.opensw.food.api.timeline.entity.TimelineEntry;
+import com.opensw.food.api.timeline.repository.TimelineEntryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+// DB(home_timeline 테이블) 타임라인 저장소 - 여러 서버 인스턴스가 타임라인을 공유해야 할 때 사용
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "feed.timeline.store", havingValue = "jdbc")
+public class JdbcTimelineStore implements TimelineStore {
+
+    private static final String INSERT_SQL = "insert into home_timeline (member_id, article_id) values (?, ?)";
+
+    private final TimelineEntryRepository timelineEntryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int capacity;
+
+    public JdbcTimelineStore(TimelineEntryRepository timelineEntryRepository,
+                             JdbcTemplate jdbcTemplate,
+                             @Value("${feed.timeline.capacity:500}") int capacity) {
+        this.timelineEntryRepository = timelineEntryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.capacity = capacity;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<TimelineSlice> read(Long memberId, Long beforeArticleId, int limit) {
+        Long before = beforeArticleId == null ? Long.MAX_VALUE : beforeArticleId;
+        List<Long> articleIds = timelineEntryRepository.findArticleIds(memberId, before, PageRequest.of(0, limit));
+        if (articleIds.isEmpty() && beforeArticleId == null) {
+            // 구성 표시 행만 있으면 구성 당시 게시글이 없던 타임라인 - 다시 구성하지 않고 DB 보충도 필요 없음
+            if (timelineEntryRepository.existsByMemberIdAndArticleId(memberId, TimelineEntry.BUILT_MARKER)) {
+                return Optional.of(new TimelineSlice(articleIds, false));
+            }
+            return Optional.empty();
+        }
+        // 팬아웃 시점에 타임라인이 없던 회원도 행이 생기므로 항상 부족분은 DB에서 보충
+        return Optional.of(new TimelineSlice(articleIds, true));
+    }
+
+    @Override
+    @Transactional
+    public void rebuild(Long memberId, List<Long> articleIds) {
+        timelineEntryRepository.deleteByMemberId(memberId);
+        List<Long[]> rows = new ArrayList<>(articleIds.size() + 1);
+        rows.add(new Long[]{memberId, TimelineEntry.BUILT_MARKER});
+        articleIds.forEach(articleId -> rows.add(new Long[]{memberId, articleId}));
+        batchInsert(rows);
+    }
+
+    @Override
+    public void push(Collection<Long> memberIds, Long articleId) {
+        batchInsert(memberIds.stream().map(memberId -> new Long[]{memberId, articleId}).toList());
+    }
+
+    // 팔로우 변경 커밋 이후 리스너에서도 호출되므로 항상 새 트랜잭션에서 삭제
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void evict(Long memberId) {
+        timelineEntryRepository.deleteByMemberId(memberId);
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    // 용량을 넘긴 타임라인의 오래된 행 정리
+    @Scheduled(fixedDelayString = "${feed.timeline.trim-interval-ms:600000}")
+    @Transactional
+    public void trim() {
+        for (Long memberId : timelineEntryRepository.findMemberIdsOverCapacity(capacity)) {
+            List<Long> oldestKept = timelineEntryRepository.findArticleIds(
+                    memberId, Long.MAX_VALUE, PageRequest.of(capacity - 1, 1));
+            if (!oldestKept.isEmpty()) {
+                timelineEntryRepository.deleteOlderThan(memberId, oldestKept.get(0));
+            }
+        }
+    }
+
+    private void batchInsert(List<Long[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(rows);
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, args);
+        } catch (DuplicateKeyException e) {
+            // 재구성과 팬아웃이 겹친 경우 - 한 건씩 넣으며 중복은 무시
+            for (Object[] row : args) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, row);
+                } catch (DuplicateKeyException ignored) {
+                    log.debug("Timeline entry already exists: member={}, article={}", row[0], row[1]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.opensw.food.api.timeline.store;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TimelineSlice {
+    private final List<Long> articleIds;
+    // 용량 초과로 잘려나간 오래된 게시글이 있을 수 있는지 여부 (true면 부족분은 DB에서 조회)
+    private final boolean truncated;
+}
@@ -0,0 +1,24 @@
+package com.opensw.food.api.timeline.store;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// 팔로워별 홈 타임라인(게시글 ID, 최신순) 저장소
+public interface TimelineStore {
+
+    // beforeArticleId 보다 오래된 게시글 ID를 최신순으로 최대 limit개 조회 (타임라인이 없으면 empty)
+    Optional<TimelineSlice> read(Long memberId, Long beforeArticleId, int limit);
+
+    // DB에서 다시 구성한 타임라인으로 교체 (articleIds는 최신순)
+    void rebuild(Long memberId, List<Long> articleIds);
+
+    // 팔로워들의 타임라인에 새 게시글 추가
+    void push(Collection<Long> memberIds, Long articleId);
+
+    // 팔로우 관계가 바뀐 경우 타임라인 폐기 (다음 조회 시 재구성)
+    void evict(Long memberId);
+
+    // 타임라인 하나에 보관하는 최대 게시글 수
+    int capacity();
+}
@@ -0,0 +1,67 @@
+package com.opensw.food.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+// spring.threads.virtual.enabled=true 이면 요청 처리와 @Scheduled 작업에 더해
+// I/O 위주의 전용 스레드풀도 가상 스레드로 실행 (풀 크기와 큐는 동시 실행 수 제한으로 그대로 유지)
+@Slf4j
+@Configuration
+public class AsyncConfig {
+
+    private final boolean virtualThreads;
+
+    public AsyncConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    // 타임라인 팬아웃 전용 스레드풀 (큐가 가득 차면 호출 스레드에서 실행해 누락 방지)
+    @Bean(name = "timelineFanoutExecutor")
+    public Executor timelineFanoutExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("timeline-fanout-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 이미지 파생본(썸네일) 생성 전용 스레드풀
+    // 큐가 가득 차면 작업을 버리고, 누락분은 주기적인 재처리에서 다시 생성 (요청 스레드에서 실행하지 않음)
+    // 디코딩/축소는 CPU 작업이라 가상 스레드 모드에서도 플랫폼 스레드 사용 (캐리어 스레드를 오래 점유하지 않도록)
+    @Bean(name = "imageDerivativeExecutor")
+    public Executor imageDerivativeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("image-derivative-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("Image derivative queue is full, task dropped (will be retried by sweeper)"));
+        executor.initialize();
+        return executor;
+    }
+
+    // 검색 색인 갱신 전용 스레드풀 (큐가 가득 차면 호출 스레드에서 실행해 누락 방지)
+    @Bean(name = "searchIndexExecutor")
+    public Executor searchIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("search-index-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
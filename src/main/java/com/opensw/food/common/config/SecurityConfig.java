@@ -1,7 +1,7 @@
 package com.opensw.food.common.config;
 
+import com.opensw.food.api.member.jwt.JwtAuthenticationCache;
 import com.opensw.food.api.member.jwt.JwtFilter;
-import com.opensw.food.api.member.jwt.JwtProvider;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
@@ -27,7 +27,7 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtProvider jwtProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -73,10 +73,13 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/public/**").permitAll()  // 공개 API 엔드포인트
                         .requestMatchers("/h2-console/**").permitAll()  // H2 콘솔 접근 허용
                         .requestMatchers("/api/v1/article/detail", "/api/v1/article/total").permitAll() // 게시글 전체, 상세 조회 접근 허용
+                        .requestMatchers("/api/v1/article/search").permitAll() // 게시글 검색 접근 허용
+                        .requestMatchers("/api/v1/article/trending").permitAll() // 인기 게시글 조회 접근 허용
+                        .requestMatchers("/api/v1/article/category", "/api/v1/article/categories").permitAll() // 카테고리별 게시글, 카테고리 목록 조회 접근 허용
                         .requestMatchers("/api/v1/comment").permitAll() // 댓글 조회 접근 허용
                         .requestMatchers( "/api-doc","/v3/api-docs/**", "/swagger-resources/**","/swagger-ui/**").permitAll() // 스웨거 접근 허용
                         .anyRequest().authenticated())
-                .addFilterBefore(new JwtFilter(jwtProvider), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtFilter(jwtAuthenticationCache), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
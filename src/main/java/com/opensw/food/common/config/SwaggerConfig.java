@@ -1,17 +1,24 @@
 package com.opensw.food.common.config;
 
+import com.opensw.food.common.resolver.LoginMemberId;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class SwaggerConfig {
 
+    static {
+        // 인증 정보에서 주입되는 파라미터는 문서에서 제외
+        SpringDocUtils.getConfig().addAnnotationsToIgnore(LoginMemberId.class);
+    }
+
     @Bean
     public OpenAPI openAPI() {
         // Access Token Bearer 인증 스키마 설정
@@ -0,0 +1,83 @@
+package com.opensw.food.common.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// 긴 문자열을 Deflate(zlib 형식)로 압축해 바이너리 컬럼에 저장
+// 압축 도입 전에 평문 UTF-8로 저장된 기존 행은 zlib 헤더가 없으므로 그대로 읽음
+@Converter
+public class CompressedStringConverter implements AttributeConverter<String, byte[]> {
+
+    private static final int BUFFER_SIZE = 8192;
+    // Deflater가 쓰는 zlib 헤더 첫 바이트 (deflate, 32KB 윈도우)
+    private static final int ZLIB_CMF = 0x78;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        if (attribute == null) {
+            return null;
+        }
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(attribute.getBytes(StandardCharsets.UTF_8));
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        if (!isCompressed(dbData)) {
+            return new String(dbData, StandardCharsets.UTF_8);
+        }
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(dbData);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(dbData.length * 3);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated compressed content");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Invalid compressed content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // zlib 헤더 - CMF 0x78, CMF/FLG 검사 값이 31의 배수, 미리 정한 사전(FDICT) 없음
+    // 평문 본문이 이 조건을 만족하려면 "x^"로 시작해야 하므로 기존 행을 압축 데이터로 잘못 읽을 일은 거의 없음
+    private static boolean isCompressed(byte[] data) {
+        if (data.length < 2 || (data[0] & 0xFF) != ZLIB_CMF) {
+            return false;
+        }
+        int flg = data[1] & 0xFF;
+        return (flg & 0x20) == 0 && ((ZLIB_CMF << 8) | flg) % 31 == 0;
+    }
+}
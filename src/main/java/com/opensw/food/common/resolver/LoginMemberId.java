@@ -0,0 +1,12 @@
+package com.opensw.food.common.resolver;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 로그인한 회원의 ID를 컨트롤러 파라미터로 주입 (비로그인 상태면 null)
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginMemberId {
+}
@@ -0,0 +1,69 @@
+package com.opensw.food.common.resolver;
+
+import com.opensw.food.api.member.jwt.MemberPrincipal;
+import com.opensw.food.api.member.repository.MemberRepository;
+import com.opensw.food.api.member.service.WithdrawnMemberRegistry;
+import com.opensw.food.common.exception.NotFoundException;
+import com.opensw.food.common.exception.UnauthorizedException;
+import com.opensw.food.common.response.ErrorStatus;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+@RequiredArgsConstructor
+public class LoginMemberIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final MemberRepository memberRepository;
+    private final WithdrawnMemberRegistry withdrawnMemberRegistry;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginMemberId.class)
+                && Long.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetails userDetails)) {
+            return null;
+        }
+
+        // 토큰에 담긴 회원 ID 사용 (조회 요청은 DB 조회 없음)
+        Long memberId;
+        if (userDetails instanceof MemberPrincipal memberPrincipal && memberPrincipal.getMemberId() != null) {
+            memberId = memberPrincipal.getMemberId();
+        } else {
+            // memberId 클레임이 없는 기존 토큰
+            memberId = memberRepository.findByEmail(userDetails.getUsername())
+                    .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()))
+                    .getMemberId();
+        }
+
+        // 탈퇴한 회원의 토큰도 만료 전까지는 유효하므로 쓰기 요청에서만 탈퇴 여부 확인 (메모리, DB 조회 없음)
+        if (isWriteRequest(webRequest) && withdrawnMemberRegistry.isWithdrawn(memberId)) {
+            throw new UnauthorizedException(ErrorStatus.WITHDRAWN_MEMBER_EXCEPTION.getMessage());
+        }
+        return memberId;
+    }
+
+    private boolean isWriteRequest(NativeWebRequest webRequest) {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        if (request == null) {
+            return false;
+        }
+        String method = request.getMethod();
+        return !HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method) && !HttpMethod.OPTIONS.matches(method);
+    }
+}
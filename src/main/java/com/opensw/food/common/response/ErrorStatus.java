@@ -19,6 +19,12 @@ public enum ErrorStatus {
     NOT_ALLOW_IMG_MIME(HttpStatus.BAD_REQUEST,"이미지 확장자 업로드만 가능합니다"),
     ARTICLE_WRITER_NOT_SAME_USER_EXCEPTION(HttpStatus.BAD_REQUEST,"게시글 작성자와 요청자가 다릅니다."),
     COMMENT_WRITER_NOT_SAME_USER_EXCEPTION(HttpStatus.BAD_REQUEST,"댓글 작성자와 요청자가 다릅니다."),
+    INVALID_CURSOR_EXCEPTION(HttpStatus.BAD_REQUEST,"잘못된 페이지 커서입니다."),
+    INVALID_INLINE_IMAGE_EXCEPTION(HttpStatus.BAD_REQUEST,"본문 이미지 데이터가 올바르지 않습니다."),
+    INLINE_IMAGE_TOO_LARGE_EXCEPTION(HttpStatus.BAD_REQUEST,"본문 이미지가 너무 큽니다."),
+    COMMENT_DEPTH_EXCEEDED_EXCEPTION(HttpStatus.BAD_REQUEST,"더 이상 답글을 달 수 없습니다."),
+    INVALID_CATEGORY_EXCEPTION(HttpStatus.BAD_REQUEST,"카테고리는 50자 이하로 입력해주세요."),
+    CATEGORY_LIMIT_EXCEEDED_EXCEPTION(HttpStatus.BAD_REQUEST,"더 이상 새 카테고리를 추가할 수 없습니다."),
 
     /**
      * 401 UNAUTHORIZED
@@ -28,6 +34,7 @@ public enum ErrorStatus {
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."),
     UNSUPPORTED_TOKEN(HttpStatus.UNAUTHORIZED, "지원되지 않는 토큰입니다."),
     EMPTY_TOKEN(HttpStatus.UNAUTHORIZED, "토큰이 비어있습니다."),
+    WITHDRAWN_MEMBER_EXCEPTION(HttpStatus.UNAUTHORIZED, "탈퇴한 회원입니다."),
 
     /**
      * 403 FORBIDDEN
@@ -46,6 +53,12 @@ public enum ErrorStatus {
      * 500 SERVER_ERROR
      */
     FAIL_UPLOAD_PROFILE_IMAGE(HttpStatus.INTERNAL_SERVER_ERROR, "프로필 사진이 변경되지 않았습니다."),
+    FAIL_UPLOAD_ARTICLE_IMAGE(HttpStatus.INTERNAL_SERVER_ERROR, "게시글 이미지 업로드에 실패했습니다."),
+
+    /**
+     * 503 SERVICE_UNAVAILABLE
+     */
+    S3_UNAVAILABLE_EXCEPTION(HttpStatus.SERVICE_UNAVAILABLE, "이미지 저장소가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요."),
 
 
     ;
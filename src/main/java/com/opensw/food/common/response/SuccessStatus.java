@@ -18,9 +18,13 @@ public enum SuccessStatus {
     MEMBER_WITHDRAW_SUCCESS(HttpStatus.OK, "회원탈퇴 성공"),
     GET_CURRENT_MEMBER_SUCCESS(HttpStatus.OK, "현재 사용자 정보 조회 성공"),
     SEND_ARTICLE_SUCCESS(HttpStatus.OK,"게시글 조회 성공"),
+    SEARCH_ARTICLE_SUCCESS(HttpStatus.OK,"게시글 검색 성공"),
+    GET_CATEGORY_SUCCESS(HttpStatus.OK,"카테고리 조회 성공"),
     DELETE_MEMO_SUCCESS(HttpStatus.OK,"게시글 삭제 성공"),
     UPDATE_MEMO_SUCCESS(HttpStatus.OK,"게시글 수정 성공"),
     TOGGLE_LIKE_SUCCESS(HttpStatus.OK,"좋아요 토글 성공"),
+    LIKE_SUCCESS(HttpStatus.OK,"좋아요 성공"),
+    UNLIKE_SUCCESS(HttpStatus.OK,"좋아요 취소 성공"),
     USER_FOLLOW_SUCCESS(HttpStatus.OK,"팔로우 성공"),
     USER_UNFOLLOW_SUCCESS(HttpStatus.OK,"언팔로우 성공"),
     GET_FOLLOWED_USERS_SUCCESS(HttpStatus.OK,"팔로잉 정보 조회 성공"),
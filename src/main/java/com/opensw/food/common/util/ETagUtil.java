@@ -0,0 +1,18 @@
+package com.opensw.food.common.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// 조건부 조회(If-None-Match)용 ETag 생성 - 응답 내용을 결정하는 값들을 해시한 strong ETag
+public final class ETagUtil {
+
+    private ETagUtil() {
+    }
+
+    public static String strong(Object... parts) {
+        String version = Arrays.deepToString(parts);
+        return "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
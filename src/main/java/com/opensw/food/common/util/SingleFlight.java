@@ -0,0 +1,83 @@
+package com.opensw.food.common.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 같은 키의 동시 요청을 한 번의 실행으로 합침 - 먼저 온 요청만 실행하고 나머지는 그 결과(예외 포함)를 함께 받음
+// ttlMs > 0 이면 성공한 결과를 그 시간 동안 재사용 (예외는 재사용하지 않음)
+public final class SingleFlight<K, V> {
+
+    // 만료된 결과가 이 개수를 넘게 쌓이면 한 번에 정리
+    private static final int SWEEP_THRESHOLD = 1024;
+
+    private final Map<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final long ttlMs;
+
+    public SingleFlight(long ttlMs) {
+        this.ttlMs = Math.max(0, ttlMs);
+    }
+
+    public V execute(K key, Supplier<V> supplier) {
+        while (true) {
+            Flight<V> flight = flights.get(key);
+            if (flight != null) {
+                if (flight.expiresAt > System.currentTimeMillis()) {
+                    return flight.await();
+                }
+                flights.remove(key, flight);
+                continue;
+            }
+
+            Flight<V> mine = new Flight<>();
+            if (flights.putIfAbsent(key, mine) == null) {
+                return run(key, mine, supplier);
+            }
+        }
+    }
+
+    private V run(K key, Flight<V> flight, Supplier<V> supplier) {
+        V value;
+        try {
+            value = supplier.get();
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.future.completeExceptionally(e);
+            throw e;
+        }
+
+        if (ttlMs > 0) {
+            long now = System.currentTimeMillis();
+            flight.expiresAt = now + ttlMs;
+            if (flights.size() > SWEEP_THRESHOLD) {
+                flights.values().removeIf(expired -> expired.expiresAt <= now);
+            }
+        } else {
+            flights.remove(key, flight);
+        }
+        flight.future.complete(value);
+        return value;
+    }
+
+    private static class Flight<V> {
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        // 실행 중에는 만료되지 않음
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private V await() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.opensw.food;
+
+import com.opensw.food.support.HttpTrafficTestSupport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+// 플랫폼 스레드와 가상 스레드 요청 처리 비교 - 느린 S3 업로드와 게시글 목록 조회를 섞어 보내고 조회 지연을 측정
+// 플랫폼 스레드는 업로드가 요청 스레드를 모두 차지해 조회 p99가 기준을 넘고, 가상 스레드는 기준 안에 들어와야 함
+// 실행: LOAD_TEST=true ./gradlew test --tests 'com.opensw.food.MixedTrafficLoadTest*'
+@TestPropertySource(properties = {
+        "server.tomcat.threads.max=16",
+        // 요청이 DB 연결을 기다리지 않도록 동시 요청 수보다 크게 (스레드 모델만 비교)
+        "spring.datasource.hikari.maximum-pool-size=64"
+})
+abstract class MixedTrafficLoadTest extends HttpTrafficTestSupport {
+
+    private static final long UPLOAD_LATENCY_MS = 2000;
+    private static final int UPLOADERS = 32;
+    private static final int READERS = 16;
+    private static final int READS_PER_READER = 20;
+    // 조회 p99 기준 - 업로드 한 번의 지연보다 충분히 작은 값
+    private static final long READ_P99_BOUND_MS = UPLOAD_LATENCY_MS / 2;
+
+    private static final Logger log = LoggerFactory.getLogger(MixedTrafficLoadTest.class);
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = "spring.threads.virtual.enabled=false")
+    @EnabledIfEnvironmentVariable(named = "LOAD_TEST", matches = "true")
+    static class PlatformThreads extends MixedTrafficLoadTest {
+
+        // 요청 스레드(16개)가 업로드에 묶여 조회가 업로드 뒤에 줄을 섬
+        @Override
+        void verifyReadP99(long p99Ms) {
+            assertThat(p99Ms).isGreaterThanOrEqualTo(READ_P99_BOUND_MS);
+        }
+    }
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = "spring.threads.virtual.enabled=true")
+    @EnabledIfEnvironmentVariable(named = "LOAD_TEST", matches = "true")
+    static class VirtualThreads extends MixedTrafficLoadTest {
+
+        // 업로드가 기다리는 동안 요청 스레드를 붙잡지 않아 조회가 바로 처리됨
+        @Override
+        void verifyReadP99(long p99Ms) {
+            assertThat(p99Ms).isLessThan(READ_P99_BOUND_MS);
+        }
+    }
+
+    abstract void verifyReadP99(long p99Ms);
+
+    @Test
+    void readLatencyUnderSlowUploads() throws Exception {
+        given(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .willAnswer(invocation -> CompletableFuture.supplyAsync(() -> PutObjectResponse.builder().build(),
+                        CompletableFuture.delayedExecutor(UPLOAD_LATENCY_MS, TimeUnit.MILLISECONDS)));
+        String token = createMemberToken("load");
+
+        TrafficResult result = runMixedTraffic(token, UPLOADERS, READERS, READS_PER_READER, 200, Duration.ofMinutes(2));
+
+        assertThat(result.uploadStatuses()).containsOnly(200);
+        long p99 = result.readPercentile(0.99);
+        log.info("[{}] uploads={} reads={} elapsed={}ms read p50={}ms p99={}ms max={}ms",
+                getClass().getSimpleName(), UPLOADERS, result.reads(), result.elapsedMs(),
+                result.readPercentile(0.50), p99, result.maxRead());
+        verifyReadP99(p99);
+    }
+}
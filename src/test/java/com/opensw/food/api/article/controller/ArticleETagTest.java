@@ -0,0 +1,146 @@
+package com.opensw.food.api.article.controller;
+
+import com.opensw.food.api.article.entity.Article;
+import com.opensw.food.api.article.repository.ArticleLikeRepository;
+import com.opensw.food.api.article.repository.ArticleRepository;
+import com.opensw.food.api.article.service.ArticleService;
+import com.opensw.food.api.article.service.ArticleTrendingService;
+import com.opensw.food.api.member.entity.Member;
+import com.opensw.food.api.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 게시글 상세/전체 조회 ETag - 200 → 304 → 변경 → 200 흐름과 304 응답의 조회 기록 검증
+@SpringBootTest(properties = {
+        // 변경 직후의 ETag를 바로 확인하도록 비로그인 ETag 공유는 끔
+        "read.coalesce.ttl-ms=0"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class ArticleETagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ArticleLikeRepository articleLikeRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private ArticleTrendingService articleTrendingService;
+
+    private Member writer;
+    private Member liker;
+    private Article article;
+
+    @BeforeEach
+    void setUp() {
+        writer = memberRepository.save(Member.builder()
+                .email("writer@test.com")
+                .password("password")
+                .nickname("writer")
+                .build());
+        liker = memberRepository.save(Member.builder()
+                .email("liker@test.com")
+                .password("password")
+                .nickname("liker")
+                .build());
+        article = articleRepository.save(Article.builder()
+                .member(writer)
+                .title("title")
+                .build());
+        clearInvocations(articleTrendingService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        articleLikeRepository.deleteAllInBatch();
+        articleRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void detailReturnsNotModifiedUntilArticleChanges() throws Exception {
+        String eTag = getDetail(null, 200).getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotNull();
+
+        getDetail(eTag, 304);
+
+        articleService.likeArticle(article.getId(), liker.getMemberId());
+
+        MvcResult changed = getDetail(eTag, 200);
+        assertThat(changed.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void notModifiedDetailStillCountsAsView() throws Exception {
+        String eTag = getDetail(null, 200).getResponse().getHeader(HttpHeaders.ETAG);
+        getDetail(eTag, 304);
+        getDetail(eTag, 304);
+
+        verify(articleTrendingService, times(3)).recordView(eq(article.getId()), any());
+    }
+
+    @Test
+    void nicknameChangeInvalidatesDetailAndFeedETags() throws Exception {
+        String detailETag = getDetail(null, 200).getResponse().getHeader(HttpHeaders.ETAG);
+        String feedETag = mockMvc.perform(get("/api/v1/article/total"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        jdbcTemplate.update("update member set nickname = ? where member_id = ?", "renamed", writer.getMemberId());
+
+        // 캐시된 상세가 남아 있어도 새 ETag와 함께 바뀐 닉네임이 응답되어야 함
+        mockMvc.perform(get("/api/v1/article/detail")
+                        .param("articleId", String.valueOf(article.getId()))
+                        .header(HttpHeaders.IF_NONE_MATCH, detailETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nickname").value("renamed"));
+        mockMvc.perform(get("/api/v1/article/total")
+                        .header(HttpHeaders.IF_NONE_MATCH, feedETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.articles[0].nickname").value("renamed"));
+    }
+
+    private MvcResult getDetail(String ifNoneMatch, int expectedStatus) throws Exception {
+        var request = get("/api/v1/article/detail")
+                .param("articleId", String.valueOf(article.getId()));
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().is(expectedStatus))
+                .andReturn();
+    }
+}
@@ -0,0 +1,112 @@
+package com.opensw.food.api.article.repository;
+
+import com.opensw.food.api.article.dto.ArticleTotalListResponseDTO;
+import com.opensw.food.api.article.dto.MyArticleListResponseDTO;
+import com.opensw.food.api.article.entity.Article;
+import com.opensw.food.api.category.entity.Category;
+import com.opensw.food.api.member.entity.Member;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시글 조회 경로별 SQL 실행 횟수 검증 (N+1 회귀 방지)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ArticleRepositoryTest {
+
+    private static final int ARTICLE_COUNT = 5;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    private Statistics statistics;
+    private Member member;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        member = em.persist(Member.builder()
+                .email("writer@test.com")
+                .password("password")
+                .nickname("writer")
+                .build());
+
+        category = em.persist(new Category("korean"));
+
+        for (int i = 0; i < ARTICLE_COUNT; i++) {
+            Article article = Article.builder()
+                    .member(member)
+                    .title("title" + i)
+                    .category(category)
+                    .build();
+            article.addImages(List.of("https://cdn.test/" + i + "-a.png", "https://cdn.test/" + i + "-b.png"));
+            article.updatePreview("excerpt" + i, "https://cdn.test/" + i + "-a.png");
+            em.persist(article);
+        }
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void feedPageIsSingleQuery() {
+        List<ArticleTotalListResponseDTO> feed = articleRepository.findFeedFirstPage(PageRequest.of(0, 20));
+
+        assertThat(feed).hasSize(ARTICLE_COUNT);
+        assertThat(feed).allSatisfy(card -> {
+            assertThat(card.getNickname()).isEqualTo("writer");
+            assertThat(card.getCategory()).isEqualTo("korean");
+            assertThat(card.getImage()).endsWith("-a.png");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void categoryFeedIsSingleQuery() {
+        List<ArticleTotalListResponseDTO> feed =
+                articleRepository.findCategoryFeedFirstPage(category.getId(), PageRequest.of(0, 20));
+
+        assertThat(feed).hasSize(ARTICLE_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void detailLoadsAuthorAndImagesInSingleQuery() {
+        Long articleId = articleRepository.findFeedFirstPage(PageRequest.of(0, 1)).get(0).getId();
+        em.clear();
+        statistics.clear();
+
+        Article article = articleRepository.findDetailById(articleId).orElseThrow();
+        assertThat(article.getMember().getNickname()).isEqualTo("writer");
+        assertThat(article.getImages()).hasSize(2);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void myArticleListIsSingleQuery() {
+        List<MyArticleListResponseDTO> articles = articleRepository.findMyArticles(member.getMemberId());
+        articles.forEach(article -> {
+            assertThat(article.getExcerpt()).startsWith("excerpt");
+            assertThat(article.getCoverImageUrl()).endsWith("-a.png");
+        });
+
+        assertThat(articles).hasSize(ARTICLE_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,149 @@
+package com.opensw.food.api.article.service;
+
+import com.opensw.food.api.article.entity.Article;
+import com.opensw.food.api.article.repository.ArticleRepository;
+import com.opensw.food.api.member.entity.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 게시글 카운트 버퍼 모드 - 증감은 버퍼에 모으고, flush에서 합산한 값만 반영한 뒤 비움
+@DataJpaTest
+class ArticleCountServiceTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final ArticleDetailCache articleDetailCache = mock(ArticleDetailCache.class);
+
+    private Long articleId;
+    private Runnable duringFlush = () -> { };
+
+    @BeforeEach
+    void setUp() {
+        Member writer = em.persist(Member.builder()
+                .email("writer@test.com")
+                .password("password")
+                .nickname("writer")
+                .build());
+        articleId = em.persist(Article.builder().member(writer).title("title").build()).getId();
+        em.flush();
+    }
+
+    @Test
+    void buffersDeltasInsteadOfWritingThem() {
+        ArticleCountService service = service();
+
+        service.addLikeCnt(articleId, 1);
+        service.addLikeCnt(articleId, 1);
+        service.addCmtCnt(articleId, 1);
+
+        assertThat(service.pendingLikeCnt(articleId)).isEqualTo(2);
+        assertThat(service.pendingCmtCnt(articleId)).isEqualTo(1);
+        assertThat(stored().getLikeCnt()).isZero();
+        assertThat(stored().getCmtCnt()).isZero();
+    }
+
+    @Test
+    void flushWritesSummedDeltasAndClearsBuffer() {
+        ArticleCountService service = service();
+        service.addLikeCnt(articleId, 1);
+        service.addLikeCnt(articleId, 1);
+        service.addLikeCnt(articleId, -1);
+        service.addCmtCnt(articleId, 2);
+
+        service.flush();
+
+        assertThat(stored().getLikeCnt()).isEqualTo(1);
+        assertThat(stored().getCmtCnt()).isEqualTo(2);
+        assertThat(service.pendingLikeCnt(articleId)).isZero();
+        assertThat(service.pendingCmtCnt(articleId)).isZero();
+        verify(articleDetailCache).invalidateAll(List.of(articleId));
+    }
+
+    // 반영 중인 증감도 DB에 쓰이기 전까지는 미반영분으로 보이고, 그 사이의 증감은 다음 flush로 넘어감
+    @Test
+    void pendingCountsStayCorrectWhileFlushing() {
+        ArticleCountService service = service();
+        service.addLikeCnt(articleId, 3);
+        service.addCmtCnt(articleId, 1);
+        duringFlush = () -> {
+            assertThat(service.pendingLikeCnt(articleId)).isEqualTo(3);
+            assertThat(service.pendingCmtCnt(articleId)).isEqualTo(1);
+            service.addLikeCnt(articleId, 1);
+            assertThat(service.pendingLikeCnt(articleId)).isEqualTo(4);
+        };
+
+        service.flush();
+
+        assertThat(stored().getLikeCnt()).isEqualTo(3);
+        assertThat(stored().getCmtCnt()).isEqualTo(1);
+        assertThat(service.pendingLikeCnt(articleId)).isEqualTo(1);
+        assertThat(service.pendingCmtCnt(articleId)).isZero();
+    }
+
+    @Test
+    void keepsDeltasBufferedWhenFlushFails() {
+        ArticleCountService service = service();
+        service.addLikeCnt(articleId, 2);
+        duringFlush = () -> {
+            throw new DataAccessResourceFailureException("database unavailable");
+        };
+
+        service.flush();
+
+        assertThat(stored().getLikeCnt()).isZero();
+        assertThat(service.pendingLikeCnt(articleId)).isEqualTo(2);
+        verify(articleDetailCache, never()).invalidateAll(List.of(articleId));
+    }
+
+    @Test
+    void writesImmediatelyWhenNotBuffered() {
+        ArticleCountService service = new ArticleCountService(articleRepository, articleDetailCache,
+                new JdbcTemplate(dataSource), transactionTemplate, false);
+
+        service.addLikeCnt(articleId, 1);
+        service.flush();
+
+        assertThat(stored().getLikeCnt()).isEqualTo(1);
+        assertThat(service.pendingLikeCnt(articleId)).isZero();
+    }
+
+    private ArticleCountService service() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource) {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                duringFlush.run();
+                return super.batchUpdate(sql, batchArgs);
+            }
+        };
+        return new ArticleCountService(articleRepository, articleDetailCache, jdbcTemplate, transactionTemplate, true);
+    }
+
+    private Article stored() {
+        em.clear();
+        return articleRepository.findById(articleId).orElseThrow();
+    }
+}
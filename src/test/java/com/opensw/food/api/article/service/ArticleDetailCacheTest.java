@@ -0,0 +1,83 @@
+package com.opensw.food.api.article.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// 게시글 상세 캐시 - 재사용, 무효화, 동시 첫 조회 시 한 번만 읽는지 확인
+class ArticleDetailCacheTest {
+
+    private static final Long ARTICLE_ID = 1L;
+
+    private final ArticleDetailCache cache = new ArticleDetailCache(new SimpleMeterRegistry(), 100, 60_000);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ArticleDetailSnapshot load(Long articleId) {
+        loads.incrementAndGet();
+        return mock(ArticleDetailSnapshot.class);
+    }
+
+    @Test
+    void reusesLoadedDetailUntilInvalidated() {
+        ArticleDetailSnapshot first = cache.get(ARTICLE_ID, this::load);
+        assertThat(cache.get(ARTICLE_ID, this::load)).isSameAs(first);
+        assertThat(loads).hasValue(1);
+
+        cache.invalidate(ARTICLE_ID);
+        assertThat(cache.get(ARTICLE_ID, this::load)).isNotSameAs(first);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void doesNotStoreDetailInvalidatedWhileLoading() {
+        cache.get(ARTICLE_ID, articleId -> {
+            // 읽는 도중 수정이 커밋된 경우
+            cache.invalidate(articleId);
+            return load(articleId);
+        });
+
+        cache.get(ARTICLE_ID, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void concurrentMissesLoadOnce() throws Exception {
+        int threads = 8;
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<ArticleDetailSnapshot>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> cache.get(ARTICLE_ID, articleId -> {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return load(articleId);
+                })));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            ArticleDetailSnapshot first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<ArticleDetailSnapshot> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.opensw.food.api.article.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleExcerptGeneratorTest {
+
+    private static final String EMOJI = "🍜"; // 서로게이트 쌍으로 표현되는 문자
+
+    @Test
+    void keepsContentUpToMaxLengthWithoutEllipsis() {
+        String content = "가".repeat(ArticleExcerptGenerator.MAX_LENGTH);
+
+        assertThat(ArticleExcerptGenerator.generate(content)).isEqualTo(content);
+    }
+
+    @Test
+    void cutsAtMaxLengthCodePointsAndAppendsEllipsis() {
+        String content = "가".repeat(ArticleExcerptGenerator.MAX_LENGTH + 1);
+
+        assertThat(ArticleExcerptGenerator.generate(content))
+                .isEqualTo("가".repeat(ArticleExcerptGenerator.MAX_LENGTH) + "…");
+    }
+
+    @Test
+    void countsSurrogatePairAsOneCharacterAndNeverSplitsIt() {
+        String fits = EMOJI.repeat(ArticleExcerptGenerator.MAX_LENGTH);
+        assertThat(ArticleExcerptGenerator.generate(fits)).isEqualTo(fits);
+
+        String excerpt = ArticleExcerptGenerator.generate("a" + EMOJI.repeat(ArticleExcerptGenerator.MAX_LENGTH));
+        assertThat(excerpt).isEqualTo("a" + EMOJI.repeat(ArticleExcerptGenerator.MAX_LENGTH - 1) + "…");
+        assertThat(excerpt.codePointCount(0, excerpt.length())).isEqualTo(ArticleExcerptGenerator.MAX_LENGTH + 1);
+    }
+
+    @Test
+    void doesNotEndWithSpaceBeforeEllipsis() {
+        String content = "가".repeat(ArticleExcerptGenerator.MAX_LENGTH - 1) + " 나다";
+
+        assertThat(ArticleExcerptGenerator.generate(content))
+                .isEqualTo("가".repeat(ArticleExcerptGenerator.MAX_LENGTH - 1) + "…");
+    }
+
+    @Test
+    void decodesNamedAndNumericEntities() {
+        assertThat(ArticleExcerptGenerator.generate("a &amp; b &lt;c&gt; &quot;d&quot; &apos;e&apos;"))
+                .isEqualTo("a & b <c> \"d\" 'e'");
+        assertThat(ArticleExcerptGenerator.generate("&#44032;&#xAC01;&#x1F35C;")).isEqualTo("가각" + EMOJI);
+        assertThat(ArticleExcerptGenerator.generate("a&nbsp;&nbsp;b")).isEqualTo("a b");
+    }
+
+    @Test
+    void leavesUnknownOrInvalidEntitiesAsText() {
+        assertThat(ArticleExcerptGenerator.generate("&unknown; &#xZZ; &#1114112; & a"))
+                .isEqualTo("&unknown; &#xZZ; &#1114112; & a");
+    }
+
+    @Test
+    void countsDecodedEntityAsOneCharacter() {
+        String content = "&amp;".repeat(ArticleExcerptGenerator.MAX_LENGTH + 1);
+
+        assertThat(ArticleExcerptGenerator.generate(content))
+                .isEqualTo("&".repeat(ArticleExcerptGenerator.MAX_LENGTH) + "…");
+    }
+
+    @Test
+    void stripsTagsAndImagesAndCollapsesWhitespace() {
+        String content = "<p>첫 문장</p><p>둘째<br>줄</p>\n\n<img src=\"https://cdn.test/a.jpg\">  <!-- 주석 -->끝";
+
+        assertThat(ArticleExcerptGenerator.generate(content)).isEqualTo("첫 문장 둘째 줄 끝");
+    }
+
+    @Test
+    void keepsLessThanSignThatIsNotATag() {
+        assertThat(ArticleExcerptGenerator.generate("1 < 2 <3 a<3")).isEqualTo("1 < 2 <3 a<3");
+    }
+
+    @Test
+    void dropsUnclosedTrailingTag() {
+        assertThat(ArticleExcerptGenerator.generate("본문<img src=\"a.jpg\"")).isEqualTo("본문");
+    }
+
+    @Test
+    void returnsEmptyForEmptyContent() {
+        assertThat(ArticleExcerptGenerator.generate(null)).isEmpty();
+        assertThat(ArticleExcerptGenerator.generate("")).isEmpty();
+        assertThat(ArticleExcerptGenerator.generate("<p> </p>")).isEmpty();
+    }
+
+    @Test
+    void plainTextHasNoLengthLimit() {
+        String content = "가".repeat(ArticleExcerptGenerator.MAX_LENGTH * 2);
+
+        assertThat(ArticleExcerptGenerator.plainText("<p>" + content + "</p>")).isEqualTo(content);
+    }
+}
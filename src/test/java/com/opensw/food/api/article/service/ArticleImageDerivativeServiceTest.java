@@ -0,0 +1,220 @@
+package com.opensw.food.api.article.service;
+
+import com.opensw.food.api.article.entity.Article;
+import com.opensw.food.api.article.entity.ArticleImage;
+import com.opensw.food.api.article.repository.ArticleImageRepository;
+import com.opensw.food.api.article.repository.ArticleRepository;
+import com.opensw.food.api.aws.s3.S3Service;
+import com.opensw.food.api.member.entity.Member;
+import com.opensw.food.common.exception.ServiceUnavailableException;
+import com.opensw.food.common.response.ErrorStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 게시글 이미지 파생본 - 축소 크기, EXIF 방향 반영, 실패 시 백오프와 재시도 한도, 처리 중인 이미지 중복 제외
+@DataJpaTest
+class ArticleImageDerivativeServiceTest {
+
+    private static final String IMAGE_URL = "https://cdn.test/article-images/1/abc/photo.jpg";
+    private static final int MAX_ATTEMPTS = 8;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ArticleImageRepository articleImageRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final S3Service s3Service = mock(S3Service.class);
+    private final Map<String, byte[]> derivatives = new ConcurrentHashMap<>();
+
+    private ArticleImage image;
+
+    @BeforeEach
+    void setUp() {
+        Member writer = em.persist(Member.builder()
+                .email("writer@test.com")
+                .password("password")
+                .nickname("writer")
+                .build());
+        Article article = em.persist(Article.builder()
+                .member(writer)
+                .title("title")
+                .build());
+        image = em.persist(ArticleImage.builder()
+                .imageUrl(IMAGE_URL)
+                .article(article)
+                .build());
+        em.flush();
+
+        given(s3Service.uploadDerivative(anyString(), anyString(), any(), anyString())).willAnswer(invocation -> {
+            String suffix = invocation.getArgument(1);
+            derivatives.put(suffix, invocation.getArgument(2));
+            return IMAGE_URL + suffix;
+        });
+    }
+
+    @Test
+    void resizesToThumbnailAndMediumWidths() throws Exception {
+        givenOriginal(ImageOrientationTest.encode(solid(1600, 800), "png"));
+
+        service(Runnable::run).sweep();
+
+        assertThat(size(derivatives.get("_w320.jpg"))).containsExactly(320, 160);
+        assertThat(size(derivatives.get("_w640.jpg"))).containsExactly(640, 320);
+        em.clear();
+        assertThat(articleImageRepository.findById(image.getId()).orElseThrow().getThumbnailUrl())
+                .isEqualTo(IMAGE_URL + "_w320.jpg");
+    }
+
+    @Test
+    void doesNotUpscaleNarrowImages() throws Exception {
+        givenOriginal(ImageOrientationTest.encode(solid(200, 100), "png"));
+
+        service(Runnable::run).sweep();
+
+        assertThat(size(derivatives.get("_w320.jpg"))).containsExactly(200, 100);
+        assertThat(size(derivatives.get("_w640.jpg"))).containsExactly(200, 100);
+    }
+
+    // 왼쪽 절반 빨강, 오른쪽 절반 파랑인 가로 사진에 "시계 방향 90도" 태그 - 세로 사진으로, 빨강이 위쪽
+    @Test
+    void appliesExifOrientationBeforeResizing() throws Exception {
+        BufferedImage landscape = new BufferedImage(800, 400, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = landscape.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, 400, 400);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(400, 0, 400, 400);
+        graphics.dispose();
+        givenOriginal(ImageOrientationTest.jpegWithOrientation(landscape, 6, false));
+
+        service(Runnable::run).sweep();
+
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(derivatives.get("_w320.jpg")));
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(640);
+        assertThat(new Color(thumbnail.getRGB(160, 80)).getRed()).isGreaterThan(200);
+        assertThat(new Color(thumbnail.getRGB(160, 560)).getBlue()).isGreaterThan(200);
+    }
+
+    // 실패할 때마다 5분부터 두 배씩(최대 1일) 늦춰 재시도하고, MAX_ATTEMPTS번 실패하면 더 이상 시도하지 않음
+    @Test
+    void retriesWithBackoffAndGivesUpAfterMaxAttempts() {
+        given(s3Service.openFile(IMAGE_URL)).willThrow(new IllegalStateException("broken image"));
+        ArticleImageDerivativeService service = service(Runnable::run);
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            service.sweep();
+
+            em.clear();
+            ArticleImage failed = articleImageRepository.findById(image.getId()).orElseThrow();
+            long backoffSeconds = Math.min(300L << attempt, 86400);
+            assertThat(failed.getDerivativeAttempts()).isEqualTo(attempt + 1);
+            assertThat(failed.getDerivativeRetryAt())
+                    .isCloseTo(LocalDateTime.now().plusSeconds(backoffSeconds), within(Duration.ofSeconds(10)));
+
+            // 재시도 시각 전에는 다시 처리하지 않음
+            service.sweep();
+            verify(s3Service, times(attempt + 1)).openFile(IMAGE_URL);
+
+            makeDueNow();
+        }
+
+        service.sweep();
+        verify(s3Service, times(MAX_ATTEMPTS)).openFile(IMAGE_URL);
+    }
+
+    // S3 장애는 이미지 문제가 아니므로 실패 횟수에 넣지 않음
+    @Test
+    void s3OutageDoesNotCountAsAttempt() {
+        given(s3Service.openFile(IMAGE_URL))
+                .willThrow(new ServiceUnavailableException(ErrorStatus.S3_UNAVAILABLE_EXCEPTION.getMessage()));
+
+        service(Runnable::run).sweep();
+
+        em.clear();
+        ArticleImage unchanged = articleImageRepository.findById(image.getId()).orElseThrow();
+        assertThat(unchanged.getDerivativeAttempts()).isZero();
+        assertThat(unchanged.getDerivativeRetryAt()).isNull();
+    }
+
+    // 큐에 들어가 있거나 처리 중인 이미지는 다시 넣지 않고, 처리가 끝나면 다시 넣을 수 있음
+    @Test
+    void skipsImagesAlreadyPending() {
+        given(s3Service.openFile(IMAGE_URL))
+                .willThrow(new ServiceUnavailableException(ErrorStatus.S3_UNAVAILABLE_EXCEPTION.getMessage()));
+        List<Runnable> queued = new ArrayList<>();
+        ArticleImageDerivativeService service = service(queued::add);
+
+        service.sweep();
+        service.sweep();
+        assertThat(queued).hasSize(1);
+
+        queued.get(0).run();
+        service.sweep();
+        assertThat(queued).hasSize(2);
+    }
+
+    private ArticleImageDerivativeService service(Executor executor) {
+        return new ArticleImageDerivativeService(articleImageRepository, articleRepository, s3Service,
+                transactionTemplate, executor);
+    }
+
+    private void givenOriginal(byte[] data) {
+        given(s3Service.openFile(IMAGE_URL)).willAnswer(invocation -> new ByteArrayInputStream(data));
+    }
+
+    private void makeDueNow() {
+        em.getEntityManager()
+                .createQuery("update ArticleImage i set i.derivativeRetryAt = null where i.id = :id")
+                .setParameter("id", image.getId())
+                .executeUpdate();
+    }
+
+    private BufferedImage solid(int width, int height) {
+        BufferedImage original = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = original.createGraphics();
+        graphics.setColor(Color.GREEN);
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+        return original;
+    }
+
+    private int[] size(byte[] jpeg) throws IOException {
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(jpeg));
+        return new int[]{decoded.getWidth(), decoded.getHeight()};
+    }
+}
@@ -0,0 +1,127 @@
+package com.opensw.food.api.article.service;
+
+import com.opensw.food.api.article.entity.Article;
+import com.opensw.food.api.article.entity.ArticleImage;
+import com.opensw.food.api.article.repository.ArticleImageRepository;
+import com.opensw.food.api.aws.s3.S3CallGuard;
+import com.opensw.food.api.aws.s3.S3DeletionOutboxService;
+import com.opensw.food.api.aws.s3.S3Service;
+import com.opensw.food.api.aws.s3.entity.S3DeletionOutbox;
+import com.opensw.food.api.aws.s3.repository.S3DeletionOutboxRepository;
+import com.opensw.food.api.member.entity.Member;
+import com.opensw.food.support.FakeS3Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// 고아 이미지 정리 - 참조하지 않는 객체만 삭제 대상으로 기록하고, 파생 이미지와 유예 시간 안의 객체는 남김
+@DataJpaTest
+class ArticleImageReconcilerTest {
+
+    private static final String DOMAIN = "https://cdn.test";
+    private static final long GRACE_PERIOD_HOURS = 24;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ArticleImageRepository articleImageRepository;
+
+    @Autowired
+    private S3DeletionOutboxRepository outboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // 페이지를 작게 나눠 여러 페이지에 걸친 목록도 확인
+    private final FakeS3Client s3 = new FakeS3Client(2);
+    private final S3CallGuard callGuard = new S3CallGuard(new SimpleMeterRegistry(), 2, 8, 2,
+            5000, 5000, 5000, 5000, 20, 1000, 0.5, 60_000);
+    private final S3Service s3Service = new S3Service(s3, mock(S3AsyncClient.class), callGuard, "bucket", DOMAIN, 2);
+
+    private Article article;
+
+    @BeforeEach
+    void setUp() {
+        Member writer = em.persist(Member.builder()
+                .email("writer@test.com")
+                .password("password")
+                .nickname("writer")
+                .build());
+        article = em.persist(Article.builder().member(writer).title("title").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Service.shutdown();
+        callGuard.shutdown();
+    }
+
+    @Test
+    void queuesUnreferencedObjectsOlderThanGracePeriod() {
+        Instant old = Instant.now().minus(Duration.ofHours(GRACE_PERIOD_HOURS + 1));
+        referenced("article-images/1/kept.jpg", old);
+        referenced("inline-images/1/inline-kept.png", old);
+        s3.put("article-images/1/orphan.jpg", old);
+        s3.put("inline-images/1/inline-orphan.png", old);
+
+        reconciler().reconcile();
+
+        assertThat(outboxRepository.findAll()).extracting(S3DeletionOutbox::getImageUrl).containsExactlyInAnyOrder(
+                DOMAIN + "/article-images/1/orphan.jpg",
+                DOMAIN + "/inline-images/1/inline-orphan.png");
+    }
+
+    // 업로드 후 게시글 저장 전일 수 있으므로 유예 시간 안의 객체는 참조가 없어도 남김
+    @Test
+    void keepsRecentObjectsWithinGracePeriod() {
+        s3.put("article-images/1/uploading.jpg", Instant.now().minus(Duration.ofHours(GRACE_PERIOD_HOURS - 1)));
+
+        reconciler().reconcile();
+
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    // 축소/중간 크기 파생 이미지는 원본 URL과 달라도 이미지 행이 참조하므로 남김
+    @Test
+    void keepsDerivativesStillReferencedByImage() {
+        Instant old = Instant.now().minus(Duration.ofHours(GRACE_PERIOD_HOURS + 1));
+        ArticleImage image = referenced("article-images/1/photo.jpg", old);
+        s3.put("article-images/1/photo.jpg_w320.jpg", old);
+        s3.put("article-images/1/photo.jpg_w640.jpg", old);
+        s3.put("article-images/1/stale.jpg_w320.jpg", old);
+        articleImageRepository.updateDerivatives(image.getId(),
+                DOMAIN + "/article-images/1/photo.jpg_w320.jpg", DOMAIN + "/article-images/1/photo.jpg_w640.jpg");
+        em.clear();
+
+        reconciler().reconcile();
+
+        assertThat(outboxRepository.findAll()).extracting(S3DeletionOutbox::getImageUrl)
+                .containsExactly(DOMAIN + "/article-images/1/stale.jpg_w320.jpg");
+    }
+
+    private ArticleImage referenced(String key, Instant lastModified) {
+        s3.put(key, lastModified);
+        ArticleImage image = em.persist(ArticleImage.builder().imageUrl(DOMAIN + "/" + key).article(article).build());
+        em.flush();
+        return image;
+    }
+
+    private ArticleImageReconciler reconciler() {
+        S3DeletionOutboxService outboxService = new S3DeletionOutboxService(outboxRepository, s3Service, transactionTemplate);
+        return new ArticleImageReconciler(s3Service, outboxService, articleImageRepository, transactionTemplate,
+                GRACE_PERIOD_HOURS);
+    }
+}
@@ -0,0 +1,207 @@
+package com.opensw.food.api.article.service;
+
+import com.opensw.food.api.article.dto.ArticleCreateRequestDTO;
+import com.opensw.food.api.article.entity.Article;
+import com.opensw.food.api.article.repository.ArticleContentRepository;
+import com.opensw.food.api.article.repository.ArticleImageRepository;
+import com.opensw.food.api.article.repository.ArticleLikeRepository;
+import com.opensw.food.api.article.repository.ArticleRepository;
+import com.opensw.food.api.aws.s3.S3Service;
+import com.opensw.food.api.member.entity.Member;
+import com.opensw.food.api.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ArticleLikeConcurrencyTest {
+
+    private static final int THREADS = 64;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ArticleLikeRepository articleLikeRepository;
+
+    @Autowired
+    private ArticleImageRepository articleImageRepository;
+
+    @Autowired
+    private ArticleContentRepository articleContentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @MockBean
+    private S3Service s3Service;
+
+    @AfterEach
+    void tearDown() {
+        articleLikeRepository.deleteAllInBatch();
+        articleImageRepository.deleteAllInBatch();
+        articleContentRepository.deleteAllInBatch();
+        articleRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentLikesAreNotLost() throws Exception {
+        Member writer = memberRepository.save(member("writer"));
+        Article article = articleRepository.save(Article.builder()
+                .member(writer)
+                .title("title")
+                .build());
+
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            memberIds.add(memberRepository.save(member("liker" + i)).getMemberId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                articleService.toggleLike(article.getId(), memberId);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        Article result = articleRepository.findById(article.getId()).orElseThrow();
+        assertThat(result.getLikeCnt()).isEqualTo(THREADS);
+        assertThat(articleLikeRepository.count()).isEqualTo(THREADS);
+    }
+
+    @Test
+    void likesDuringSlowUpdateAreNotOverwritten() throws Exception {
+        Member writer = memberRepository.save(member("writer"));
+        Article article = articleRepository.save(Article.builder()
+                .member(writer)
+                .title("title")
+                .build());
+
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            memberIds.add(memberRepository.save(member("liker" + i)).getMemberId());
+        }
+
+        // 게시글 수정의 이미지 업로드 도중에 좋아요가 모두 반영되도록 업로드를 붙잡아 둠
+        CountDownLatch uploadStarted = new CountDownLatch(1);
+        CountDownLatch likesDone = new CountDownLatch(1);
+        given(s3Service.uploadArticleImages(anyString(), anyList())).willAnswer(invocation -> {
+            uploadStarted.countDown();
+            likesDone.await(10, TimeUnit.SECONDS);
+            return List.of("https://cdn.test/new.png");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        Future<?> update = executor.submit(() -> {
+            articleService.updateArticle(article.getId(), writer.getMemberId(),
+                    new ArticleCreateRequestDTO("updated", "content", "korean"),
+                    List.of(new MockMultipartFile("images", "new.png", "image/png", new byte[]{1})),
+                    null);
+            return null;
+        });
+        assertThat(uploadStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        List<Future<?>> likes = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            likes.add(executor.submit(() -> articleService.toggleLike(article.getId(), memberId)));
+        }
+        for (Future<?> like : likes) {
+            like.get();
+        }
+        likesDone.countDown();
+        update.get();
+        executor.shutdown();
+
+        Article result = articleRepository.findById(article.getId()).orElseThrow();
+        assertThat(result.getTitle()).isEqualTo("updated");
+        assertThat(result.getLikeCnt()).isEqualTo(THREADS);
+    }
+
+    // 같은 회원의 동시 좋아요는 한 건만 반영되고, 유니크 제약에 걸린 요청도 이미 좋아요 상태로 끝남
+    @Test
+    void concurrentLikesBySameMemberCountOnce() throws Exception {
+        Member writer = memberRepository.save(member("writer"));
+        Member liker = memberRepository.save(member("liker"));
+        Article article = articleRepository.save(Article.builder()
+                .member(writer)
+                .title("title")
+                .build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                articleService.likeArticle(article.getId(), liker.getMemberId());
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertThat(articleRepository.findById(article.getId()).orElseThrow().getLikeCnt()).isEqualTo(1);
+        assertThat(articleLikeRepository.count()).isEqualTo(1);
+    }
+
+    // 외래 키 위반은 이미 좋아요 상태로 삼키지 않음
+    @Test
+    void likeByMissingMemberIsNotTreatedAsAlreadyLiked() {
+        Member writer = memberRepository.save(member("writer"));
+        Article article = articleRepository.save(Article.builder()
+                .member(writer)
+                .title("title")
+                .build());
+
+        assertThatThrownBy(() -> articleService.likeArticle(article.getId(), Long.MAX_VALUE))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> articleService.toggleLike(article.getId(), Long.MAX_VALUE))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(articleRepository.findById(article.getId()).orElseThrow().getLikeCnt()).isZero();
+        assertThat(articleLikeRepository.count()).isZero();
+    }
+
+    private Member member(String nickname) {
+        return Member.builder()
+                .email(nickname + "@test.com")
+                .password("password")
+                .nickname(nickname)
+                .build();
+    }
+}
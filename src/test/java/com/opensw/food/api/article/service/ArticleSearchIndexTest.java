@@ -0,0 +1,86 @@
+package com.opensw.food.api.article.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시글 역색인 - 한글 bigram 검색, BM25 순위, 커서 이어보기, 삭제, 스냅샷 복원 확인
+class ArticleSearchIndexTest {
+
+    private final ArticleSearchIndex index = new ArticleSearchIndex();
+
+    @Test
+    void ranksArticlesContainingMoreQueryTermsFirst() {
+        index.put(1L, termFreqs("김치찌개 맛집 김치찌개"));
+        index.put(2L, termFreqs("된장찌개 맛집"));
+        index.put(3L, termFreqs("김치볶음밥"));
+        index.put(4L, termFreqs("pasta"));
+
+        List<ArticleSearchIndex.Hit> hits = search("김치찌개", null, 10);
+
+        assertThat(hits).extracting(ArticleSearchIndex.Hit::getId).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    void continuesAfterCursorWithoutDuplicates() {
+        for (long id = 1; id <= 5; id++) {
+            index.put(id, termFreqs("비빔밥 " + "맛집 ".repeat((int) id)));
+        }
+
+        List<ArticleSearchIndex.Hit> first = search("맛집", null, 2);
+        List<ArticleSearchIndex.Hit> second = search("맛집", first.get(1), 2);
+        List<ArticleSearchIndex.Hit> third = search("맛집", second.get(1), 2);
+
+        assertThat(first).extracting(ArticleSearchIndex.Hit::getId).containsExactly(5L, 4L);
+        assertThat(second).extracting(ArticleSearchIndex.Hit::getId).containsExactly(3L, 2L);
+        assertThat(third).extracting(ArticleSearchIndex.Hit::getId).containsExactly(1L);
+    }
+
+    @Test
+    void removedAndReplacedArticlesAreReflected() {
+        index.put(1L, termFreqs("김치찌개"));
+        index.put(2L, termFreqs("김치찌개"));
+
+        index.remove(1L);
+        index.put(2L, termFreqs("된장찌개"));
+
+        assertThat(search("김치", null, 10)).isEmpty();
+        assertThat(search("된장", null, 10)).extracting(ArticleSearchIndex.Hit::getId).containsExactly(2L);
+    }
+
+    @Test
+    void snapshotRestoresSameRanking() throws IOException {
+        index.put(1L, termFreqs("김치찌개 맛집"));
+        index.put(2L, termFreqs("Pasta 맛집"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        ArticleSearchIndex restored = ArticleSearchIndex.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(restored.size()).isEqualTo(2);
+        assertThat(restored.search(ArticleSearchTokenizer.tokenize("pasta"), null, 10))
+                .extracting(ArticleSearchIndex.Hit::getId).containsExactly(2L);
+    }
+
+    private List<ArticleSearchIndex.Hit> search(String query, ArticleSearchIndex.Hit after, int limit) {
+        return index.search(ArticleSearchTokenizer.tokenize(query), after, limit);
+    }
+
+    private Map<String, Integer> termFreqs(String text) {
+        Map<String, Integer> termFreqs = new HashMap<>();
+        for (String term : ArticleSearchTokenizer.tokenize(text)) {
+            termFreqs.merge(term, 1, Integer::sum);
+        }
+        return termFreqs;
+    }
+}
@@ -0,0 +1,125 @@
+package com.opensw.food.api.article.service;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageOrientationTest {
+
+    // 3x2 이미지의 픽셀 (A B C / D E F)
+    private static final int A = 0x000001, B = 0x000002, C = 0x000003, D = 0x000004, E = 0x000005, F = 0x000006;
+
+    @Test
+    void readsOrientationFromBigAndLittleEndianExif() throws Exception {
+        BufferedImage image = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+
+        assertThat(ImageOrientation.read(jpegWithOrientation(image, 6, false))).isEqualTo(6);
+        assertThat(ImageOrientation.read(jpegWithOrientation(image, 8, true))).isEqualTo(8);
+        assertThat(ImageOrientation.read(jpegWithOrientation(image, 3, true))).isEqualTo(3);
+    }
+
+    @Test
+    void returnsNormalWithoutExifOrForInvalidValue() throws Exception {
+        BufferedImage image = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+
+        assertThat(ImageOrientation.read(encode(image, "jpg"))).isEqualTo(ImageOrientation.NORMAL);
+        assertThat(ImageOrientation.read(encode(image, "png"))).isEqualTo(ImageOrientation.NORMAL);
+        assertThat(ImageOrientation.read(jpegWithOrientation(image, 9, false))).isEqualTo(ImageOrientation.NORMAL);
+        assertThat(ImageOrientation.read(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF})).isEqualTo(ImageOrientation.NORMAL);
+    }
+
+    @Test
+    void rotatesAndFlipsForEachOrientation() {
+        assertThat(pixels(ImageOrientation.apply(sample(), 1))).isEqualTo(new int[][]{{A, B, C}, {D, E, F}});
+        assertThat(pixels(ImageOrientation.apply(sample(), 2))).isEqualTo(new int[][]{{C, B, A}, {F, E, D}});
+        assertThat(pixels(ImageOrientation.apply(sample(), 3))).isEqualTo(new int[][]{{F, E, D}, {C, B, A}});
+        assertThat(pixels(ImageOrientation.apply(sample(), 4))).isEqualTo(new int[][]{{D, E, F}, {A, B, C}});
+        assertThat(pixels(ImageOrientation.apply(sample(), 5))).isEqualTo(new int[][]{{A, D}, {B, E}, {C, F}});
+        assertThat(pixels(ImageOrientation.apply(sample(), 6))).isEqualTo(new int[][]{{D, A}, {E, B}, {F, C}});
+        assertThat(pixels(ImageOrientation.apply(sample(), 7))).isEqualTo(new int[][]{{F, C}, {E, B}, {D, A}});
+        assertThat(pixels(ImageOrientation.apply(sample(), 8))).isEqualTo(new int[][]{{C, F}, {B, E}, {A, D}});
+    }
+
+    // JPEG의 APP0(JFIF) 뒤에 방향 태그 하나만 있는 APP1(Exif) 세그먼트 삽입
+    static byte[] jpegWithOrientation(BufferedImage image, int orientation, boolean littleEndian) throws IOException {
+        byte[] jpeg = encode(image, "jpg");
+        int insertAt = 2;
+        if ((jpeg[2] & 0xFF) == 0xFF && (jpeg[3] & 0xFF) == 0xE0) {
+            insertAt = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        }
+
+        ByteArrayOutputStream tiff = new ByteArrayOutputStream();
+        tiff.writeBytes(littleEndian ? new byte[]{'I', 'I'} : new byte[]{'M', 'M'});
+        writeShort(tiff, 42, littleEndian);
+        writeInt(tiff, 8, littleEndian);
+        writeShort(tiff, 1, littleEndian);          // 항목 수
+        writeShort(tiff, 0x0112, littleEndian);     // Orientation
+        writeShort(tiff, 3, littleEndian);          // SHORT
+        writeInt(tiff, 1, littleEndian);
+        writeShort(tiff, orientation, littleEndian);
+        writeShort(tiff, 0, littleEndian);
+        writeInt(tiff, 0, littleEndian);            // 다음 IFD 없음
+
+        byte[] payload = tiff.toByteArray();
+        int length = 2 + 6 + payload.length;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, insertAt);
+        out.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xE1, (byte) (length >> 8), (byte) length});
+        out.writeBytes(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        out.writeBytes(payload);
+        out.write(jpeg, insertAt, jpeg.length - insertAt);
+        return out.toByteArray();
+    }
+
+    static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    private static void writeShort(ByteArrayOutputStream out, int value, boolean littleEndian) {
+        if (littleEndian) {
+            out.write(value & 0xFF);
+            out.write((value >> 8) & 0xFF);
+        } else {
+            out.write((value >> 8) & 0xFF);
+            out.write(value & 0xFF);
+        }
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value, boolean littleEndian) {
+        if (littleEndian) {
+            writeShort(out, value & 0xFFFF, true);
+            writeShort(out, (value >>> 16) & 0xFFFF, true);
+        } else {
+            writeShort(out, (value >>> 16) & 0xFFFF, false);
+            writeShort(out, value & 0xFFFF, false);
+        }
+    }
+
+    private BufferedImage sample() {
+        BufferedImage image = new BufferedImage(3, 2, BufferedImage.TYPE_INT_RGB);
+        int[][] pixels = {{A, B, C}, {D, E, F}};
+        for (int y = 0; y < 2; y++) {
+            for (int x = 0; x < 3; x++) {
+                image.setRGB(x, y, pixels[y][x]);
+            }
+        }
+        return image;
+    }
+
+    private int[][] pixels(BufferedImage image) {
+        int[][] pixels = new int[image.getHeight()][image.getWidth()];
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                pixels[y][x] = image.getRGB(x, y) & 0xFFFFFF;
+            }
+        }
+        return pixels;
+    }
+}
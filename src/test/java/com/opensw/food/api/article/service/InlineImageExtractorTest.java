@@ -0,0 +1,69 @@
+package com.opensw.food.api.article.service;
+
+import com.opensw.food.common.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InlineImageExtractorTest {
+
+    private static final long MAX_BYTES = 1024;
+
+    @Test
+    void findsMultipleImagesAndReplacesThemInOrder() throws Exception {
+        String content = "<p>a</p><img src=\"data:image/png;base64,AAEC\"><p>b</p><img src=\"data:image/jpeg;base64,AwQF\">";
+
+        List<InlineImageExtractor.DataUri> dataUris = InlineImageExtractor.find(content, MAX_BYTES);
+
+        assertThat(dataUris).extracting(InlineImageExtractor.DataUri::getMimeType).containsExactly("png", "jpeg");
+        assertThat(dataUris).extracting(InlineImageExtractor.DataUri::getDecodedLength).containsExactly(3L, 3L);
+        try (InputStream in = dataUris.get(0).openStream(content)) {
+            assertThat(in.readAllBytes()).containsExactly(0, 1, 2);
+        }
+        try (InputStream in = dataUris.get(1).openStream(content)) {
+            assertThat(in.readAllBytes()).containsExactly(3, 4, 5);
+        }
+        assertThat(InlineImageExtractor.replace(content, dataUris, List.of("https://cdn.test/1.png", "https://cdn.test/2.jpeg")))
+                .isEqualTo("<p>a</p><img src=\"https://cdn.test/1.png\"><p>b</p><img src=\"https://cdn.test/2.jpeg\">");
+    }
+
+    @Test
+    void ignoresUnsupportedMimeTypes() {
+        String content = "<img src=\"data:image/gif;base64,AAEC\"><img src=\"data:image/svg+xml;base64,AAEC\">"
+                + "<img src=\"data:text/html;base64,AAEC\">";
+
+        assertThat(InlineImageExtractor.find(content, MAX_BYTES)).isEmpty();
+    }
+
+    @Test
+    void decodedLengthAccountsForPadding() {
+        String content = "data:image/png;base64,AAE= data:image/png;base64,AA==";
+
+        assertThat(InlineImageExtractor.find(content, MAX_BYTES))
+                .extracting(InlineImageExtractor.DataUri::getDecodedLength)
+                .containsExactly(2L, 1L);
+    }
+
+    @Test
+    void rejectsImagesOverSizeLimit() {
+        String content = "data:image/png;base64,AAECAwQF";
+
+        assertThat(InlineImageExtractor.find(content, 6)).hasSize(1);
+        assertThatThrownBy(() -> InlineImageExtractor.find(content, 5))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rejectsMalformedPadding() {
+        // 중간에 패딩, 패딩 3개, 4의 배수가 아닌 길이
+        for (String data : List.of("AA==AAEC", "AAE=AAEC", "A===", "AAECA")) {
+            assertThatThrownBy(() -> InlineImageExtractor.find("data:image/png;base64," + data + "\"", MAX_BYTES))
+                    .as(data)
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.opensw.food.api.article.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 인기 점수 - 시간 감쇠, 카테고리별 상위 K개 유지, 기준 시각 이동 후 순서 유지 확인
+class TrendingRankingTest {
+
+    private static final long HOUR = 3_600_000L;
+    private static final long CATEGORY = 1L;
+
+    @Test
+    void olderActivityDecaysByHalfLife() {
+        TrendingRanking ranking = new TrendingRanking(HOUR, 10, 0);
+
+        // 1번: 2시간 전 좋아요 3 (현재 기준 0.75), 2번: 지금 좋아요 1
+        ranking.add(1L, CATEGORY, 3, 0);
+        ranking.add(2L, CATEGORY, 1, 2 * HOUR);
+        assertThat(ranking.top(TrendingRanking.ALL, 10)).containsExactly(2L, 1L);
+
+        // 같은 시각이면 가중치 순
+        ranking.add(3L, CATEGORY, 5, 2 * HOUR);
+        assertThat(ranking.top(CATEGORY, 10)).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void keepsOnlyTopKPerCategory() {
+        TrendingRanking ranking = new TrendingRanking(HOUR, 2, 0);
+
+        ranking.add(1L, 1L, 1, 0);
+        ranking.add(2L, 1L, 2, 0);
+        ranking.add(3L, 1L, 3, 0);
+        ranking.add(4L, 2L, 1, 0);
+
+        assertThat(ranking.top(1L, 10)).containsExactly(3L, 2L);
+        assertThat(ranking.top(2L, 10)).containsExactly(4L);
+        assertThat(ranking.top(TrendingRanking.ALL, 10)).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void rebaseAndPruneKeepOrder() {
+        TrendingRanking ranking = new TrendingRanking(HOUR, 10, 0);
+        ranking.add(1L, CATEGORY, 2, 0);
+        ranking.add(2L, CATEGORY, 1, 0);
+
+        // 지수가 커질 만큼 시간이 지난 뒤의 활동 (기준 시각 이동)
+        long later = 100 * HOUR;
+        ranking.add(3L, CATEGORY, 1, later);
+        assertThat(ranking.top(CATEGORY, 10)).containsExactly(3L, 1L, 2L);
+
+        assertThat(ranking.prune(0.05, later)).isEqualTo(2);
+        assertThat(ranking.top(CATEGORY, 10)).containsExactly(3L);
+    }
+
+    @Test
+    void unlikeLowersScoreAndDeletedArticleIsRemoved() {
+        TrendingRanking ranking = new TrendingRanking(HOUR, 10, 0);
+        ranking.add(1L, CATEGORY, 2, 0);
+        ranking.add(2L, CATEGORY, 1, 0);
+
+        ranking.add(1L, null, -2, 0);
+        assertThat(ranking.top(CATEGORY, 10)).containsExactly(2L);
+
+        ranking.remove(2L);
+        assertThat(ranking.top(CATEGORY, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,81 @@
+package com.opensw.food.api.aws.s3;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// S3 서킷 브레이커 - 실패 비율로 열림, 대기 후 한 번의 시험 호출, 시험 결과에 따라 닫힘/다시 열림 확인
+class S3CircuitBreakerTest {
+
+    private static final long OPEN_MS = 1000;
+
+    private final AtomicLong now = new AtomicLong();
+    private final S3CircuitBreaker breaker = new S3CircuitBreaker(4, 4, 0.5, OPEN_MS, now::get);
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        call(false);
+        call(false);
+        call(true);
+        assertThat(breaker.state()).isEqualTo(S3CircuitBreaker.State.CLOSED);
+
+        // 최소 호출 수(4)를 채운 뒤 최근 4회 중 1회 실패, 다음 호출에서 2회 실패
+        call(false);
+        assertThat(breaker.state()).isEqualTo(S3CircuitBreaker.State.CLOSED);
+        call(true);
+        assertThat(breaker.state()).isEqualTo(S3CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void allowsOneTrialAfterOpenPeriod() {
+        openBreaker();
+
+        now.addAndGet(OPEN_MS);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.state()).isEqualTo(S3CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        // 시험 호출 실패 - 다시 열림
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(S3CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        // 시험 호출 성공 - 닫히고 이전 실패 기록은 지워짐
+        now.addAndGet(OPEN_MS);
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(S3CircuitBreaker.State.CLOSED);
+        call(true);
+        call(true);
+        assertThat(breaker.state()).isEqualTo(S3CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void releasedTrialCanBeRetried() {
+        openBreaker();
+        now.addAndGet(OPEN_MS);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.release();
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        assertThat(breaker.state()).isEqualTo(S3CircuitBreaker.State.OPEN);
+    }
+
+    private void call(boolean failure) {
+        assertThat(breaker.tryAcquire()).isTrue();
+        if (failure) {
+            breaker.onFailure();
+        } else {
+            breaker.onSuccess();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.opensw.food.api.aws.s3;
+
+import com.opensw.food.api.aws.s3.entity.S3DeletionOutbox;
+import com.opensw.food.api.aws.s3.repository.S3DeletionOutboxRepository;
+import com.opensw.food.support.FakeS3Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+
+// S3 삭제 아웃박스 - 일괄 삭제, DeleteObjects 일부 실패 시 실패한 키만 백오프 재시도, 재시도 한도, S3 장애
+// 워커는 트랜잭션 밖에서 실행되므로 테스트도 트랜잭션 없이 실행하고 끝나면 직접 정리
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class S3DeletionOutboxServiceTest {
+
+    private static final String DOMAIN = "https://cdn.test";
+    private static final int MAX_ATTEMPTS = 10;
+
+    @Autowired
+    private S3DeletionOutboxRepository outboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final FakeS3Client s3 = new FakeS3Client(1000);
+    private final S3CallGuard callGuard = new S3CallGuard(new SimpleMeterRegistry(), 2, 8, 2,
+            5000, 5000, 5000, 5000, 20, 1000, 0.5, 60_000);
+    private final S3Service s3Service = new S3Service(s3, mock(S3AsyncClient.class), callGuard, "bucket", DOMAIN, 2);
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAllInBatch();
+        s3Service.shutdown();
+        callGuard.shutdown();
+    }
+
+    @Test
+    void deletesQueuedObjectsInOneRequestAndRemovesEntries() {
+        enqueue(List.of(url("a.jpg"), url("b.jpg"), url("c.jpg")));
+
+        service().drain();
+
+        assertThat(s3.contains("article-images/1/a.jpg")).isFalse();
+        assertThat(s3.contains("article-images/1/c.jpg")).isFalse();
+        assertThat(s3.deleteRequests()).isEqualTo(1);
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    // 한 번에 1000개까지 삭제하고 남은 대상은 같은 실행에서 이어서 처리
+    @Test
+    void drainsMoreThanOneBatch() {
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 1001; i++) {
+            urls.add(url("image" + i + ".jpg"));
+        }
+        enqueue(urls);
+
+        service().drain();
+
+        assertThat(s3.deleteRequests()).isEqualTo(2);
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    // DeleteObjects 응답에 오류로 돌아온 키만 남기고 10초, 20초 ... 뒤에 다시 시도
+    @Test
+    void retriesOnlyFailedKeysWithBackoff() {
+        s3.failDeleting("article-images/1/b.jpg");
+        enqueue(List.of(url("a.jpg"), url("b.jpg"), url("c.jpg")));
+        S3DeletionOutboxService service = service();
+
+        service.drain();
+
+        S3DeletionOutbox failed = onlyEntry();
+        assertThat(failed.getImageUrl()).isEqualTo(url("b.jpg"));
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getNextAttemptAt()).isCloseTo(LocalDateTime.now().plusSeconds(10), within(Duration.ofSeconds(5)));
+        assertThat(s3.contains("article-images/1/a.jpg")).isFalse();
+
+        // 재시도 시각 전에는 다시 요청하지 않음
+        service.drain();
+        assertThat(s3.deleteRequests()).isEqualTo(1);
+
+        makeDueNow();
+        service.drain();
+        assertThat(onlyEntry().getAttempts()).isEqualTo(2);
+        assertThat(onlyEntry().getNextAttemptAt()).isCloseTo(LocalDateTime.now().plusSeconds(20), within(Duration.ofSeconds(5)));
+
+        s3.recover();
+        makeDueNow();
+        service.drain();
+        assertThat(s3.contains("article-images/1/b.jpg")).isFalse();
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    // S3 장애로 요청 자체가 실패하면 모든 대상을 재시도
+    @Test
+    void retriesEveryEntryWhenS3IsUnavailable() {
+        s3.setUnavailable(true);
+        enqueue(List.of(url("a.jpg"), url("b.jpg")));
+
+        service().drain();
+
+        assertThat(outboxRepository.findAll()).hasSize(2).allSatisfy(entry -> assertThat(entry.getAttempts()).isEqualTo(1));
+        assertThat(s3.contains("article-images/1/a.jpg")).isTrue();
+    }
+
+    // 한도만큼 실패하면 아웃박스에서 빼고 고아 객체 정리에 맡김
+    @Test
+    void givesUpAfterMaxAttempts() {
+        s3.failDeleting("article-images/1/a.jpg");
+        enqueue(List.of(url("a.jpg")));
+        S3DeletionOutboxService service = service();
+
+        for (int attempt = 1; attempt < MAX_ATTEMPTS; attempt++) {
+            service.drain();
+            assertThat(onlyEntry().getAttempts()).isEqualTo(attempt);
+            makeDueNow();
+        }
+
+        service.drain();
+
+        assertThat(s3.deleteRequests()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(outboxRepository.count()).isZero();
+        assertThat(s3.contains("article-images/1/a.jpg")).isTrue();
+    }
+
+    private S3DeletionOutboxService service() {
+        return new S3DeletionOutboxService(outboxRepository, s3Service, transactionTemplate);
+    }
+
+    private void enqueue(Collection<String> urls) {
+        urls.forEach(url -> s3.put(url.substring(DOMAIN.length() + 1), Instant.now()));
+        transactionTemplate.executeWithoutResult(status -> service().enqueue(urls));
+    }
+
+    private void makeDueNow() {
+        jdbcTemplate.update("update s3_deletion_outbox set next_attempt_at = ?", LocalDateTime.now().minusSeconds(1));
+    }
+
+    private S3DeletionOutbox onlyEntry() {
+        List<S3DeletionOutbox> entries = outboxRepository.findAll();
+        assertThat(entries).hasSize(1);
+        return entries.get(0);
+    }
+
+    private String url(String fileName) {
+        return DOMAIN + "/article-images/1/" + fileName;
+    }
+}
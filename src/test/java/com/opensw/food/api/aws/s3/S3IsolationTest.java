@@ -0,0 +1,49 @@
+package com.opensw.food.api.aws.s3;
+
+import com.opensw.food.support.HttpTrafficTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+// 응답하지 않는 S3 대역으로 게시글 등록(이미지 업로드)을 몰아 보내도
+// 업로드 요청은 제한 시간 뒤 503으로 끝나고 서킷이 열린 뒤에는 바로 거절되어, 요청 스레드가 적어도 조회는 빠르게 처리되는지 확인
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "cloud.aws.s3.timeout.upload-ms=300",
+        "cloud.aws.s3.circuit.minimum-calls=4",
+        "cloud.aws.s3.circuit.open-ms=60000",
+        "server.tomcat.threads.max=8"
+})
+class S3IsolationTest extends HttpTrafficTestSupport {
+
+    private static final int UPLOADERS = 24;
+    private static final int READERS = 8;
+    private static final int READS_PER_READER = 10;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void readsStayFastWhileS3IsUnresponsive() throws Exception {
+        // 업로드가 끝나지 않는 S3
+        given(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .willAnswer(invocation -> new CompletableFuture<>());
+        String token = createMemberToken("isolation");
+
+        TrafficResult result = runMixedTraffic(token, UPLOADERS, READERS, READS_PER_READER, 100, Duration.ofSeconds(30));
+
+        assertThat(result.uploadStatuses()).containsOnly(503);
+        assertThat(result.maxRead()).isLessThan(2000);
+        assertThat(meterRegistry.get("s3.call.rejected").tag("reason", "circuit_open").counter().count())
+                .isGreaterThan(0);
+    }
+}
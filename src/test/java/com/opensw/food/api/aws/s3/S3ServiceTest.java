@@ -0,0 +1,312 @@
+package com.opensw.food.api.aws.s3;
+
+import com.opensw.food.common.exception.InternalServerException;
+import com.opensw.food.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+// 게시글 이미지 병렬 업로드 - 메모리 S3 대역으로 동시성 제한, 실패 시 롤백, 장수별 동시 업로드 수, 기본 설정의 대기, 느린 S3 격리 확인
+class S3ServiceTest {
+
+    private static final String DOMAIN = "https://cdn.test";
+    private static final long LATENCY_MS = 100;
+    private static final int CONCURRENCY = 8;
+
+    private final FakeS3AsyncClient s3 = new FakeS3AsyncClient(LATENCY_MS);
+    private final S3CallGuard callGuard = callGuard(5000, 10);
+    private final S3Service s3Service = new S3Service(
+            mock(S3Client.class), s3, callGuard, "bucket", DOMAIN, CONCURRENCY);
+
+    @AfterEach
+    void tearDown() {
+        s3Service.shutdown();
+        callGuard.shutdown();
+    }
+
+    @Test
+    void uploadsAllImagesAndKeepsOrder() throws Exception {
+        List<String> urls = s3Service.uploadArticleImages("1", images(5));
+
+        assertThat(urls).hasSize(5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(urls.get(i)).startsWith(DOMAIN + "/article-images/1/").contains("image" + i + "_");
+        }
+        assertThat(s3.objects).hasSize(5);
+        assertThat(s3.objects.values()).allSatisfy(bytes -> assertThat(bytes).hasSize(1024));
+        assertThat(s3.maxInFlight.get()).isLessThanOrEqualTo(CONCURRENCY);
+    }
+
+    @Test
+    void rollsBackUploadedImagesWhenOneFails() {
+        List<MultipartFile> files = new ArrayList<>(images(6));
+        files.add(new MockMultipartFile("images", "fail.png", "image/png", new byte[1024]));
+
+        assertThatThrownBy(() -> s3Service.uploadArticleImages("1", files))
+                .isInstanceOf(InternalServerException.class);
+
+        assertThat(s3.objects).isEmpty();
+        assertThat(s3.deleted.get()).isEqualTo(6);
+    }
+
+    @Test
+    void uploadsInlineImagesInParallel() {
+        List<InlineImage> inlineImages = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            inlineImages.add(new InlineImage("inline-image-0-" + i + ".png", new ByteArrayInputStream(new byte[]{1, 2, 3}), 3));
+        }
+
+        List<String> urls = s3Service.uploadInlineImages("1", inlineImages);
+
+        assertThat(urls).containsExactly(
+                DOMAIN + "/inline-images/1/inline-image-0-0.png",
+                DOMAIN + "/inline-images/1/inline-image-0-1.png",
+                DOMAIN + "/inline-images/1/inline-image-0-2.png");
+        assertThat(s3.objects).hasSize(3);
+    }
+
+    // 게시글당 1/5/20장 업로드 - 시간 대신 동시에 진행된 업로드 수로 병렬 여부와 동시성 제한 확인
+    // 지연을 길게 두어 먼저 시작한 업로드가 끝나기 전에 나머지가 모두 시작되도록 함
+    @Test
+    void uploadsImagesPerPostInParallelUpToLimit() throws Exception {
+        for (int count : new int[]{1, 5, 20}) {
+            FakeS3AsyncClient slowS3 = new FakeS3AsyncClient(500);
+            S3CallGuard guard = callGuard(5000, 10);
+            S3Service service = new S3Service(mock(S3Client.class), slowS3, guard, "bucket", DOMAIN, CONCURRENCY);
+            try {
+                assertThat(service.uploadArticleImages("1", images(count))).hasSize(count);
+
+                assertThat(slowS3.started.get()).isEqualTo(count);
+                assertThat(slowS3.maxInFlight.get()).isEqualTo(Math.min(count, CONCURRENCY));
+            } finally {
+                service.shutdown();
+                guard.shutdown();
+            }
+        }
+    }
+
+    // S3가 응답하지 않으면 제한 시간 후 503, 실패가 쌓여 서킷이 열리면 S3를 부르지 않고 바로 503
+    @Test
+    void slowS3FailsFastOnceCircuitOpens() {
+        FakeS3AsyncClient slowS3 = new FakeS3AsyncClient(10_000);
+        S3CallGuard slowGuard = callGuard(200, 2);
+        S3Service slowService = new S3Service(mock(S3Client.class), slowS3, slowGuard, "bucket", DOMAIN, CONCURRENCY);
+        try {
+            for (int i = 0; i < 2; i++) {
+                long start = System.nanoTime();
+                assertThatThrownBy(() -> slowService.uploadArticleImages("1", images(1)))
+                        .isInstanceOf(ServiceUnavailableException.class);
+                assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2000);
+            }
+
+            int started = slowS3.started.get();
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> slowService.uploadArticleImages("1", images(1)))
+                    .isInstanceOf(ServiceUnavailableException.class);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(100);
+            assertThat(slowS3.started.get()).isEqualTo(started);
+        } finally {
+            slowService.shutdown();
+            slowGuard.shutdown();
+        }
+    }
+
+    // 기본 설정 - 업로드 한 번이 오래 걸려도 자리보다 많은 이미지와 동시에 들어온 게시글은 자리를 기다렸다가 모두 업로드됨
+    @Test
+    void uploadsLargeAndConcurrentPostsWithDefaultSettings() throws Exception {
+        FakeS3AsyncClient slowS3 = new FakeS3AsyncClient(700);
+        S3CallGuard guard = defaultCallGuard();
+        S3Service service = new S3Service(mock(S3Client.class), slowS3, guard, "bucket", DOMAIN, CONCURRENCY);
+        ExecutorService posts = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                String userIdentifier = String.valueOf(i);
+                results.add(posts.submit(() -> service.uploadArticleImages(userIdentifier, images(12))));
+            }
+            for (Future<List<String>> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS)).hasSize(12);
+            }
+
+            assertThat(slowS3.objects).hasSize(36);
+            assertThat(slowS3.maxInFlight.get()).isLessThanOrEqualTo(CONCURRENCY);
+        } finally {
+            posts.shutdownNow();
+            service.shutdown();
+            guard.shutdown();
+        }
+    }
+
+    // 서킷이 열려 업로드가 거절되어도 열어 둔 파일 스트림은 모두 닫힘
+    @Test
+    void closesFileStreamsWhenUploadIsRejected() {
+        FakeS3AsyncClient slowS3 = new FakeS3AsyncClient(10_000);
+        S3CallGuard slowGuard = callGuard(200, 2);
+        S3Service slowService = new S3Service(mock(S3Client.class), slowS3, slowGuard, "bucket", DOMAIN, CONCURRENCY);
+        try {
+            for (int i = 0; i < 2; i++) {
+                assertThatThrownBy(() -> slowService.uploadArticleImages("1", images(1)))
+                        .isInstanceOf(ServiceUnavailableException.class);
+            }
+
+            List<TrackedFile> files = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                files.add(new TrackedFile("image" + i + ".png"));
+            }
+            assertThatThrownBy(() -> slowService.uploadArticleImages("1", new ArrayList<>(files)))
+                    .isInstanceOf(ServiceUnavailableException.class);
+
+            assertThat(files).allSatisfy(file -> assertThat(file.closed).isTrue());
+        } finally {
+            slowService.shutdown();
+            slowGuard.shutdown();
+        }
+    }
+
+    private S3CallGuard callGuard(long uploadTimeoutMs, int minimumCalls) {
+        return new S3CallGuard(new SimpleMeterRegistry(), 4, 16, CONCURRENCY,
+                uploadTimeoutMs, 5000, 5000, 5000, 20, minimumCalls, 0.5, 60_000);
+    }
+
+    // S3CallGuard의 @Value 기본값
+    private S3CallGuard defaultCallGuard() {
+        return new S3CallGuard(new SimpleMeterRegistry(), 8, 32, 8,
+                20_000, 10_000, 10_000, 30_000, 20, 10, 0.5, 30_000);
+    }
+
+    private List<MultipartFile> images(int count) {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            files.add(new MockMultipartFile("images", "image" + i + ".png", "image/png", new byte[1024]));
+        }
+        return files;
+    }
+
+    // 읽기 스트림이 닫혔는지 기록하는 업로드 파일
+    private static class TrackedFile extends MockMultipartFile {
+
+        private volatile boolean closed;
+
+        private TrackedFile(String fileName) {
+            super("images", fileName, "image/png", new byte[1024]);
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(new byte[1024]) {
+                @Override
+                public void close() {
+                    closed = true;
+                }
+            };
+        }
+    }
+
+    // 요청마다 지연 후 응답하는 메모리 S3 - 키에 "fail"이 들어가면 업로드 실패
+    private static class FakeS3AsyncClient implements S3AsyncClient {
+
+        private final long latencyMs;
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private final AtomicInteger deleted = new AtomicInteger();
+        private final AtomicInteger started = new AtomicInteger();
+
+        private FakeS3AsyncClient(long latencyMs) {
+            this.latencyMs = latencyMs;
+        }
+
+        @Override
+        public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest request, AsyncRequestBody body) {
+            started.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return read(body)
+                    .thenCompose(bytes -> CompletableFuture.supplyAsync(() -> {
+                        inFlight.decrementAndGet();
+                        if (request.key().contains("fail")) {
+                            throw new IllegalStateException("upload failed: " + request.key());
+                        }
+                        objects.put(request.key(), bytes);
+                        return PutObjectResponse.builder().build();
+                    }, CompletableFuture.delayedExecutor(latencyMs, TimeUnit.MILLISECONDS)));
+        }
+
+        @Override
+        public CompletableFuture<DeleteObjectResponse> deleteObject(DeleteObjectRequest request) {
+            if (objects.remove(request.key()) != null) {
+                deleted.incrementAndGet();
+            }
+            return CompletableFuture.completedFuture(DeleteObjectResponse.builder().build());
+        }
+
+        @Override
+        public String serviceName() {
+            return "s3";
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private CompletableFuture<byte[]> read(AsyncRequestBody body) {
+            CompletableFuture<byte[]> result = new CompletableFuture<>();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            body.subscribe(new Subscriber<ByteBuffer>() {
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(ByteBuffer buffer) {
+                    byte[] chunk = new byte[buffer.remaining()];
+                    buffer.get(chunk);
+                    synchronized (out) {
+                        out.write(chunk, 0, chunk.length);
+                    }
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    result.completeExceptionally(t);
+                }
+
+                @Override
+                public void onComplete() {
+                    result.complete(out.toByteArray());
+                }
+            });
+            return result;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.opensw.food.api.category.service;
+
+import com.opensw.food.api.category.entity.Category;
+import com.opensw.food.api.category.repository.CategoryRepository;
+import com.opensw.food.common.exception.BadRequestException;
+import com.opensw.food.common.response.ErrorStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 카테고리 사전 - 이름 정규화, 필수 값/길이 검증, 사전 크기 제한
+// 이름 캐시는 테스트 사이에 롤백되지 않으므로 테스트마다 다른 이름을 사용
+@DataJpaTest(properties = "category.max-count=2")
+@Import(CategoryService.class)
+class CategoryServiceTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    void resolvesSameNameToSameCategoryIgnoringSurroundingSpaces() {
+        Category created = categoryService.resolve(" 분식 ");
+
+        assertThat(created.getName()).isEqualTo("분식");
+        assertThat(categoryService.resolve("분식").getId()).isEqualTo(created.getId());
+        assertThat(categoryRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsBlankNameAsMissingRequiredValue() {
+        assertThatThrownBy(() -> categoryService.resolve(null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(ErrorStatus.VALIDATION_REQUEST_MISSING_EXCEPTION.getMessage());
+        assertThatThrownBy(() -> categoryService.resolve("   "))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(ErrorStatus.VALIDATION_REQUEST_MISSING_EXCEPTION.getMessage());
+        assertThat(categoryRepository.count()).isZero();
+    }
+
+    @Test
+    void rejectsTooLongName() {
+        assertThatThrownBy(() -> categoryService.resolve("가".repeat(Category.MAX_NAME_LENGTH + 1)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(ErrorStatus.INVALID_CATEGORY_EXCEPTION.getMessage());
+
+        assertThat(categoryService.resolve("가".repeat(Category.MAX_NAME_LENGTH)).getName())
+                .hasSize(Category.MAX_NAME_LENGTH);
+    }
+
+    @Test
+    void rejectsNewNamesOnceLimitIsReachedButKeepsResolvingExistingOnes() {
+        Category korean = categoryService.resolve("한식");
+        categoryService.resolve("양식");
+
+        assertThatThrownBy(() -> categoryService.resolve("중식"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(ErrorStatus.CATEGORY_LIMIT_EXCEEDED_EXCEPTION.getMessage());
+        assertThat(categoryService.resolve("한식").getId()).isEqualTo(korean.getId());
+        assertThat(categoryRepository.count()).isEqualTo(2);
+    }
+}
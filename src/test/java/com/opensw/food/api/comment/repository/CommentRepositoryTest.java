@@ -0,0 +1,135 @@
+package com.opensw.food.api.comment.repository;
+
+import com.opensw.food.api.article.entity.Article;
+import com.opensw.food.api.article.service.ArticleDataMigrator;
+import com.opensw.food.api.comment.dto.CommentRow;
+import com.opensw.food.api.comment.entity.Comment;
+import com.opensw.food.api.member.entity.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 경로(path)가 없는 기존 댓글과 새 댓글이 섞인 상태의 스레드 조회 검증
+@DataJpaTest
+@Import(ArticleDataMigrator.class)
+class CommentRepositoryTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ArticleDataMigrator articleDataMigrator;
+
+    private Member writer;
+    private Member replier;
+    private Article article;
+
+    @BeforeEach
+    void setUp() {
+        writer = em.persist(member("writer"));
+        replier = em.persist(member("replier"));
+        article = em.persist(Article.builder()
+                .member(writer)
+                .title("title")
+                .build());
+    }
+
+    @Test
+    void legacyRepliesAreBackfilledIntoTheirThread() {
+        // 기존 댓글: root_id/path 없이 parent_id만 있음
+        Comment legacyRoot = em.persist(comment(writer, null));
+        Comment legacyReply = em.persist(comment(replier, legacyRoot));
+        Comment legacyNested = em.persist(comment(writer, legacyReply));
+        // 새 댓글: 경로가 있는 스레드
+        Comment newRoot = em.persist(comment(writer, null));
+        newRoot.assignPath("/");
+        em.flush();
+
+        articleDataMigrator.migrate();
+        em.clear();
+
+        List<Long> rootIds = commentRepository.findRootIds(article.getId(), 0L, PageRequest.of(0, 10));
+        assertThat(rootIds).containsExactly(legacyRoot.getId(), newRoot.getId());
+
+        Map<Long, CommentRow> rows = commentRepository.findThreadRows(rootIds).stream()
+                .collect(Collectors.toMap(CommentRow::getId, Function.identity()));
+        assertThat(rows).containsOnlyKeys(legacyRoot.getId(), legacyReply.getId(), legacyNested.getId(), newRoot.getId());
+        assertThat(rows.get(legacyNested.getId()).getRootId()).isEqualTo(legacyRoot.getId());
+        assertThat(rows.get(legacyNested.getId()).getParentId()).isEqualTo(legacyReply.getId());
+
+        Comment nested = commentRepository.findById(legacyNested.getId()).orElseThrow();
+        assertThat(nested.getPath())
+                .isEqualTo("/" + legacyRoot.getId() + "/" + legacyReply.getId() + "/" + legacyNested.getId() + "/");
+        assertThat(commentRepository.findById(newRoot.getId()).orElseThrow().getPath())
+                .isEqualTo("/" + newRoot.getId() + "/");
+    }
+
+    @Test
+    void backfillIsIdempotent() {
+        Comment legacyRoot = em.persist(comment(writer, null));
+        Comment legacyReply = em.persist(comment(replier, legacyRoot));
+        em.flush();
+
+        articleDataMigrator.migrate();
+        articleDataMigrator.migrate();
+        em.clear();
+
+        assertThat(commentRepository.findById(legacyReply.getId()).orElseThrow().getPath())
+                .isEqualTo("/" + legacyRoot.getId() + "/" + legacyReply.getId() + "/");
+    }
+
+    @Test
+    void withdrawnWriterDoesNotHideOtherRepliesInThread() {
+        Comment root = em.persist(comment(writer, null));
+        root.assignPath("/");
+        Comment reply = em.persist(Comment.builder()
+                .comment("reply")
+                .article(article)
+                .member(replier)
+                .parentComment(root)
+                .rootId(root.getId())
+                .build());
+        reply.assignPath(root.getPath());
+        writer.withdraw();
+        em.flush();
+        em.clear();
+
+        List<Long> rootIds = commentRepository.findRootIds(article.getId(), 0L, PageRequest.of(0, 10));
+        assertThat(rootIds).containsExactly(root.getId());
+
+        List<CommentRow> rows = commentRepository.findThreadRows(rootIds);
+        assertThat(rows).extracting(CommentRow::getId).containsExactly(root.getId(), reply.getId());
+        assertThat(rows).extracting(CommentRow::isWriterDeleted).containsExactly(true, false);
+    }
+
+    private Comment comment(Member member, Comment parent) {
+        return Comment.builder()
+                .comment("comment")
+                .article(article)
+                .member(member)
+                .parentComment(parent)
+                .build();
+    }
+
+    private Member member(String nickname) {
+        return Member.builder()
+                .email(nickname + "@test.com")
+                .password("password")
+                .nickname(nickname)
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.opensw.food.api.comment.service;
+
+import com.opensw.food.api.article.entity.Article;
+import com.opensw.food.api.article.repository.ArticleRepository;
+import com.opensw.food.api.comment.dto.CommentCreateDTO;
+import com.opensw.food.api.comment.entity.Comment;
+import com.opensw.food.api.comment.repository.CommentRepository;
+import com.opensw.food.api.member.entity.Member;
+import com.opensw.food.api.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 댓글 트리 삭제 - 남는 댓글과 게시글 댓글 수 검증 (경로가 없는 기존 댓글 포함)
+@SpringBootTest
+@ActiveProfiles("test")
+class CommentDeleteTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Member writer;
+    private Article article;
+
+    @BeforeEach
+    void setUp() {
+        writer = memberRepository.save(Member.builder()
+                .email("writer@test.com")
+                .password("password")
+                .nickname("writer")
+                .build());
+        article = articleRepository.save(Article.builder()
+                .member(writer)
+                .title("title")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            commentRepository.detachByArticleId(article.getId());
+            commentRepository.deleteByArticleId(article.getId());
+        });
+        articleRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void deletingCommentRemovesWholeSubtree() {
+        Long root = create(null);
+        Long reply = create(root);
+        create(reply);
+        Long sibling = create(null);
+        Long siblingReply = create(sibling);
+
+        commentService.deleteComment(root, writer.getMemberId());
+
+        assertThat(remainingIds()).containsExactly(sibling, siblingReply);
+        assertThat(cmtCnt()).isEqualTo(2);
+    }
+
+    @Test
+    void deletingLegacyCommentWithoutPathRemovesWholeSubtree() {
+        // 경로가 채워지기 전의 기존 댓글 트리 + 그 아래 새로 단 답글
+        Comment legacyRoot = saveLegacy(null);
+        Comment legacyReply = saveLegacy(legacyRoot);
+        Comment legacyNested = saveLegacy(legacyReply);
+        Long newReply = create(legacyNested.getId());
+        Long sibling = create(null);
+
+        commentService.deleteComment(legacyReply.getId(), writer.getMemberId());
+
+        assertThat(remainingIds()).containsExactly(legacyRoot.getId(), sibling);
+        assertThat(cmtCnt()).isEqualTo(2);
+        assertThat(commentRepository.findById(newReply)).isEmpty();
+    }
+
+    private Long create(Long parentId) {
+        commentService.createComment(CommentCreateDTO.builder()
+                .comment("comment")
+                .articleId(article.getId())
+                .parentId(parentId)
+                .build(), writer.getMemberId());
+        return commentRepository.findAll().stream()
+                .map(Comment::getId)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+    }
+
+    private Comment saveLegacy(Comment parent) {
+        Comment comment = commentRepository.save(Comment.builder()
+                .comment("legacy")
+                .article(article)
+                .member(writer)
+                .parentComment(parent)
+                .build());
+        transactionTemplate.executeWithoutResult(status -> articleRepository.addCmtCnt(article.getId(), 1));
+        return comment;
+    }
+
+    private List<Long> remainingIds() {
+        return commentRepository.findAll().stream()
+                .map(Comment::getId)
+                .sorted()
+                .toList();
+    }
+
+    private long cmtCnt() {
+        return articleRepository.findById(article.getId()).orElseThrow().getCmtCnt();
+    }
+}
@@ -0,0 +1,158 @@
+package com.opensw.food.api.member.service;
+
+import com.opensw.food.api.article.entity.Article;
+import com.opensw.food.api.article.repository.ArticleLikeRepository;
+import com.opensw.food.api.article.repository.ArticleRepository;
+import com.opensw.food.api.article.service.ArticleService;
+import com.opensw.food.api.comment.dto.CommentCreateDTO;
+import com.opensw.food.api.comment.entity.Comment;
+import com.opensw.food.api.comment.repository.CommentRepository;
+import com.opensw.food.api.comment.service.CommentService;
+import com.opensw.food.api.member.entity.Member;
+import com.opensw.food.api.member.repository.FollowRepository;
+import com.opensw.food.api.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 탈퇴 회원 데이터 삭제 - 삭제 순서, 실행당 배치 수 제한, 다음 실행에서 이어서 진행
+@SpringBootTest(properties = {
+        "member.purge.batch-size=2",
+        "member.purge.max-batches-per-run=3",
+        "member.purge.interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class MemberPurgeServiceTest {
+
+    @Autowired
+    private MemberPurgeService memberPurgeService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ArticleLikeRepository articleLikeRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Member withdrawn;
+    private Member active;
+    private Article activeArticle;
+    private Article withdrawnArticle;
+
+    @BeforeEach
+    void setUp() {
+        withdrawn = memberRepository.save(member("withdrawn"));
+        active = memberRepository.save(member("active"));
+        activeArticle = articleRepository.save(Article.builder().member(active).title("active").build());
+        withdrawnArticle = articleRepository.save(Article.builder().member(withdrawn).title("withdrawn").build());
+
+        // 좋아요 1건, 댓글 3건(그중 하나에 다른 회원의 답글), 게시글 1건(다른 회원의 댓글), 서로 팔로우
+        articleService.likeArticle(activeArticle.getId(), withdrawn.getMemberId());
+        comment(withdrawn, activeArticle, null);
+        comment(active, activeArticle, lastCommentId());
+        comment(withdrawn, activeArticle, null);
+        comment(withdrawn, activeArticle, null);
+        comment(active, withdrawnArticle, null);
+        memberService.followOrUnfollowMember(withdrawn.getMemberId(), active.getMemberId());
+        memberService.followOrUnfollowMember(active.getMemberId(), withdrawn.getMemberId());
+
+        memberService.withDrawMember(withdrawn.getMemberId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            commentRepository.detachByArticleId(activeArticle.getId());
+            commentRepository.deleteByArticleId(activeArticle.getId());
+            commentRepository.detachByArticleId(withdrawnArticle.getId());
+            commentRepository.deleteByArticleId(withdrawnArticle.getId());
+        });
+        articleLikeRepository.deleteAllInBatch();
+        followRepository.deleteAllInBatch();
+        articleRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void purgeStopsAtBudgetAndResumesInOrder() {
+        // 1회차: 좋아요 1배치 + 댓글 2배치 (게시글, 팔로우, 회원은 그대로)
+        memberPurgeService.purgeWithdrawnMembers();
+
+        assertThat(articleLikeRepository.count()).isZero();
+        assertThat(article(activeArticle).getLikeCnt()).isZero();
+        assertThat(commentRepository.findByArticle(activeArticle)).isEmpty();
+        assertThat(article(activeArticle).getCmtCnt()).isZero();
+        assertThat(articleRepository.existsById(withdrawnArticle.getId())).isTrue();
+        assertThat(followRepository.count()).isEqualTo(2);
+        assertThat(memberRepository.existsById(withdrawn.getMemberId())).isTrue();
+
+        // 2회차: 게시글 1배치 + 팔로잉 1배치 + 팔로워 1배치
+        memberPurgeService.purgeWithdrawnMembers();
+
+        assertThat(articleRepository.existsById(withdrawnArticle.getId())).isFalse();
+        assertThat(followRepository.count()).isZero();
+        assertThat(memberRepository.existsById(withdrawn.getMemberId())).isTrue();
+
+        // 3회차: 남은 데이터가 없으므로 회원 삭제
+        memberPurgeService.purgeWithdrawnMembers();
+
+        assertThat(memberRepository.existsById(withdrawn.getMemberId())).isFalse();
+        Member remaining = memberRepository.findById(active.getMemberId()).orElseThrow();
+        assertThat(remaining.getFollowerCnt()).isZero();
+        assertThat(remaining.getFollowingCnt()).isZero();
+        assertThat(remaining.getLikeReceivedCnt()).isZero();
+    }
+
+    private void comment(Member writer, Article article, Long parentId) {
+        commentService.createComment(CommentCreateDTO.builder()
+                .comment("comment")
+                .articleId(article.getId())
+                .parentId(parentId)
+                .build(), writer.getMemberId());
+    }
+
+    private Long lastCommentId() {
+        return commentRepository.findAll().stream()
+                .map(Comment::getId)
+                .max(Long::compare)
+                .orElseThrow();
+    }
+
+    private Article article(Article article) {
+        return articleRepository.findById(article.getId()).orElseThrow();
+    }
+
+    private Member member(String nickname) {
+        return Member.builder()
+                .email(nickname + "@test.com")
+                .password("password")
+                .nickname(nickname)
+                .build();
+    }
+}
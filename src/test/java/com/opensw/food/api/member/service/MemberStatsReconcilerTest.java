@@ -0,0 +1,90 @@
+package com.opensw.food.api.member.service;
+
+import com.opensw.food.api.article.entity.Article;
+import com.opensw.food.api.article.entity.ArticleLike;
+import com.opensw.food.api.member.entity.Follow;
+import com.opensw.food.api.member.entity.Member;
+import com.opensw.food.api.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 회원 통계 - 원자적 증감과 실제 값으로의 보정
+@DataJpaTest(properties = "member.stats.reconcile-on-startup=false")
+@Import(MemberStatsReconciler.class)
+class MemberStatsReconcilerTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberStatsReconciler memberStatsReconciler;
+
+    private Member writer;
+    private Member reader;
+    private Article article;
+
+    @BeforeEach
+    void setUp() {
+        writer = em.persist(member("writer"));
+        reader = em.persist(member("reader"));
+        article = em.persist(Article.builder().member(writer).title("title").build());
+        em.flush();
+    }
+
+    @Test
+    void addCountersApplyDeltasInsteadOfOverwriting() {
+        // 다른 요청이 먼저 읽어 둔 값과 상관없이 현재 값에 더함
+        memberRepository.addFollowerCnt(writer.getMemberId(), 1);
+        memberRepository.addFollowerCnt(writer.getMemberId(), 1);
+        memberRepository.addFollowerCnt(writer.getMemberId(), -1);
+        memberRepository.addFollowingCnt(reader.getMemberId(), 2);
+        memberRepository.addArticleCnt(writer.getMemberId(), 3);
+        memberRepository.addLikeReceivedCntByArticleId(article.getId(), 1);
+        memberRepository.addLikeReceivedCntByArticleId(article.getId(), 1);
+        em.clear();
+
+        Member updatedWriter = memberRepository.findById(writer.getMemberId()).orElseThrow();
+        assertThat(updatedWriter.getFollowerCnt()).isEqualTo(1);
+        assertThat(updatedWriter.getArticleCnt()).isEqualTo(3);
+        assertThat(updatedWriter.getLikeReceivedCnt()).isEqualTo(2);
+        assertThat(memberRepository.findById(reader.getMemberId()).orElseThrow().getFollowingCnt()).isEqualTo(2);
+    }
+
+    @Test
+    void reconcileRepairsCountsThatStartedAtZero() {
+        // 통계 컬럼 추가 전부터 있던 데이터 (컬럼 값은 모두 0)
+        em.persist(Follow.builder().follower(reader).following(writer).build());
+        em.persist(ArticleLike.builder().article(article).member(reader).build());
+        em.persist(Article.builder().member(writer).title("second").build());
+        em.flush();
+
+        memberStatsReconciler.reconcile();
+        em.clear();
+
+        Member reconciledWriter = memberRepository.findById(writer.getMemberId()).orElseThrow();
+        assertThat(reconciledWriter.getFollowerCnt()).isEqualTo(1);
+        assertThat(reconciledWriter.getFollowingCnt()).isZero();
+        assertThat(reconciledWriter.getArticleCnt()).isEqualTo(2);
+        assertThat(reconciledWriter.getLikeReceivedCnt()).isEqualTo(1);
+        Member reconciledReader = memberRepository.findById(reader.getMemberId()).orElseThrow();
+        assertThat(reconciledReader.getFollowingCnt()).isEqualTo(1);
+        assertThat(reconciledReader.getArticleCnt()).isZero();
+    }
+
+    private Member member(String nickname) {
+        return Member.builder()
+                .email(nickname + "@test.com")
+                .password("password")
+                .nickname(nickname)
+                .build();
+    }
+}
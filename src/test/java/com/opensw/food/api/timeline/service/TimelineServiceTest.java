@@ -0,0 +1,126 @@
+package com.opensw.food.api.timeline.service;
+
+import com.opensw.food.api.article.entity.Article;
+import com.opensw.food.api.article.event.ArticleCreatedEvent;
+import com.opensw.food.api.member.entity.Follow;
+import com.opensw.food.api.member.entity.Member;
+import com.opensw.food.api.member.event.FollowChangedEvent;
+import com.opensw.food.api.timeline.store.InMemoryTimelineStore;
+import com.opensw.food.api.timeline.store.TimelineStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 홈 타임라인 - 팬아웃, 조회 시 재구성, 저장소 용량을 넘는 페이지의 DB 보충, 팔로워가 많은 회원의 글 병합
+@DataJpaTest(properties = {
+        "feed.timeline.capacity=3",
+        "feed.timeline.celebrity-threshold=1"
+})
+@Import({TimelineService.class, InMemoryTimelineStore.class})
+class TimelineServiceTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private TimelineService timelineService;
+
+    @Autowired
+    private TimelineStore timelineStore;
+
+    private Member writer;
+    private Member reader;
+
+    @BeforeEach
+    void setUp() {
+        writer = em.persist(member("writer"));
+        reader = em.persist(member("reader"));
+        em.persist(Follow.builder().follower(reader).following(writer).build());
+        em.flush();
+    }
+
+    @Test
+    void rebuildsOnFirstReadAndPagesPastCapacityFromDb() {
+        List<Long> articleIds = writeArticles(writer, 5);
+
+        assertThat(timelineService.getTimeline(reader.getMemberId(), null, 2))
+                .containsExactly(articleIds.get(4), articleIds.get(3));
+        assertThat(timelineService.getTimeline(reader.getMemberId(), articleIds.get(3), 2))
+                .containsExactly(articleIds.get(2), articleIds.get(1));
+        // 저장소에는 최근 3개만 있으므로 나머지는 DB에서 보충
+        assertThat(timelineService.getTimeline(reader.getMemberId(), articleIds.get(1), 2))
+                .containsExactly(articleIds.get(0));
+        assertThat(timelineStore.read(reader.getMemberId(), null, 10).orElseThrow().getArticleIds())
+                .containsExactly(articleIds.get(4), articleIds.get(3), articleIds.get(2));
+    }
+
+    @Test
+    void keepsTimelineBuiltWithoutArticles() {
+        assertThat(timelineService.getTimeline(reader.getMemberId(), null, 10)).isEmpty();
+
+        assertThat(timelineStore.read(reader.getMemberId(), null, 10)).isPresent();
+    }
+
+    @Test
+    void fanOutPushesNewArticleToBuiltFollowerTimelines() {
+        timelineService.getTimeline(reader.getMemberId(), null, 10);
+        Long articleId = writeArticles(writer, 1).get(0);
+
+        timelineService.fanOut(new ArticleCreatedEvent(articleId, writer.getMemberId()));
+
+        assertThat(timelineStore.read(reader.getMemberId(), null, 10).orElseThrow().getArticleIds())
+                .containsExactly(articleId);
+    }
+
+    // 팔로워가 기준보다 많은 회원의 글은 푸시하지 않고 조회 시점에 합침
+    @Test
+    void mergesCelebrityArticlesAtReadInsteadOfPushing() {
+        Member celebrity = em.persist(member("celebrity"));
+        Member other = em.persist(member("other"));
+        em.persist(Follow.builder().follower(reader).following(celebrity).build());
+        em.persist(Follow.builder().follower(other).following(celebrity).build());
+        Long pushed = writeArticles(writer, 1).get(0);
+        timelineService.getTimeline(reader.getMemberId(), null, 10);
+
+        Long merged = writeArticles(celebrity, 1).get(0);
+        timelineService.fanOut(new ArticleCreatedEvent(merged, celebrity.getMemberId()));
+
+        assertThat(timelineStore.read(reader.getMemberId(), null, 10).orElseThrow().getArticleIds())
+                .containsExactly(pushed);
+        assertThat(timelineService.getTimeline(reader.getMemberId(), null, 10)).containsExactly(merged, pushed);
+    }
+
+    @Test
+    void followChangeDropsTimelineSoItIsRebuilt() {
+        timelineService.getTimeline(reader.getMemberId(), null, 10);
+
+        timelineService.onFollowChanged(new FollowChangedEvent(reader.getMemberId()));
+
+        assertThat(timelineStore.read(reader.getMemberId(), null, 10)).isEmpty();
+    }
+
+    private List<Long> writeArticles(Member author, int count) {
+        List<Long> articleIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            articleIds.add(em.persist(Article.builder().member(author).title("title" + i).build()).getId());
+        }
+        em.flush();
+        return articleIds;
+    }
+
+    private Member member(String name) {
+        return Member.builder()
+                .email(name + "@test.com")
+                .password("password")
+                .nickname(name)
+                .build();
+    }
+}
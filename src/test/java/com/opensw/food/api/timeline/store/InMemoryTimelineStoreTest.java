@@ -0,0 +1,87 @@
+package com.opensw.food.api.timeline.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 프로세스 내 타임라인 저장소 - 구성 여부, 커서 조회, 용량 초과 시 오래된 글 제거, 회원 수 제한
+class InMemoryTimelineStoreTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private final InMemoryTimelineStore store = new InMemoryTimelineStore(3, 2);
+
+    @Test
+    void readIsEmptyUntilBuiltAndEmptyTimelineStaysBuilt() {
+        assertThat(store.read(MEMBER_ID, null, 10)).isEmpty();
+
+        store.rebuild(MEMBER_ID, List.of());
+
+        TimelineSlice slice = store.read(MEMBER_ID, null, 10).orElseThrow();
+        assertThat(slice.getArticleIds()).isEmpty();
+        assertThat(slice.isTruncated()).isFalse();
+    }
+
+    @Test
+    void readsNewestFirstFromCursor() {
+        store.rebuild(MEMBER_ID, List.of(30L, 20L, 10L));
+
+        assertThat(store.read(MEMBER_ID, null, 2).orElseThrow().getArticleIds()).containsExactly(30L, 20L);
+        assertThat(store.read(MEMBER_ID, 20L, 2).orElseThrow().getArticleIds()).containsExactly(10L);
+        assertThat(store.read(MEMBER_ID, 10L, 2).orElseThrow().getArticleIds()).isEmpty();
+    }
+
+    @Test
+    void pushesOnlyToBuiltTimelines() {
+        store.rebuild(MEMBER_ID, List.of(10L));
+
+        store.push(List.of(MEMBER_ID, 2L), 20L);
+
+        assertThat(store.read(MEMBER_ID, null, 10).orElseThrow().getArticleIds()).containsExactly(20L, 10L);
+        assertThat(store.read(2L, null, 10)).isEmpty();
+    }
+
+    @Test
+    void dropsOldestArticlesBeyondCapacityAndMarksTruncated() {
+        store.rebuild(MEMBER_ID, List.of(20L, 10L));
+        assertThat(store.read(MEMBER_ID, null, 10).orElseThrow().isTruncated()).isFalse();
+
+        store.push(List.of(MEMBER_ID), 30L);
+        store.push(List.of(MEMBER_ID), 40L);
+
+        TimelineSlice slice = store.read(MEMBER_ID, null, 10).orElseThrow();
+        assertThat(slice.getArticleIds()).containsExactly(40L, 30L, 20L);
+        assertThat(slice.isTruncated()).isTrue();
+    }
+
+    @Test
+    void timelineRebuiltAtCapacityMayHaveOlderArticlesInDb() {
+        store.rebuild(MEMBER_ID, List.of(30L, 20L, 10L));
+
+        assertThat(store.read(MEMBER_ID, null, 10).orElseThrow().isTruncated()).isTrue();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedMemberBeyondMaxMembers() {
+        store.rebuild(1L, List.of(10L));
+        store.rebuild(2L, List.of(10L));
+        store.read(1L, null, 10);
+
+        store.rebuild(3L, List.of(10L));
+
+        assertThat(store.read(1L, null, 10)).isPresent();
+        assertThat(store.read(2L, null, 10)).isEmpty();
+        assertThat(store.read(3L, null, 10)).isPresent();
+    }
+
+    @Test
+    void evictDropsTimeline() {
+        store.rebuild(MEMBER_ID, List.of(10L));
+
+        store.evict(MEMBER_ID);
+
+        assertThat(store.read(MEMBER_ID, null, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,106 @@
+package com.opensw.food.api.timeline.store;
+
+import com.opensw.food.api.timeline.entity.TimelineEntry;
+import com.opensw.food.api.timeline.repository.TimelineEntryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// DB 타임라인 저장소 - 빈 타임라인 구성 표시, 커서 조회, 중복 푸시, 용량 정리, 폐기
+// evict가 새 트랜잭션에서 실행되므로 테스트 트랜잭션 없이 실행하고 끝나면 직접 정리
+@DataJpaTest(properties = {
+        "feed.timeline.store=jdbc",
+        "feed.timeline.capacity=3"
+})
+@Import(JdbcTimelineStore.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JdbcTimelineStoreTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    @Autowired
+    private JdbcTimelineStore store;
+
+    @Autowired
+    private TimelineEntryRepository timelineEntryRepository;
+
+    @AfterEach
+    void tearDown() {
+        timelineEntryRepository.deleteAllInBatch();
+    }
+
+    // 구성 당시 게시글이 없던 타임라인도 구성된 것으로 보고 매번 다시 구성하지 않음
+    @Test
+    void emptyTimelineIsReadAsBuiltAfterRebuild() {
+        assertThat(store.read(MEMBER_ID, null, 10)).isEmpty();
+
+        store.rebuild(MEMBER_ID, List.of());
+
+        TimelineSlice slice = store.read(MEMBER_ID, null, 10).orElseThrow();
+        assertThat(slice.getArticleIds()).isEmpty();
+        assertThat(slice.isTruncated()).isFalse();
+    }
+
+    @Test
+    void readsNewestFirstFromCursor() {
+        store.rebuild(MEMBER_ID, List.of(30L, 20L, 10L));
+
+        TimelineSlice first = store.read(MEMBER_ID, null, 2).orElseThrow();
+        assertThat(first.getArticleIds()).containsExactly(30L, 20L);
+        assertThat(first.isTruncated()).isTrue();
+        assertThat(store.read(MEMBER_ID, 20L, 2).orElseThrow().getArticleIds()).containsExactly(10L);
+        assertThat(store.read(MEMBER_ID, 10L, 2).orElseThrow().getArticleIds()).isEmpty();
+    }
+
+    @Test
+    void rebuildReplacesPreviousEntries() {
+        store.rebuild(MEMBER_ID, List.of(30L, 20L));
+
+        store.rebuild(MEMBER_ID, List.of(10L));
+
+        assertThat(store.read(MEMBER_ID, null, 10).orElseThrow().getArticleIds()).containsExactly(10L);
+    }
+
+    @Test
+    void pushIgnoresEntriesAlreadyPresent() {
+        store.rebuild(MEMBER_ID, List.of(10L));
+
+        store.push(List.of(MEMBER_ID, 2L), 20L);
+        store.push(List.of(MEMBER_ID), 20L);
+
+        assertThat(store.read(MEMBER_ID, null, 10).orElseThrow().getArticleIds()).containsExactly(20L, 10L);
+        assertThat(store.read(2L, null, 10).orElseThrow().getArticleIds()).containsExactly(20L);
+    }
+
+    @Test
+    void trimKeepsNewestEntriesUpToCapacityAndTheMarker() {
+        store.rebuild(MEMBER_ID, List.of(30L, 20L, 10L));
+        store.push(List.of(MEMBER_ID), 40L);
+        store.push(List.of(MEMBER_ID), 50L);
+        store.rebuild(2L, List.of(20L, 10L));
+
+        store.trim();
+
+        assertThat(store.read(MEMBER_ID, null, 10).orElseThrow().getArticleIds()).containsExactly(50L, 40L, 30L);
+        assertThat(timelineEntryRepository.existsByMemberIdAndArticleId(MEMBER_ID, TimelineEntry.BUILT_MARKER)).isTrue();
+        assertThat(store.read(2L, null, 10).orElseThrow().getArticleIds()).containsExactly(20L, 10L);
+    }
+
+    @Test
+    void evictDropsEntriesAndMarker() {
+        store.rebuild(MEMBER_ID, List.of(10L));
+
+        store.evict(MEMBER_ID);
+
+        assertThat(store.read(MEMBER_ID, null, 10)).isEmpty();
+        assertThat(timelineEntryRepository.count()).isZero();
+    }
+}
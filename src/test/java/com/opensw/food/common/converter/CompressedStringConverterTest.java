@@ -0,0 +1,94 @@
+package com.opensw.food.common.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressedStringConverterTest {
+
+    private final CompressedStringConverter converter = new CompressedStringConverter();
+
+    @Test
+    void keepsNull() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    void roundTripsEmptyString() {
+        byte[] stored = converter.convertToDatabaseColumn("");
+
+        assertThat(stored).isNotEmpty();
+        assertThat(converter.convertToEntityAttribute(stored)).isEmpty();
+    }
+
+    @Test
+    void roundTripsAscii() {
+        String content = "<p>Tteokbokki at the corner shop, 4,000 won.</p>";
+
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(content))).isEqualTo(content);
+    }
+
+    @Test
+    void roundTripsMultiByteKorean() {
+        String content = "<p>떡볶이 맛집 후기 🍜 - 국물이 진하고 맵기 조절 가능</p>";
+
+        byte[] stored = converter.convertToDatabaseColumn(content);
+
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(content);
+    }
+
+    // 압축/해제 버퍼(8KB)보다 훨씬 큰 본문 - 반복이 많은 HTML은 크게 줄어듦
+    @Test
+    void roundTripsLargeRepetitiveContent() {
+        String content = "<p>오늘의 메뉴는 김치찌개입니다.</p>\n".repeat(20_000);
+
+        byte[] stored = converter.convertToDatabaseColumn(content);
+
+        assertThat(stored.length).isLessThan(content.getBytes(StandardCharsets.UTF_8).length / 10);
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(content);
+    }
+
+    // 압축이 거의 안 되는 본문(인라인 이미지의 base64 등)도 그대로 복원
+    @Test
+    void roundTripsLargeIncompressibleContent() {
+        byte[] random = new byte[300_000];
+        new Random(42).nextBytes(random);
+        String content = Base64.getEncoder().encodeToString(random);
+
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(content))).isEqualTo(content);
+    }
+
+    // 압축 도입 전에 평문 UTF-8로 저장된 행은 해제하지 않고 그대로 읽음
+    @Test
+    void readsLegacyPlainTextRowsAsIs() {
+        for (String legacy : new String[]{"", "a", "<p>안녕하세요</p>", "800원 떡볶이", "xyz", "x"}) {
+            assertThat(converter.convertToEntityAttribute(legacy.getBytes(StandardCharsets.UTF_8))).isEqualTo(legacy);
+        }
+    }
+
+    @Test
+    void storesCompressedRowsWithZlibHeaderSoTheyAreNotReadAsPlainText() {
+        String content = "<p>안녕하세요</p>";
+
+        byte[] stored = converter.convertToDatabaseColumn(content);
+
+        assertThat(stored[0] & 0xFF).isEqualTo(0x78);
+        assertThat(stored).isNotEqualTo(content.getBytes(StandardCharsets.UTF_8));
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(content);
+    }
+
+    @Test
+    void rejectsTruncatedCompressedContent() {
+        byte[] stored = converter.convertToDatabaseColumn("<p>오늘의 메뉴는 김치찌개입니다.</p>".repeat(100));
+
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(Arrays.copyOf(stored, stored.length / 2)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,80 @@
+package com.opensw.food.common.resolver;
+
+import com.opensw.food.api.member.event.MemberWithdrawnEvent;
+import com.opensw.food.api.member.jwt.MemberPrincipal;
+import com.opensw.food.api.member.repository.MemberRepository;
+import com.opensw.food.api.member.service.WithdrawnMemberRegistry;
+import com.opensw.food.common.exception.UnauthorizedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class LoginMemberIdArgumentResolverTest {
+
+    private static final Long MEMBER_ID = 7L;
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final WithdrawnMemberRegistry withdrawnMemberRegistry = new WithdrawnMemberRegistry(memberRepository);
+    private final LoginMemberIdArgumentResolver resolver =
+            new LoginMemberIdArgumentResolver(memberRepository, withdrawnMemberRegistry);
+
+    @BeforeEach
+    void setUp() {
+        MemberPrincipal principal = new MemberPrincipal(MEMBER_ID, "member@test.com", List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readRequestUsesTokenWithoutLookup() {
+        assertThat(resolve("GET")).isEqualTo(MEMBER_ID);
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    void writeRequestOfActiveMemberIsAllowedWithoutLookup() {
+        assertThat(resolve("POST")).isEqualTo(MEMBER_ID);
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    void writeRequestIsRejectedAfterWithdrawalCommits() {
+        withdrawnMemberRegistry.onMemberWithdrawn(new MemberWithdrawnEvent(MEMBER_ID));
+
+        assertThatThrownBy(() -> resolve("DELETE")).isInstanceOf(UnauthorizedException.class);
+        assertThatThrownBy(() -> resolve("PUT")).isInstanceOf(UnauthorizedException.class);
+        assertThat(resolve("GET")).isEqualTo(MEMBER_ID);
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    void withdrawnMembersAreLoadedOnStartup() {
+        given(memberRepository.findWithdrawnIds(any())).willReturn(List.of(MEMBER_ID));
+
+        withdrawnMemberRegistry.load();
+
+        assertThatThrownBy(() -> resolve("POST")).isInstanceOf(UnauthorizedException.class);
+    }
+
+    private Object resolve(String method) {
+        return resolver.resolveArgument(null, null, new ServletWebRequest(new MockHttpServletRequest(method, "/")), null);
+    }
+}
@@ -0,0 +1,71 @@
+package com.opensw.food.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 같은 키의 동시 요청 합치기 - 한 번만 실행, 예외 전달, 짧은 시간 결과 재사용 확인
+class SingleFlightTest {
+
+    @Test
+    void concurrentCallsShareOneExecution() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>(0);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int threads = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> flight.execute(1L, () -> {
+                    executions.incrementAndGet();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "result";
+                })));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            }
+            assertThat(executions).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 완료 후에는 다시 실행 (TTL 0)
+        flight.execute(1L, () -> String.valueOf(executions.incrementAndGet()));
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void reusesResultWithinTtlButNotFailures() {
+        SingleFlight<Long, Integer> flight = new SingleFlight<>(60_000);
+        AtomicInteger executions = new AtomicInteger();
+
+        assertThatThrownBy(() -> flight.execute(1L, () -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException("fail");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(flight.execute(1L, executions::incrementAndGet)).isEqualTo(2);
+        assertThat(flight.execute(1L, executions::incrementAndGet)).isEqualTo(2);
+        assertThat(flight.execute(2L, executions::incrementAndGet)).isEqualTo(3);
+    }
+}
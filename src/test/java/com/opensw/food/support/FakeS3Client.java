@@ -0,0 +1,108 @@
+package com.opensw.food.support;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 메모리 S3 동기 클라이언트 대역 - DeleteObjects(키별 실패, 전체 장애)와 페이지 단위 ListObjectsV2만 지원
+public class FakeS3Client implements S3Client {
+
+    private final int pageSize;
+    private final Map<String, Instant> objects = new ConcurrentSkipListMap<>();
+    private final Set<String> failingKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger deleteRequests = new AtomicInteger();
+    private volatile boolean unavailable;
+
+    public FakeS3Client(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public void put(String key, Instant lastModified) {
+        objects.put(key, lastModified);
+    }
+
+    public boolean contains(String key) {
+        return objects.containsKey(key);
+    }
+
+    // 이 키의 삭제는 DeleteObjects 응답의 오류 항목으로 실패
+    public void failDeleting(String key) {
+        failingKeys.add(key);
+    }
+
+    public void recover() {
+        failingKeys.clear();
+        unavailable = false;
+    }
+
+    // 모든 요청이 예외로 실패
+    public void setUnavailable(boolean unavailable) {
+        this.unavailable = unavailable;
+    }
+
+    public int deleteRequests() {
+        return deleteRequests.get();
+    }
+
+    @Override
+    public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest request) {
+        deleteRequests.incrementAndGet();
+        if (unavailable) {
+            throw SdkClientException.create("S3 unavailable");
+        }
+
+        List<S3Error> errors = new ArrayList<>();
+        for (ObjectIdentifier object : request.delete().objects()) {
+            if (failingKeys.contains(object.key())) {
+                errors.add(S3Error.builder().key(object.key()).code("InternalError").build());
+            } else {
+                objects.remove(object.key());
+            }
+        }
+        return DeleteObjectsResponse.builder().errors(errors).build();
+    }
+
+    @Override
+    public ListObjectsV2Response listObjectsV2(ListObjectsV2Request request) {
+        if (unavailable) {
+            throw SdkClientException.create("S3 unavailable");
+        }
+
+        List<String> keys = objects.keySet().stream().filter(key -> key.startsWith(request.prefix())).toList();
+        int from = request.continuationToken() == null ? 0 : Integer.parseInt(request.continuationToken());
+        int to = Math.min(from + pageSize, keys.size());
+        List<S3Object> contents = keys.subList(from, to).stream()
+                .map(key -> S3Object.builder().key(key).lastModified(objects.get(key)).build())
+                .toList();
+        boolean truncated = to < keys.size();
+        return ListObjectsV2Response.builder()
+                .contents(contents)
+                .isTruncated(truncated)
+                .nextContinuationToken(truncated ? String.valueOf(to) : null)
+                .build();
+    }
+
+    @Override
+    public String serviceName() {
+        return "s3";
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,192 @@
+package com.opensw.food.support;
+
+import com.opensw.food.api.member.entity.Member;
+import com.opensw.food.api.member.entity.Role;
+import com.opensw.food.api.member.jwt.JwtProvider;
+import com.opensw.food.api.member.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 포트로 띄운 서버에 게시글 등록(이미지 업로드)과 목록 조회를 섞어 보내는 테스트의 공통 부분
+// S3 클라이언트는 대역으로 바꾸므로 각 테스트에서 업로드 동작을 정함
+@ActiveProfiles("test")
+public abstract class HttpTrafficTestSupport {
+
+    private static final String BOUNDARY = "traffic-test-boundary";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @MockBean
+    protected S3AsyncClient s3AsyncClient;
+
+    @MockBean
+    protected S3Client s3Client;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    // 게시글을 등록할 회원을 만들고 액세스 토큰 발급
+    protected String createMemberToken(String nickname) {
+        Member member = memberRepository.save(Member.builder()
+                .email(nickname + "@test.com")
+                .password("password")
+                .nickname(nickname)
+                .role(Role.USER)
+                .build());
+        return jwtProvider.generateToken(member.getMemberId(), member.getEmail(), Role.USER.name());
+    }
+
+    // 업로드 요청을 먼저 보내고, readerDelayMs 뒤부터 조회 요청을 보낸 뒤 모두 끝날 때까지 기다림
+    // 조회는 모두 200이어야 하며, 업로드 응답 코드는 호출한 쪽에서 확인
+    protected TrafficResult runMixedTraffic(String token, int uploaders, int readers, int readsPerReader,
+                                            long readerDelayMs, Duration timeout) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(uploaders + readers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Long> readLatencies = Collections.synchronizedList(new ArrayList<>());
+        List<Future<Integer>> uploads = new ArrayList<>();
+        List<Future<?>> reads = new ArrayList<>();
+        try {
+            for (int i = 0; i < uploaders; i++) {
+                int index = i;
+                uploads.add(clients.submit(() -> {
+                    start.await();
+                    return send(uploadRequest(token, index, timeout));
+                }));
+            }
+            for (int i = 0; i < readers; i++) {
+                reads.add(clients.submit(() -> {
+                    start.await();
+                    // 업로드가 요청 스레드를 먼저 차지하도록 잠시 늦게 시작
+                    Thread.sleep(readerDelayMs);
+                    for (int j = 0; j < readsPerReader; j++) {
+                        long begin = System.nanoTime();
+                        assertThat(send(readRequest(timeout))).isEqualTo(200);
+                        readLatencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+                    }
+                    return null;
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            List<Integer> uploadStatuses = new ArrayList<>();
+            for (Future<Integer> upload : uploads) {
+                uploadStatuses.add(upload.get(timeout.toMillis(), TimeUnit.MILLISECONDS));
+            }
+            for (Future<?> read : reads) {
+                read.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+
+            List<Long> sorted = new ArrayList<>(readLatencies);
+            Collections.sort(sorted);
+            return new TrafficResult(uploadStatuses, sorted, elapsedMs);
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private int send(HttpRequest request) throws Exception {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest readRequest(Duration timeout) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/article/total?size=20"))
+                .timeout(timeout)
+                .GET()
+                .build();
+    }
+
+    // 이미지 1장을 포함한 게시글 등록 (multipart/form-data)
+    private HttpRequest uploadRequest(String token, int index, Duration timeout) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeField(body, "title", "traffic test " + index);
+        writeField(body, "content", "content " + index);
+        writeField(body, "category", "traffic");
+        writeText(body, "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"images\"; filename=\"image" + index + ".jpg\"\r\n"
+                + "Content-Type: image/jpeg\r\n\r\n");
+        body.writeBytes(new byte[1024]);
+        writeText(body, "\r\n--" + BOUNDARY + "--\r\n");
+
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/article/new"))
+                .timeout(timeout)
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+    }
+
+    private void writeField(ByteArrayOutputStream body, String name, String value) {
+        writeText(body, "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+                + value + "\r\n");
+    }
+
+    private void writeText(ByteArrayOutputStream body, String text) {
+        body.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    protected static class TrafficResult {
+        private final List<Integer> uploadStatuses;
+        private final List<Long> sortedReadLatencies;
+        private final long elapsedMs;
+
+        private TrafficResult(List<Integer> uploadStatuses, List<Long> sortedReadLatencies, long elapsedMs) {
+            this.uploadStatuses = uploadStatuses;
+            this.sortedReadLatencies = sortedReadLatencies;
+            this.elapsedMs = elapsedMs;
+        }
+
+        public List<Integer> uploadStatuses() {
+            return uploadStatuses;
+        }
+
+        public int reads() {
+            return sortedReadLatencies.size();
+        }
+
+        public long elapsedMs() {
+            return elapsedMs;
+        }
+
+        public long readPercentile(double percentile) {
+            int index = (int) Math.ceil(percentile * sortedReadLatencies.size()) - 1;
+            return sortedReadLatencies.get(Math.max(0, index));
+        }
+
+        public long maxRead() {
+            return sortedReadLatencies.get(sortedReadLatencies.size() - 1);
+        }
+    }
+}